@@ -6,6 +6,7 @@ import com.fastcampus.projectboard.dto.response.KakaoOAuth2Response;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
 import com.fastcampus.projectboard.service.UserAccountService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,7 @@ import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
 import java.util.UUID;
 
 import static org.springframework.security.config.Customizer.withDefaults;
@@ -42,8 +44,11 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET,
                                         "/",
                                         "/articles",
-                                        "/articles/search-hashtag"
+                                        "/articles/search-hashtag",
+                                        "/api/suggest"
                                 ).permitAll()
+                                // 댓글 일괄 등록은 다른 사람 이름으로도 댓글을 넣으므로, 관리자(board.admin.user-ids)만 부를 수 있다.
+                                .requestMatchers(HttpMethod.POST, "/api/comments/import").hasAuthority(BoardPrincipal.RoleType.ADMIN.getName())
                                 .anyRequest().authenticated()
                 )
                 .formLogin(withDefaults())
@@ -55,9 +60,10 @@ public class SecurityConfig {
 
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountService userAccountService) {
+    public UserDetailsService userDetailsService(UserAccountService userAccountService,
+                                                 @Value("${board.admin.user-ids:}") Set<String> adminUserIds) {
         return username -> userAccountService.searchUser(username)
-                .map(BoardPrincipal::from)
+                .map(dto -> BoardPrincipal.from(dto, adminUserIds.contains(dto.userId())))
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다 - username: " + username));
 
     }
@@ -69,7 +75,8 @@ public class SecurityConfig {
 
     @Bean
     public OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService(UserAccountService userAccountService,
-                                                                              PasswordEncoder passwordEncoder) {
+                                                                              PasswordEncoder passwordEncoder,
+                                                                              @Value("${board.admin.user-ids:}") Set<String> adminUserIds) {
 
         final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
 
@@ -86,7 +93,7 @@ public class SecurityConfig {
             String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
             return userAccountService.searchUser(username)
-                    .map(BoardPrincipal::from)
+                    .map(dto -> BoardPrincipal.from(dto, adminUserIds.contains(dto.userId())))
                     .orElseGet(() -> BoardPrincipal.from
                             (userAccountService.saveUser(username, dummyPassword, kakaoResponse.email(), kakaoResponse.nickname(), null)));
         };
@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.response.ArticleCommentWindowResponse;
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 상세 화면에서 자식 댓글을 펼칠 때 한 묶음씩 읽어 가는 API
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/comments")
+@RestController
+public class ArticleCommentApiController {
+    private final ArticleCommentService articleCommentService;
+
+    @GetMapping("/{parentCommentId}/replies")
+    public ArticleCommentWindowResponse replies(
+            @PathVariable Long parentCommentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ArticleCommentWindowResponse.from(
+                articleCommentService.getReplies(parentCommentId, ArticleCommentCursor.decode(cursor), size));
+    }
+}
@@ -0,0 +1,46 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.request.ArticleCommentImportRequest;
+import com.fastcampus.projectboard.dto.response.ArticleCommentImportResponse;
+import com.fastcampus.projectboard.service.ArticleCommentImportService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+/**
+ * 옛 게시판 댓글 이전용 일괄 등록 API
+ * 본문은 한 줄에 댓글 하나씩인 NDJSON 이고, 전체를 메모리에 올리지 않고 읽는 대로 배치에 넣는다.
+ * 다른 사람 이름으로 댓글을 넣을 수 있으므로, 이전하는 동안에만 board.comment-import.enabled=true 로 켠다.
+ * 켜져 있어도 SecurityConfig 가 로그인한 사용자의 로컬(loopback) 요청만 통과시킨다.
+ */
+@ConditionalOnProperty(name = "board.comment-import.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@RequestMapping("/api/comments")
+@RestController
+public class ArticleCommentImportController {
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ArticleCommentImportService articleCommentImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ArticleCommentImportResponse importComments(InputStream body) throws IOException {
+        try (MappingIterator<ArticleCommentImportRequest> requests = objectMapper
+                .readerFor(ArticleCommentImportRequest.class)
+                .readValues(body)) {
+            return ArticleCommentImportResponse.from(articleCommentImportService.importComments(
+                    StreamSupport.stream(Spliterators.spliteratorUnknownSize(requests, Spliterator.ORDERED), false)
+                            .map(ArticleCommentImportRequest::toDto)));
+        }
+    }
+}
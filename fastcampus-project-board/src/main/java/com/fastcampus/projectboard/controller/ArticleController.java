@@ -2,16 +2,26 @@ package com.fastcampus.projectboard.controller;
 
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.domain.type.TrendWindow;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.EstimatedPage;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
+import com.fastcampus.projectboard.dto.response.ArticleCommentWindowResponse;
+import com.fastcampus.projectboard.dto.response.ArticleCursorsResponse;
 import com.fastcampus.projectboard.dto.response.ArticleResponse;
 import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.fastcampus.projectboard.dto.security.BoardPrincipal;
+import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.service.ArticleService;
 import com.fastcampus.projectboard.service.PaginationService;
+import com.fastcampus.projectboard.service.SuggestionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.*;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -20,15 +30,23 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@Slf4j
 @RequiredArgsConstructor
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int TRENDING_HASHTAG_LIMIT = 30;
+    private static final int COMMENT_WINDOW_SIZE = 20;
 
     private final ArticleService articleService;
 
     private final PaginationService paginationService;
 
+    private final SuggestionService suggestionService;
+
+    private final ArticleCommentService articleCommentService;
+
     @GetMapping
     public String articles(@RequestParam(required = false)
                            SearchType searchType,
@@ -42,34 +60,105 @@ public class ArticleController {
 
         map.addAttribute("articles", articles);
         map.addAttribute("paginationBarNumbers", barNumbers);
+        // 비싼 검색은 몇 페이지 앞까지만 세므로, 전체 개수가 근사치일 수 있다.
+        map.addAttribute("approximateTotal", EstimatedPage.isTotalApproximate(articles));
+        // 결과가 없으면 오타일 수 있으므로, 비슷한 해시태그나 닉네임을 권한다.
+        map.addAttribute("didYouMean", articles.isEmpty() ? suggestionService.didYouMean(searchType, searchValue) : List.of());
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
         return "articles/index";
     }
 
+    // cursor 파라미터가 있으면 키셋 페이징으로 목록을 보여준다. (빈 값이면 첫 페이지)
+    @GetMapping(params = "cursor")
+    public String articlesByCursor(@RequestParam(required = false) SearchType searchType,
+                                   @RequestParam(required = false) String searchValue,
+                                   @RequestParam String cursor,
+                                   @RequestParam(defaultValue = "10") int size,
+                                   ModelMap map) {
+        ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Window<ArticleResponse> articles = articleService.scrollArticles(searchType, searchValue, articleCursor, pageSize)
+                .map(ArticleResponse::from);
+        ArticleCursorsResponse articleCursors = paginationService.getCursors(articleCursor, articles);
+
+        map.addAttribute("articles", toSlice(articles, pageSize));
+        map.addAttribute("articleCursors", articleCursors);
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+        return "articles/index";
+    }
+
+    /*
+     * 댓글이 한 묶음(COMMENT_WINDOW_SIZE)에 다 들어가면 자식 댓글까지 쿼리 두 번으로 읽어 트리로 보여준다.
+     * 그보다 많으면 최상위 댓글은 commentCursor 로 한 묶음씩 보여주고, 자식 댓글은 화면에서 /api/comments/{id}/replies 로 펼친다.
+     */
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(@PathVariable Long articleId,
+                          @RequestParam(required = false) String commentCursor,
+                          ModelMap map) {
+        ArticleWithCommentsResponse article;
+        String nextCommentCursor = null;
+        if (commentCursor == null && articleService.getCommentCount(articleId) <= COMMENT_WINDOW_SIZE) {
+            ArticleWithCommentsDto articleDto = articleService.getArticleWithComments(articleId);
+            articleService.recordView(articleDto);
+            article = ArticleWithCommentsResponse.from(articleDto);
+        } else {
+            ArticleDto articleDto = articleService.getArticle(articleId);
+            articleService.recordView(articleDto);
+            ArticleCommentWindowResponse articleComments = ArticleCommentWindowResponse.from(
+                    articleCommentService.getTopLevelComments(articleId, ArticleCommentCursor.decode(commentCursor), COMMENT_WINDOW_SIZE));
+            article = ArticleWithCommentsResponse.from(articleDto, articleComments.comments());
+            nextCommentCursor = articleComments.nextCursor();
+        }
 
         //System.out.println(article); // 디버깅 용도로 사용..
 
         map.addAttribute("article", article); // TODO : 구현 할때 실제 테이터를 넣어야한다.
         map.addAttribute("articleComments", article.articleCommentResponses());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("nextCommentCursor", nextCommentCursor);
+        map.addAttribute("neighbors", articleService.getArticleNeighbors(articleId, article.createdAt()));
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
         return "articles/detail";
     }
 
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(@RequestParam(required = false) String searchValue,
+                                       @RequestParam(defaultValue = "DAY") TrendWindow trend,
                                        @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
                                        ModelMap map) {
         Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = articleService.getHashTags();
+        List<String> hashtags = articleService.getTrendingHashtags(trend, TRENDING_HASHTAG_LIMIT);
         map.addAttribute("articles", articles);
         map.addAttribute("hashtags", hashtags);
+        map.addAttribute("trendWindow", trend);
+        map.addAttribute("trendWindows", TrendWindow.values());
         map.addAttribute("paginationBarNumbers", barNumbers);
+        map.addAttribute("didYouMean", articles.isEmpty() ? suggestionService.didYouMean(SearchType.HASHTAG, searchValue) : List.of());
+        map.addAttribute("searchType", SearchType.HASHTAG);
+
+        return "articles/search-hashtag";
+    }
+
+    @GetMapping(value = "/search-hashtag", params = "cursor")
+    public String searchArticleHashtagByCursor(@RequestParam(required = false) String searchValue,
+                                               @RequestParam String cursor,
+                                               @RequestParam(defaultValue = "10") int size,
+                                               @RequestParam(defaultValue = "DAY") TrendWindow trend,
+                                               ModelMap map) {
+        ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Window<ArticleResponse> articles = articleService.scrollArticlesViaHashtag(searchValue, articleCursor, pageSize)
+                .map(ArticleResponse::from);
+        ArticleCursorsResponse articleCursors = paginationService.getCursors(articleCursor, articles);
+        List<String> hashtags = articleService.getTrendingHashtags(trend, TRENDING_HASHTAG_LIMIT);
+
+        map.addAttribute("articles", toSlice(articles, pageSize));
+        map.addAttribute("articleCursors", articleCursors);
+        map.addAttribute("hashtags", hashtags);
+        map.addAttribute("trendWindow", trend);
+        map.addAttribute("trendWindows", TrendWindow.values());
         map.addAttribute("searchType", SearchType.HASHTAG);
 
         return "articles/search-hashtag";
@@ -81,8 +170,8 @@ public class ArticleController {
             ArticleRequest articleRequest ,
             @AuthenticationPrincipal BoardPrincipal boardPrincipal
     ){
-        articleService.saveArticle(articleRequest.toDto
-                (boardPrincipal.toDto()));
+        retryOnceOnIntegrityViolation(() -> articleService.saveArticle(articleRequest.toDto
+                (boardPrincipal.toDto())));
         return "redirect:/articles";
     }
 
@@ -91,8 +180,8 @@ public class ArticleController {
                                 ArticleRequest articleRequest,
                                 @AuthenticationPrincipal BoardPrincipal boardPrincipal
     ) {
-        articleService.updateArticle(articleId, articleRequest
-                .toDto(boardPrincipal.toDto()));
+        retryOnceOnIntegrityViolation(() -> articleService.updateArticle(articleId, articleRequest
+                .toDto(boardPrincipal.toDto())));
         return "redirect:/articles/" + articleId;
     }
 
@@ -116,4 +205,19 @@ public class ArticleController {
         articleService.deleteArticle(articleId , boardPrincipal.getUsername());
         return "redirect:/articles";
     }
+
+    // 사전에서 꺼낸 해시태그를 정리 작업이 그 사이에 지웠으면 외래 키에 걸려 롤백된다. 롤백하면서 사전에서 빠졌으므로 한 번만 다시 시도한다.
+    private void retryOnceOnIntegrityViolation(Runnable write) {
+        try {
+            write.run();
+        } catch (DataIntegrityViolationException e) {
+            log.debug("게시글 저장 재시도 - {}", e.getMostSpecificCause().getLocalizedMessage());
+            write.run();
+        }
+    }
+
+    // 템플릿이 Page 와 같은 방식으로 정렬 정보를 읽을 수 있게 Slice 로 감싼다.
+    private Slice<ArticleResponse> toSlice(Window<ArticleResponse> articles, int size) {
+        return new SliceImpl<>(articles.getContent(), PageRequest.of(0, size, ArticleCursor.SORT), articles.hasNext());
+    }
 }
@@ -0,0 +1,28 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.dto.response.SuggestionResponse;
+import com.fastcampus.projectboard.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/suggest")
+@RestController
+public class SuggestionController {
+    private final SuggestionService suggestionService;
+
+    @GetMapping
+    public List<SuggestionResponse> suggest(
+            @RequestParam(name = "q", required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return suggestionService.suggest(prefix, limit).stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -14,8 +15,11 @@ import java.util.Set;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "title"),
-        @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdAt, id"),
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "userId, createdAt"),
+        @Index(columnList = "commentCount"),
+        @Index(columnList = "viewCount")
 })
 @Entity
 public class Article extends AuditingFields{
@@ -30,6 +34,16 @@ public class Article extends AuditingFields{
     @Setter @Column(nullable = false) private String title; // 제목;
     @Setter @Column(nullable = false , length = 10000) private String content; //본문;
 
+    // 목록 화면용 댓글 수. 엔티티로 고치지 않고 ArticleRepository 의 update 쿼리로만 더하고 뺀다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    // 조회수. 조회할 때마다 행을 고치지 않고 ArticleViewCounter 가 모아 두었다가 한꺼번에 더한다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
     @ToString.Exclude
     @JoinTable(name = "article_hashtag",
             joinColumns = @JoinColumn(name = "articleId"),
@@ -40,7 +54,7 @@ public class Article extends AuditingFields{
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
     @ToString.Exclude
-    @OrderBy("createdAt DESC")
+    @OrderBy("createdAt ASC, id ASC") // 댓글 트리를 정렬 없이 한 번에 묶을 수 있게 작성 순서대로 읽는다.
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
@@ -65,6 +79,10 @@ public class Article extends AuditingFields{
         this.getHashtags().addAll(hashtags);
     }
 
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.getHashtags().removeAll(hashtags);
+    }
+
     public void clearHashtags(){
         this.getHashtags().clear();
     }
@@ -14,7 +14,8 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, parentCommentId, createdAt, id")
 })
 @Entity
 public class ArticleComment extends AuditingFields{
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.*;
 
@@ -12,7 +13,8 @@ import java.util.*;
 @Table(indexes = {
         @Index(columnList = "hashtagName", unique = true),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "articleCount")
 })
 @Entity
 public class Hashtag extends AuditingFields {
@@ -28,6 +30,11 @@ public class Hashtag extends AuditingFields {
     @Column(nullable = false)
     private String hashtagName;
 
+    // 이 해시태그가 달린 게시글 수. 엔티티로 고치지 않고 HashtagRepository 의 update 쿼리로만 더하고 뺀다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long articleCount;
+
     protected Hashtag() {
     }
 
@@ -8,7 +8,8 @@ public enum SearchType {
     CONTENT("본문") ,
     ID("아이디") ,
     NICKNAME("닉네임") ,
-    HASHTAG("해시태그");
+    HASHTAG("해시태그"),
+    ALL("전체");
 
     @Getter private final String description;
 
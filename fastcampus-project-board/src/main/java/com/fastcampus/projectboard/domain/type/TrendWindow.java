@@ -0,0 +1,29 @@
+package com.fastcampus.projectboard.domain.type;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 인기 해시태그 집계 구간
+ * 구간을 bucket 단위로 나눠 세므로, 구간 끝은 bucket 크기만큼 오차가 있다.
+ */
+public enum TrendWindow {
+    HOUR("1시간", Duration.ofHours(1), Duration.ofMinutes(1)),
+    DAY("1일", Duration.ofDays(1), Duration.ofMinutes(30)),
+    WEEK("1주", Duration.ofDays(7), Duration.ofHours(4));
+
+    @Getter private final String description;
+    @Getter private final Duration length;
+    @Getter private final Duration bucket;
+
+    TrendWindow(String description, Duration length, Duration bucket) {
+        this.description = description;
+        this.length = length;
+        this.bucket = bucket;
+    }
+
+    public int bucketCount() {
+        return (int) (length.toMillis() / bucket.toMillis());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 키셋 페이징 커서
+ * 마지막으로 보여준 댓글의 (createdAt, id) 를 가리키고, 쿼리 파라미터로는 인코딩된 문자열을 주고 받는다.
+ * 다음 묶음은 이 값보다 작은(최상위 댓글) 또는 큰(자식 댓글) (createdAt, id) 부터 읽으므로, id 도 createdAt 과 같은 방향으로 이어진다.
+ */
+public record ArticleCommentCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ArticleCommentCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCommentCursor(createdAt, id);
+    }
+
+    public static ArticleCommentCursor first() {
+        return new ArticleCommentCursor(null, null);
+    }
+
+    public static ArticleCommentCursor after(ArticleCommentDto dto) {
+        return new ArticleCommentCursor(dto.createdAt(), dto.id());
+    }
+
+    // 잘못된 커서는 첫 페이지로 취급한다.
+    public static ArticleCommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER);
+            return new ArticleCommentCursor(LocalDateTime.parse(tokens[0]), Long.valueOf(tokens[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            return first();
+        }
+    }
+
+    public String encode() {
+        if (isFirst()) {
+            return "";
+        }
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return id == null || createdAt == null;
+    }
+}
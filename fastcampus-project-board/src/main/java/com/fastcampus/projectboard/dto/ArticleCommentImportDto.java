@@ -0,0 +1,20 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 일괄 등록 한 건
+ * 부모 댓글은 DB id 가 아니라 옮겨 오는 쪽의 id(externalId)로 가리킨다.
+ */
+public record ArticleCommentImportDto(
+        String externalId,
+        String parentExternalId,
+        Long articleId,
+        String userId,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static ArticleCommentImportDto of(String externalId, String parentExternalId, Long articleId, String userId, String content, LocalDateTime createdAt) {
+        return new ArticleCommentImportDto(externalId, parentExternalId, articleId, userId, content, createdAt);
+    }
+}
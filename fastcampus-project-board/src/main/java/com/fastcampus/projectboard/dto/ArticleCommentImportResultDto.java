@@ -0,0 +1,22 @@
+package com.fastcampus.projectboard.dto;
+
+import java.time.Duration;
+
+/**
+ * 댓글 일괄 등록 결과. rejected 는 필수 값이 없거나, 게시글 / 작성자 / 부모 댓글을 찾지 못한 건수다.
+ */
+public record ArticleCommentImportResultDto(
+        long received,
+        long inserted,
+        long rejected,
+        Duration elapsed
+) {
+    public static ArticleCommentImportResultDto of(long received, long inserted, long rejected, Duration elapsed) {
+        return new ArticleCommentImportResultDto(received, inserted, rejected, elapsed);
+    }
+
+    public double commentsPerSecond() {
+        long millis = Math.max(elapsed.toMillis(), 1L);
+        return inserted * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.projectboard.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 한 묶음
+ * 자식 댓글은 담지 않고 개수만 들고 있다가, 필요할 때 부모 댓글 id 로 따로 읽는다.
+ * 다음 묶음이 없으면 nextCursor 는 null 이다.
+ */
+public record ArticleCommentWindowDto(
+        List<ArticleCommentDto> comments,
+        Map<Long, Long> replyCounts,
+        ArticleCommentCursor nextCursor
+) {
+    public static ArticleCommentWindowDto of(List<ArticleCommentDto> comments, Map<Long, Long> replyCounts, ArticleCommentCursor nextCursor) {
+        return new ArticleCommentWindowDto(comments, replyCounts, nextCursor);
+    }
+
+    public long replyCountOf(Long articleCommentId) {
+        return replyCounts.getOrDefault(articleCommentId, 0L);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fastcampus.projectboard.dto;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 게시글 목록 키셋 페이징 커서
+ * (createdAt, id) 내림차순으로 고정된 위치를 나타내고, 쿼리 파라미터로는 인코딩된 문자열을 주고 받는다.
+ */
+public record ArticleCursor(
+        LocalDateTime createdAt,
+        Long id,
+        boolean backward
+) {
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final String DELIMITER = "|";
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id, boolean backward) {
+        return new ArticleCursor(createdAt, id, backward);
+    }
+
+    public static ArticleCursor first() {
+        return new ArticleCursor(null, null, false);
+    }
+
+    public static ArticleCursor from(ScrollPosition position, boolean backward) {
+        if (!(position instanceof KeysetScrollPosition keysetPosition) || keysetPosition.isInitial()) {
+            return first();
+        }
+        Map<String, Object> keys = keysetPosition.getKeys();
+        return new ArticleCursor((LocalDateTime) keys.get("createdAt"), ((Number) keys.get("id")).longValue(), backward);
+    }
+
+    // 잘못된 커서는 첫 페이지로 취급한다.
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER);
+            return new ArticleCursor(LocalDateTime.parse(tokens[0]), Long.valueOf(tokens[1]), "b".equals(tokens[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            return first();
+        }
+    }
+
+    public String encode() {
+        if (isFirst()) {
+            return "";
+        }
+        String raw = createdAt + DELIMITER + id + DELIMITER + (backward ? "b" : "f");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return id == null || createdAt == null;
+    }
+
+    public ArticleCursor reversed() {
+        return new ArticleCursor(createdAt, id, !backward);
+    }
+
+    public ScrollPosition toScrollPosition() {
+        if (isFirst()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = Map.of("createdAt", createdAt, "id", id);
+        return backward ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,45 @@
+package com.fastcampus.projectboard.dto;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인용 {@link Article} 스냅샷
+ * 트랜잭션 안에서 만들어 두고, 커밋 이후 색인에 반영할 때 엔티티 대신 사용한다.
+ */
+public record ArticleDocument(
+        Long id,
+        String userId,
+        String nickname,
+        String title,
+        String content,
+        Set<String> hashtagNames,
+        LocalDateTime createdAt
+) {
+    public static ArticleDocument of(Long id, String userId, String nickname, String title, String content, Set<String> hashtagNames, LocalDateTime createdAt) {
+        return new ArticleDocument(id, userId, nickname, title, content, hashtagNames, createdAt);
+    }
+
+    public static ArticleDocument from(Article entity) {
+        return new ArticleDocument(
+                entity.getId(),
+                entity.getUserAccount().getUserId(),
+                entity.getUserAccount().getNickname(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .collect(Collectors.toUnmodifiableSet()),
+                entity.getCreatedAt()
+        );
+    }
+
+    // 정렬, 페이징에만 쓰이는 경우 본문은 들고 있지 않는다.
+    public ArticleDocument withoutContent() {
+        return new ArticleDocument(id, userId, nickname, title, null, hashtagNames, createdAt);
+    }
+}
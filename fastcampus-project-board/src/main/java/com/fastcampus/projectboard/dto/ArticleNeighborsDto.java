@@ -0,0 +1,21 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 상세 화면의 이전 글(더 오래된 글), 다음 글(더 최근 글) id. 없으면 null 이다.
+ */
+public record ArticleNeighborsDto(
+        Long previousId,
+        Long nextId
+) {
+    public static ArticleNeighborsDto of(Long previousId, Long nextId) {
+        return new ArticleNeighborsDto(previousId, nextId);
+    }
+
+    public boolean hasPrevious() {
+        return previousId != null;
+    }
+
+    public boolean hasNext() {
+        return nextId != null;
+    }
+}
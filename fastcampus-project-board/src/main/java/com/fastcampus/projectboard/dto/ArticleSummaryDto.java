@@ -0,0 +1,51 @@
+package com.fastcampus.projectboard.dto;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.domain.Hashtag;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 화면용 {@link Article} 요약
+ * 본문은 앞부분만 담고, 작성자와 해시태그는 엔티티 대신 값으로 들고 있다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String contentPreview,
+        Set<String> hashtagNames,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname,
+        long commentCount,
+        long viewCount
+) {
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+
+    public static ArticleSummaryDto of(Long id, String title, String contentPreview, Set<String> hashtagNames, LocalDateTime createdAt, String userId, String nickname, long commentCount, long viewCount) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtagNames, createdAt, userId, nickname, commentCount, viewCount);
+    }
+
+    public static ArticleSummaryDto from(Article entity) {
+        String content = entity.getContent();
+        return new ArticleSummaryDto(
+                entity.getId(),
+                entity.getTitle(),
+                content == null ? null : content.substring(0, Math.min(content.length(), CONTENT_PREVIEW_LENGTH)),
+                entity.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .collect(Collectors.toUnmodifiableSet()),
+                entity.getCreatedAt(),
+                entity.getUserAccount().getUserId(),
+                entity.getUserAccount().getNickname(),
+                entity.getCommentCount(),
+                entity.getViewCount()
+        );
+    }
+
+    public ArticleSummaryDto withHashtagNames(Set<String> hashtagNames) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtagNames, createdAt, userId, nickname, commentCount, viewCount);
+    }
+}
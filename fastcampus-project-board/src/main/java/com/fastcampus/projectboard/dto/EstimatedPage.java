@@ -0,0 +1,49 @@
+package com.fastcampus.projectboard.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 개수가 근사치일 수 있는 {@link Page}
+ * 근사치면 totalElements 는 "적어도 이만큼은 있다" 는 하한값이다.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+    private final boolean totalApproximate;
+
+    private EstimatedPage(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+
+    public static <T> EstimatedPage<T> of(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        return new EstimatedPage<>(content, pageable, total, totalApproximate);
+    }
+
+    public static boolean isTotalApproximate(Page<?> page) {
+        return page instanceof EstimatedPage<?> estimatedPage && estimatedPage.isTotalApproximate();
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    @Override
+    public <U> EstimatedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new EstimatedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalApproximate);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj)
+                && (!(obj instanceof EstimatedPage<?> other) || totalApproximate == other.totalApproximate);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Boolean.hashCode(totalApproximate);
+    }
+}
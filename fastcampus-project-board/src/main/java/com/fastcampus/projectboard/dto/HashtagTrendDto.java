@@ -0,0 +1,14 @@
+package com.fastcampus.projectboard.dto;
+
+/**
+ * 인기 해시태그
+ * score 는 구간 안에서 해시태그가 게시글에 붙은 횟수(와 조회 가중치)의 합이다.
+ */
+public record HashtagTrendDto(
+        String hashtagName,
+        long score
+) {
+    public static HashtagTrendDto of(String hashtagName, long score) {
+        return new HashtagTrendDto(hashtagName, score);
+    }
+}
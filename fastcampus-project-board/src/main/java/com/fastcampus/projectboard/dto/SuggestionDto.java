@@ -0,0 +1,17 @@
+package com.fastcampus.projectboard.dto;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+
+/**
+ * 검색어 자동완성 후보
+ * searchType 은 후보를 골랐을 때 쓸 검색 유형(해시태그, 닉네임)이다.
+ */
+public record SuggestionDto(
+        SearchType searchType,
+        String text,
+        long articleCount
+) {
+    public static SuggestionDto of(SearchType searchType, String text, long articleCount) {
+        return new SuggestionDto(searchType, text, articleCount);
+    }
+}
@@ -0,0 +1,30 @@
+package com.fastcampus.projectboard.dto.event;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+
+/**
+ * 게시글 생성, 수정, 삭제 이벤트
+ * 삭제 이벤트의 document 는 삭제 직전의 상태를, 수정 이벤트의 previousDocument 는 수정 직전의 상태를 담는다.
+ */
+public record ArticleEvent(
+        EventType eventType,
+        Long articleId,
+        ArticleDocument document,
+        ArticleDocument previousDocument
+) {
+    public static ArticleEvent created(ArticleDocument document) {
+        return new ArticleEvent(EventType.CREATED, document.id(), document, null);
+    }
+
+    public static ArticleEvent updated(ArticleDocument previousDocument, ArticleDocument document) {
+        return new ArticleEvent(EventType.UPDATED, document.id(), document, previousDocument);
+    }
+
+    public static ArticleEvent deleted(ArticleDocument document) {
+        return new ArticleEvent(EventType.DELETED, document.id(), document, null);
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+}
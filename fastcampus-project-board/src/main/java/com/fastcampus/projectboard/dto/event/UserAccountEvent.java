@@ -0,0 +1,14 @@
+package com.fastcampus.projectboard.dto.event;
+
+/**
+ * 회원 저장 이벤트
+ * 새 회원 가입과 기존 회원의 닉네임 변경 모두 저장 이후의 userId, nickname 을 담는다.
+ */
+public record UserAccountEvent(
+        String userId,
+        String nickname
+) {
+    public static UserAccountEvent of(String userId, String nickname) {
+        return new UserAccountEvent(userId, nickname);
+    }
+}
@@ -0,0 +1,25 @@
+package com.fastcampus.projectboard.dto.request;
+
+import com.fastcampus.projectboard.dto.ArticleCommentImportDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 일괄 등록 요청 한 줄 (NDJSON)
+ */
+public record ArticleCommentImportRequest(
+        String externalId,
+        String parentExternalId,
+        Long articleId,
+        String userId,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static ArticleCommentImportRequest of(String externalId, String parentExternalId, Long articleId, String userId, String content, LocalDateTime createdAt) {
+        return new ArticleCommentImportRequest(externalId, parentExternalId, articleId, userId, content, createdAt);
+    }
+
+    public ArticleCommentImportDto toDto() {
+        return ArticleCommentImportDto.of(externalId, parentExternalId, articleId, userId, content, createdAt);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleCommentImportResultDto;
+
+public record ArticleCommentImportResponse(
+        long received,
+        long inserted,
+        long rejected,
+        long elapsedMillis,
+        double commentsPerSecond
+) {
+    public static ArticleCommentImportResponse from(ArticleCommentImportResultDto dto) {
+        return new ArticleCommentImportResponse(dto.received(), dto.inserted(), dto.rejected(),
+                dto.elapsed().toMillis(), dto.commentsPerSecond());
+    }
+}
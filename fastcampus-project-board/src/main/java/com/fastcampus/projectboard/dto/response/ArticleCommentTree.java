@@ -0,0 +1,150 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+
+import java.util.*;
+
+/**
+ * 평평한 댓글 목록을 부모 - 자식 트리로 묶는다.
+ * 입력이 작성 시간 오름차순(같으면 id 오름차순)으로 정렬되어 있으면, 한 번 훑으면서 자식을 부모 뒤에 차례로 붙이기만 하면 자식 순서가 맞는다.
+ * 자식 목록은 첫 자식이 붙을 때 만들고, 자식이 없는 댓글은 빈 목록 하나를 같이 쓴다.
+ * 응답 객체는 명시적인 스택으로 자식부터 만들어서, 재귀 없이 깊이 제한도 없다.
+ * 정렬되어 있지 않은 입력은 한 번 정렬한 뒤 같은 방식으로 묶는다.
+ */
+final class ArticleCommentTree {
+    static final Comparator<ArticleCommentDto> CHRONOLOGICAL =
+            Comparator.comparing(ArticleCommentDto::createdAt).thenComparing(ArticleCommentDto::id);
+
+    private ArticleCommentTree() {
+    }
+
+    /*
+     * 최상위 댓글은 최신순(같은 시간이면 id 내림차순), 자식 댓글은 작성 순서대로 담아 반환한다.
+     * 부모보다 먼저 작성된 것으로 기록된 댓글은 부모가 나올 때까지 기다렸다가 붙이고, 끝까지 부모가 없으면 최상위 댓글로 둔다.
+     */
+    static List<ArticleCommentsResponse> build(Collection<ArticleCommentDto> dtos) {
+        List<ArticleCommentDto> comments = chronological(dtos);
+        int size = comments.size();
+        if (size == 0) {
+            return List.of();
+        }
+
+        Map<Long, Integer> positions = new HashMap<>(size * 4 / 3 + 1);
+        Map<Long, List<Integer>> waiting = null;
+        int[][] children = new int[size][];
+        int[] childCounts = new int[size];
+        int[] roots = new int[size];
+        int rootCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            ArticleCommentDto comment = comments.get(i);
+            positions.put(comment.id(), i);
+            if (waiting != null) {
+                List<Integer> earlierChildren = waiting.remove(comment.id());
+                if (earlierChildren != null) {
+                    for (int child : earlierChildren) {
+                        addChild(children, childCounts, i, child);
+                    }
+                }
+            }
+
+            Long parentCommentId = comment.parentCommentId();
+            if (parentCommentId == null) {
+                roots[rootCount++] = i;
+                continue;
+            }
+            Integer parent = positions.get(parentCommentId);
+            if (parent != null) {
+                addChild(children, childCounts, parent, i);
+            } else {
+                if (waiting == null) {
+                    waiting = new HashMap<>();
+                }
+                waiting.computeIfAbsent(parentCommentId, id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        if (waiting != null && !waiting.isEmpty()) {
+            for (List<Integer> orphans : waiting.values()) {
+                for (int orphan : orphans) {
+                    roots[rootCount++] = orphan;
+                }
+            }
+            Arrays.sort(roots, 0, rootCount);
+        }
+
+        ArticleCommentsResponse[] responses = toResponses(comments, children, childCounts, roots, rootCount);
+        return newestFirst(responses, roots, rootCount);
+    }
+
+    // 자식 배열은 첫 자식이 붙을 때 만들고, 모자라면 두 배로 늘린다.
+    private static void addChild(int[][] children, int[] childCounts, int parent, int child) {
+        int count = childCounts[parent];
+        if (children[parent] == null) {
+            children[parent] = new int[2];
+        } else if (count == children[parent].length) {
+            children[parent] = Arrays.copyOf(children[parent], count * 2);
+        }
+        children[parent][count] = child;
+        childCounts[parent] = count + 1;
+    }
+
+    // 후위 순회로 자식 응답을 먼저 만든 뒤 부모 응답을 만든다.
+    private static ArticleCommentsResponse[] toResponses(List<ArticleCommentDto> comments,
+                                                         int[][] children,
+                                                         int[] childCounts,
+                                                         int[] roots,
+                                                         int rootCount) {
+        int size = comments.size();
+        ArticleCommentsResponse[] responses = new ArticleCommentsResponse[size];
+        int[] stack = new int[size];
+        int[] visitedChildren = new int[size];
+        for (int r = 0; r < rootCount; r++) {
+            int top = 0;
+            stack[top++] = roots[r];
+            while (top > 0) {
+                int node = stack[top - 1];
+                if (visitedChildren[node] < childCounts[node]) {
+                    stack[top++] = children[node][visitedChildren[node]++];
+                } else {
+                    responses[node] = ArticleCommentsResponse.from(comments.get(node),
+                            childResponses(responses, children[node], childCounts[node]));
+                    top--;
+                }
+            }
+        }
+        return responses;
+    }
+
+    private static List<ArticleCommentDto> chronological(Collection<ArticleCommentDto> dtos) {
+        List<ArticleCommentDto> comments = dtos instanceof List<ArticleCommentDto> list ? list : new ArrayList<>(dtos);
+        for (int i = 1; i < comments.size(); i++) {
+            if (CHRONOLOGICAL.compare(comments.get(i - 1), comments.get(i)) > 0) {
+                List<ArticleCommentDto> sorted = new ArrayList<>(comments);
+                sorted.sort(CHRONOLOGICAL);
+                return sorted;
+            }
+        }
+        return comments;
+    }
+
+    private static List<ArticleCommentsResponse> childResponses(ArticleCommentsResponse[] responses, int[] children, int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        ArticleCommentsResponse[] childComments = new ArticleCommentsResponse[count];
+        for (int i = 0; i < count; i++) {
+            childComments[i] = responses[children[i]];
+        }
+        return List.of(childComments);
+    }
+
+    // 오름차순 최상위 댓글을 뒤에서부터 읽으면 (작성 시간, id) 내림차순이 되어, 최상위 댓글 창(findTopLevelComments)과 순서가 같다.
+    private static List<ArticleCommentsResponse> newestFirst(ArticleCommentsResponse[] responses, int[] roots, int rootCount) {
+        ArticleCommentsResponse[] ordered = new ArticleCommentsResponse[rootCount];
+        for (int i = 0; i < rootCount; i++) {
+            ordered[i] = responses[roots[rootCount - 1 - i]];
+        }
+        return List.of(ordered);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleCommentWindowDto;
+
+import java.util.List;
+
+/**
+ * 댓글 한 묶음 응답. 다음 묶음이 없으면 nextCursor 는 null 이다.
+ */
+public record ArticleCommentWindowResponse(
+        List<ArticleCommentsResponse> comments,
+        String nextCursor
+) {
+    public static ArticleCommentWindowResponse of(List<ArticleCommentsResponse> comments, String nextCursor) {
+        return new ArticleCommentWindowResponse(comments, nextCursor);
+    }
+
+    public static ArticleCommentWindowResponse from(ArticleCommentWindowDto dto) {
+        return new ArticleCommentWindowResponse(
+                dto.comments().stream()
+                        .map(comment -> ArticleCommentsResponse.from(comment, dto.replyCountOf(comment.id())))
+                        .toList(),
+                dto.hasNext() ? dto.nextCursor().encode() : null
+        );
+    }
+}
@@ -3,9 +3,7 @@ package com.fastcampus.projectboard.dto.response;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.List;
 
 /**
  * DTO for {@link com.fastcampus.projectboard.domain.ArticleComment}
@@ -18,7 +16,8 @@ public record ArticleCommentsResponse(
         String nickname,
         String userId,
         Long parentCommentId,
-        Set<ArticleCommentsResponse> childComments
+        List<ArticleCommentsResponse> childComments,
+        long replyCount
         ){
 
     // 자식 댓글이 없는 경우
@@ -26,29 +25,41 @@ public record ArticleCommentsResponse(
         return ArticleCommentsResponse.of(id, content, createdAt, email, nickname, userId, null);
     }
 
-    // 자식 댓글이 있는 경우
+    // 부모 댓글이 있는 경우
     public static ArticleCommentsResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
-        Comparator<ArticleCommentsResponse> childCommentComparator =
-                Comparator.comparing(ArticleCommentsResponse::createdAt)
-                        .thenComparingLong(ArticleCommentsResponse::id);
-
-        return new ArticleCommentsResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        return new ArticleCommentsResponse(id, content, createdAt, email, nickname, userId, parentCommentId, List.of(), 0L);
     }
 
     public static ArticleCommentsResponse from(ArticleCommentDto dto) {
+        return ArticleCommentsResponse.from(dto, List.of());
+    }
+
+    // 자식 댓글은 ArticleCommentTree 가 작성 순서대로 모아서 넘겨준다.
+    public static ArticleCommentsResponse from(ArticleCommentDto dto, List<ArticleCommentsResponse> childComments) {
+        return ArticleCommentsResponse.from(dto, childComments, childComments.size());
+    }
+
+    // 자식 댓글을 나중에 따로 읽는 경우: 개수만 담는다.
+    public static ArticleCommentsResponse from(ArticleCommentDto dto, long replyCount) {
+        return ArticleCommentsResponse.from(dto, List.of(), replyCount);
+    }
+
+    private static ArticleCommentsResponse from(ArticleCommentDto dto, List<ArticleCommentsResponse> childComments, long replyCount) {
         String nickname = dto.userAccountDto().nickname();
         if (nickname == null || nickname.isBlank()){
             nickname = dto.userAccountDto().userId();
         }
 
-        return ArticleCommentsResponse.of(
+        return new ArticleCommentsResponse(
                 dto.id(),
                 dto.content(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                dto.parentCommentId()
+                dto.parentCommentId(),
+                childComments,
+                replyCount
         );
     }
 
@@ -0,0 +1,22 @@
+package com.fastcampus.projectboard.dto.response;
+
+/**
+ * 키셋 페이징의 이전, 다음 페이지 커서
+ * 이동할 페이지가 없으면 null
+ */
+public record ArticleCursorsResponse(
+        String previousCursor,
+        String nextCursor
+) {
+    public static ArticleCursorsResponse of(String previousCursor, String nextCursor) {
+        return new ArticleCursorsResponse(previousCursor, nextCursor);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
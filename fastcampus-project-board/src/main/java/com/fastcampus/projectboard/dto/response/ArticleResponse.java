@@ -2,6 +2,7 @@ package com.fastcampus.projectboard.dto.response;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
 import com.fastcampus.projectboard.dto.HashtagDto;
 
 import java.time.LocalDateTime;
@@ -18,10 +19,12 @@ public record ArticleResponse(
         Set<String> hashtags,
         LocalDateTime createdAt,
         String email ,
-        String nickname
+        String nickname,
+        long commentCount,
+        long viewCount
 ){
-    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, long commentCount, long viewCount) {
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, commentCount, viewCount);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -33,6 +36,16 @@ public record ArticleResponse(
                 dto.content(), dto.hashtagDtos().stream()
                 .map(HashtagDto::hashtagName)
                 .collect(Collectors.toUnmodifiableSet()),
-                dto.createdAt() , dto.userAccountDto().email(),nickname);
+                dto.createdAt() , dto.userAccountDto().email(),nickname, 0L, 0L);
+    }
+
+    // 목록 화면은 이메일을 쓰지 않고, 본문은 앞부분만 보여준다.
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()){
+            nickname = dto.userId();
+        }
+        return new ArticleResponse(dto.id(), dto.title(), dto.contentPreview(), dto.hashtagNames(),
+                dto.createdAt(), null, nickname, dto.commentCount(), dto.viewCount());
     }
 }
@@ -0,0 +1,18 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.SuggestionDto;
+
+public record SuggestionResponse(
+        SearchType searchType,
+        String text,
+        long articleCount
+) {
+    public static SuggestionResponse of(SearchType searchType, String text, long articleCount) {
+        return new SuggestionResponse(searchType, text, articleCount);
+    }
+
+    public static SuggestionResponse from(SuggestionDto dto) {
+        return new SuggestionResponse(dto.searchType(), dto.text(), dto.articleCount());
+    }
+}
@@ -27,9 +27,10 @@ public record BoardPrincipal(
     }
 
     public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Map<String, Object> oAuth2Attributes) {
+        return of(username, password, email, nickname, memo, oAuth2Attributes, Set.of(RoleType.USER));
+    }
 
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
-
+    public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Map<String, Object> oAuth2Attributes, Set<RoleType> roleTypes) {
         return new BoardPrincipal(username,
                 password,
                 roleTypes.stream().map(RoleType::getName)
@@ -51,6 +52,21 @@ public record BoardPrincipal(
                 dto.memo());
     }
 
+    // 관리자 회원은 일반 회원 권한에 관리자 권한을 더한다.
+    public static BoardPrincipal from(UserAccountDto dto, boolean admin) {
+        if (!admin) {
+            return from(dto);
+        }
+        return BoardPrincipal.of(
+                dto.userId(),
+                dto.userPassword(),
+                dto.email(),
+                dto.nickname(),
+                dto.memo(),
+                Map.of(),
+                Set.of(RoleType.USER, RoleType.ADMIN));
+    }
+
     public UserAccountDto toDto(){
         return UserAccountDto.of(
                 username,
@@ -64,7 +80,7 @@ public record BoardPrincipal(
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return null;
+        return authorities;
     }
 
     @Override
@@ -108,7 +124,8 @@ public record BoardPrincipal(
     }
 
     public enum RoleType{
-        USER("ROLE_USER");
+        USER("ROLE_USER"),
+        ADMIN("ROLE_ADMIN");
 
         @Getter
         private final String name;
@@ -4,12 +4,17 @@ import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.QArticleComment;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @RepositoryRestResource
@@ -20,7 +25,70 @@ public interface ArticleCommentRepository extends
 {
     List<ArticleComment> findByArticle_Id(Long articleId);
 
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId , String userId);
+    /*
+     * 댓글 키셋 페이징: (article_id, parentCommentId, createdAt, id) 인덱스를 따라 커서 다음부터 pageable 의 크기만큼만 읽는다.
+     * 최상위 댓글은 (createdAt, id) 내림차순, 자식 댓글은 (createdAt, id) 오름차순으로 읽는다.
+     * 두 컬럼의 정렬 방향이 같아야 커서 조건을 (createdAt, id) 행 비교 하나로 쓸 수 있고, 인덱스도 한 방향으로만 훑는다.
+     */
+    @RestResource(exported = false)
+    @Query("""
+            select c from ArticleComment c join fetch c.userAccount
+            where c.article.id = :articleId and c.parentCommentId is null
+            order by c.createdAt desc, c.id desc
+            """)
+    List<ArticleComment> findTopLevelComments(Long articleId, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("""
+            select c from ArticleComment c join fetch c.userAccount
+            where c.article.id = :articleId and c.parentCommentId is null
+              and (c.createdAt, c.id) < (:createdAt, :id)
+            order by c.createdAt desc, c.id desc
+            """)
+    List<ArticleComment> findTopLevelCommentsAfter(Long articleId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("""
+            select c from ArticleComment c join fetch c.userAccount
+            where c.article.id = :articleId and c.parentCommentId = :parentCommentId
+            order by c.createdAt asc, c.id asc
+            """)
+    List<ArticleComment> findReplies(Long articleId, Long parentCommentId, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("""
+            select c from ArticleComment c join fetch c.userAccount
+            where c.article.id = :articleId and c.parentCommentId = :parentCommentId
+              and (c.createdAt, c.id) > (:createdAt, :id)
+            order by c.createdAt asc, c.id asc
+            """)
+    List<ArticleComment> findRepliesAfter(Long articleId, Long parentCommentId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("""
+            select c.parentCommentId as parentCommentId, count(c) as replyCount from ArticleComment c
+            where c.article.id = :articleId and c.parentCommentId in :parentCommentIds
+            group by c.parentCommentId
+            """)
+    List<ReplyCount> countReplies(Long articleId, Collection<Long> parentCommentIds);
+
+    /*
+     * 댓글과 그 아래 모든 자식 댓글 수. 엔티티를 읽지 않고 재귀 쿼리로 센다.
+     * 자식은 같은 게시글에만 달리므로 article_id 를 같이 걸어 (article_id, parentCommentId, ...) 인덱스를 탄다.
+     */
+    @RestResource(exported = false)
+    @Query(value = """
+            with recursive thread(id) as (
+                select c.id from article_comment c where c.id = :articleCommentId and c.article_id = :articleId
+                union all
+                select c.id from article_comment c join thread t on c.parent_comment_id = t.id
+                where c.article_id = :articleId
+            )
+            select count(*) from thread
+            """, nativeQuery = true)
+    long countThread(Long articleId, Long articleCommentId);
+
+    long deleteByIdAndUserAccount_UserId(Long articleCommentId , String userId);
     
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root){
@@ -30,4 +98,9 @@ public interface ArticleCommentRepository extends
         bindings.bind(root.createdAt).first(DateTimeExpression::eq);
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
     }
+
+    interface ReplyCount {
+        Long getParentCommentId();
+        Long getReplyCount();
+    }
 }
@@ -7,13 +7,24 @@ import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * 게시판 안에서만 쓰는 조회, 갱신 쿼리는 Data REST 검색 엔드포인트(/api/articles/search/*)로 내보내지 않는다.
+ */
 @RepositoryRestResource
 public interface ArticleRepository extends
         JpaRepository<Article, Long>,
@@ -27,7 +38,59 @@ public interface ArticleRepository extends
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 
-    void deleteByIdAndUserAccount_UserId(Long articleId , String userId);
+    @RestResource(exported = false)
+    Slice<Article> findByIdGreaterThan(Long id, Pageable pageable);
+
+    long deleteByIdAndUserAccount_UserId(Long articleId , String userId);
+
+    // 댓글 수는 읽고 고쳐 쓰지 않고 DB 에서 바로 더해서, 동시에 댓글이 달려도 잃어버리지 않는다.
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Article a set a.commentCount = a.commentCount + :delta where a.id = :articleId")
+    int addCommentCount(Long articleId, long delta);
+
+    // 상세 화면에서 댓글을 한 번에 읽을지 정할 때, 게시글에 쌓아 둔 댓글 수만 읽는다.
+    @RestResource(exported = false)
+    @Query("select a.commentCount from Article a where a.id = :articleId")
+    Optional<Long> findCommentCountById(Long articleId);
+
+    // 상세 화면 이전 글 / 다음 글. (createdAt, id) 행 비교로 인덱스 범위 하나를 한 행씩만 타도록 limit 1 로 부른다.
+    @RestResource(exported = false)
+    @Query("""
+            select a.id from Article a
+            where (a.createdAt, a.id) < (:createdAt, :id)
+            order by a.createdAt desc, a.id desc
+            """)
+    List<Long> findOlderIds(LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("""
+            select a.id from Article a
+            where (a.createdAt, a.id) > (:createdAt, :id)
+            order by a.createdAt asc, a.id asc
+            """)
+    List<Long> findNewerIds(LocalDateTime createdAt, Long id, Pageable pageable);
+
+    // 인기 해시태그 집계를 다시 채울 때, since 이후 작성된 게시글의 (작성일시, 해시태그 이름) 을 읽는다.
+    @RestResource(exported = false)
+    @Query("select a.createdAt as createdAt, h.hashtagName as hashtagName from Article a join a.hashtags h where a.createdAt >= :since")
+    List<HashtagUsage> findHashtagUsagesSince(LocalDateTime since);
+
+    @RestResource(exported = false)
+    @Query("select a.id from Article a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    // (afterId, untilId] 범위에서 실제 댓글 수와 다른 게시글만 고치고, 고친 게시글 수를 반환한다.
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying
+    @Query("""
+            update Article a set a.commentCount = (select count(c) from ArticleComment c where c.article.id = a.id)
+            where a.id > :afterId and a.id <= :untilId
+              and a.commentCount <> (select count(c) from ArticleComment c where c.article.id = a.id)
+            """)
+    int reconcileCommentCounts(Long afterId, Long untilId);
     
 
     @Override
@@ -39,4 +102,9 @@ public interface ArticleRepository extends
         bindings.bind(root.createdAt).first(DateTimeExpression::eq);
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
     }
+
+    interface HashtagUsage {
+        LocalDateTime getCreatedAt();
+        String getHashtagName();
+    }
 }
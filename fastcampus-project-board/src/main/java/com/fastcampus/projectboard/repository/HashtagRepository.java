@@ -3,18 +3,80 @@ package com.fastcampus.projectboard.repository;
 
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.repository.querydsl.HashtagRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+/**
+ * 게시글 수 갱신, 보정, 정리 쿼리는 Data REST 검색 엔드포인트(/api/hashtags/search/*)로 내보내지 않는다.
+ */
 @RepositoryRestResource
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> , HashtagRepositoryCustom,QuerydslPredicateExecutor<Hashtag> {
     Optional<Hashtag> findByHashtagName(String hashtagName);
 
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
 
+    // 게시글 수는 읽고 고쳐 쓰지 않고 DB 에서 바로 더한다. article_hashtag 를 바꾼 트랜잭션 안에서 부른다.
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Hashtag h set h.articleCount = h.articleCount + :delta where h.id in :hashtagIds")
+    int addArticleCount(Collection<Long> hashtagIds, long delta);
+
+    // 인기 해시태그가 모자랄 때 채울 이름. 게시글이 많은 순서로 pageable 크기만큼만 읽는다.
+    @RestResource(exported = false)
+    @Query("select h.hashtagName from Hashtag h where h.articleCount > 0 order by h.articleCount desc, h.hashtagName")
+    List<String> findTopHashtagNames(Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("select h.id from Hashtag h where h.id > :afterId order by h.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    // (afterId, untilId] 범위에서 실제 게시글 수와 다른 해시태그만 고치고, 고친 해시태그 수를 반환한다.
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying
+    @Query("""
+            update Hashtag h set h.articleCount = (select count(a) from Article a join a.hashtags t where t.id = h.id)
+            where h.id > :afterId and h.id <= :untilId
+              and h.articleCount <> (select count(a) from Article a join a.hashtags t where t.id = h.id)
+            """)
+    int reconcileArticleCounts(Long afterId, Long untilId);
+
+    // createdBefore 전에 만들어졌고 게시글 수가 0 인 해시태그를 afterId 다음부터 id 순서로 읽는다. 지울 후보다.
+    @RestResource(exported = false)
+    @Query("""
+            select h.id as id, h.hashtagName as hashtagName from Hashtag h
+            where h.id > :afterId and h.articleCount = 0 and h.createdAt < :createdBefore
+            order by h.id
+            """)
+    List<OrphanCandidate> findOrphanCandidatesAfter(Long afterId, LocalDateTime createdBefore, Pageable pageable);
+
+    // 후보 중 지금도 게시글 수가 0 인 해시태그만 한 번에 지운다. 게시글 수가 어긋나 있어도 아직 쓰이는 해시태그는 남긴다.
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from Hashtag h
+            where h.id in :hashtagIds and h.articleCount = 0
+              and not exists (select a.id from Article a join a.hashtags t where t.id = h.id)
+            """)
+    int deleteOrphans(Collection<Long> hashtagIds);
+
+    interface OrphanCandidate {
+        Long getId();
+        String getHashtagName();
+    }
+
 }
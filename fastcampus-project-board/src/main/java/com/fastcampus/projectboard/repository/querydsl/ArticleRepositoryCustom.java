@@ -1,16 +1,33 @@
 package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
     @Deprecated
     List<String> findAllDistinctHashtags();
 
-    Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+    // 목록 화면용 조회: 엔티티 대신 목록에 필요한 컬럼과 해시태그 이름만 읽는다. 전체 개수는 따로 구한다.
+    List<ArticleSummaryDto> findSummaries(Predicate predicate, Pageable pageable);
+
+    long countArticles(Predicate predicate);
+
+    // offset 위치부터 최대 limit 건까지만 센다. (다음 몇 페이지가 있는지 확인하는 용도)
+    long countArticlesUpTo(Predicate predicate, long offset, int limit);
+
+    // 주어진 id 순서를 유지한다.
+    List<ArticleSummaryDto> findSummariesByIds(List<Long> articleIds);
+
+    Page<ArticleSummaryDto> findSummariesByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    // 상세 화면용 조회: 게시글, 작성자, 해시태그, 댓글과 댓글 작성자를 댓글 수와 상관없이 쿼리 두 번으로 읽는다.
+    Optional<Article> findWithComments(Long articleId);
 
 }
@@ -2,17 +2,33 @@ package com.fastcampus.projectboard.repository.querydsl;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.QArticle;
+import com.fastcampus.projectboard.domain.QArticleComment;
 import com.fastcampus.projectboard.domain.QHashtag;
+import com.fastcampus.projectboard.domain.QUserAccount;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
+    private static final String HASHTAGS_PROPERTY = "hashtags";
+    private static final String HASHTAG_NAME_PROPERTY = "hashtags.hashtagName";
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
@@ -25,16 +41,226 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
     }
 
     @Override
-    public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
+    public List<ArticleSummaryDto> findSummaries(Predicate predicate, Pageable pageable) {
+        JPQLQuery<Tuple> query = selectSummaries().where(predicate)
+                .orderBy(orderSpecifiers(pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return withHashtagNames(query.fetch().stream().map(this::toSummary).toList());
+    }
+
+    @Override
+    public long countArticles(Predicate predicate) {
+        QArticle article = QArticle.article;
+        Long count = from(article).where(predicate).select(article.count()).fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    // 정렬 없이 id 만 읽으므로, DB 는 limit 건을 찾는 즉시 멈출 수 있다.
+    @Override
+    public long countArticlesUpTo(Predicate predicate, long offset, int limit) {
+        QArticle article = QArticle.article;
+        return from(article).where(predicate)
+                .select(article.id)
+                .offset(offset)
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleSummaryDto> summaries = selectSummaries()
+                .where(QArticle.article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .map(this::toSummary)
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        return withHashtagNames(articleIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /*
+     * 1단계: 해시태그 조인 결과를 게시글 id 로 묶어서 id 만 페이징한다. (태그가 여러 개 걸려도 한 번만 센다)
+     * 2단계: 해당 페이지 id 의 목록 컬럼과 해시태그 이름을 읽는다.
+     */
+    @Override
+    public Page<ArticleSummaryDto> findSummariesByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
         QHashtag hashtag = QHashtag.hashtag;
         QArticle article = QArticle.article;
 
-        JPQLQuery<Article> query = from(article)
+        JPQLQuery<Long> idQuery = from(article)
                 .innerJoin(article.hashtags, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
+                .where(hashtag.hashtagName.in(hashtagNames))
+                .select(article.id);
+
+        List<Expression<?>> groupByExpressions = new ArrayList<>();
+        groupByExpressions.add(article.id);
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            if (isHashtagProperty(order.getProperty())) {
+                // 여러 태그가 매칭된 게시글은 정렬 방향 기준으로 가장 앞선 태그 이름을 쓴다.
+                orderSpecifiers.add(new OrderSpecifier<>(direction,
+                        order.isAscending() ? hashtag.hashtagName.min() : hashtag.hashtagName.max()));
+            } else {
+                ComparableExpressionBase<?> expression = articleProperty(order.getProperty());
+                groupByExpressions.add(expression);
+                orderSpecifiers.add(new OrderSpecifier<>(direction, expression));
+            }
+        }
+        orderSpecifiers.add(article.id.desc());
+
+        idQuery.groupBy(groupByExpressions.toArray(Expression[]::new))
+                .orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new));
+        if (pageable.isPaged()) {
+            idQuery.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        List<Long> articleIds = idQuery.fetch();
+
+        return PageableExecutionUtils.getPage(findSummariesByIds(articleIds), pageable,
+                () -> countByHashtagNames(hashtagNames));
+    }
+
+    /*
+     * 컬렉션 두 개(해시태그, 댓글)를 한 쿼리에서 fetch join 하면 행이 해시태그 수 x 댓글 수만큼 불어나므로 나눠서 읽는다.
+     * 1단계: 게시글 + 작성자 + 해시태그
+     * 2단계: 같은 게시글 + 댓글 + 댓글 작성자. 영속성 컨텍스트에 있는 1단계 게시글의 댓글 컬렉션이 이 결과로 채워진다.
+     */
+    @Override
+    public Optional<Article> findWithComments(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<Article> articles = from(article)
+                .innerJoin(article.userAccount).fetchJoin()
+                .leftJoin(article.hashtags).fetchJoin()
+                .where(article.id.eq(articleId))
+                .fetch();
+        if (articles.isEmpty()) {
+            return Optional.empty();
+        }
 
-        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
+        from(article)
+                .leftJoin(article.articleComments, articleComment).fetchJoin()
+                .leftJoin(articleComment.userAccount).fetchJoin()
+                .where(article.id.eq(articleId))
+                .fetch();
+        return Optional.of(articles.get(0));
+    }
+
+    // 게시글과 작성자에서 목록 컬럼만 고른다. 본문은 DB 에서 앞부분만 잘라 온다.
+    private JPQLQuery<Tuple> selectSummaries() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(article.id,
+                        article.title,
+                        article.content.substring(0, ArticleSummaryDto.CONTENT_PREVIEW_LENGTH),
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.nickname,
+                        article.commentCount,
+                        article.viewCount);
+    }
+
+    private ArticleSummaryDto toSummary(Tuple tuple) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        return ArticleSummaryDto.of(
+                tuple.get(article.id),
+                tuple.get(article.title),
+                tuple.get(article.content.substring(0, ArticleSummaryDto.CONTENT_PREVIEW_LENGTH)),
+                Set.of(),
+                tuple.get(article.createdAt),
+                tuple.get(userAccount.userId),
+                tuple.get(userAccount.nickname),
+                Objects.requireNonNullElse(tuple.get(article.commentCount), 0L),
+                Objects.requireNonNullElse(tuple.get(article.viewCount), 0L)
+        );
+    }
+
+    // 페이지에 포함된 게시글의 해시태그 이름을 한 번의 쿼리로 모은다.
+    private List<ArticleSummaryDto> withHashtagNames(List<ArticleSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        Map<Long, Set<String>> hashtagNames = from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .where(article.id.in(summaries.stream().map(ArticleSummaryDto::id).toList()))
+                .select(article.id, hashtag.hashtagName)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(article.id),
+                        Collectors.mapping(tuple -> tuple.get(hashtag.hashtagName), Collectors.toUnmodifiableSet())
+                ));
+
+        return summaries.stream()
+                .map(summary -> summary.withHashtagNames(hashtagNames.getOrDefault(summary.id(), Set.of())))
+                .toList();
+    }
+
+    // 해시태그 이름 인덱스와 article_hashtag 만으로 서로 다른 게시글 수를 센다.
+    private long countByHashtagNames(Collection<String> hashtagNames) {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+
+        Long count = from(hashtag)
+                .innerJoin(hashtag.articles, article)
+                .where(hashtag.hashtagName.in(hashtagNames))
+                .select(article.id.countDistinct())
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    /*
+     * 해시태그 정렬은 게시글마다 정렬 방향 기준으로 가장 앞선 태그 이름을 쓴다. (조인으로 행이 늘어나지 않게 서브쿼리)
+     * 마지막엔 항상 id 내림차순으로 순서를 고정한다.
+     */
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        QArticle article = QArticle.article;
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            if (isHashtagProperty(order.getProperty())) {
+                QArticle sortArticle = new QArticle("sortArticle");
+                QHashtag sortHashtag = new QHashtag("sortHashtag");
+                orderSpecifiers.add(new OrderSpecifier<>(direction, JPAExpressions
+                        .select(order.isAscending() ? sortHashtag.hashtagName.min() : sortHashtag.hashtagName.max())
+                        .from(sortArticle)
+                        .innerJoin(sortArticle.hashtags, sortHashtag)
+                        .where(sortArticle.id.eq(article.id))));
+            } else {
+                orderSpecifiers.add(new OrderSpecifier<>(direction, articleProperty(order.getProperty())));
+            }
+        }
+        orderSpecifiers.add(article.id.desc());
+        return orderSpecifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    private boolean isHashtagProperty(String property) {
+        return HASHTAGS_PROPERTY.equals(property) || HASHTAG_NAME_PROPERTY.equals(property);
+    }
 
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+    private ComparableExpressionBase<?> articleProperty(String property) {
+        PathBuilder<?> path = new PathBuilder<>(Article.class, QArticle.article.getMetadata());
+        String[] segments = property.split("\\.");
+        for (int i = 0; i < segments.length - 1; i++) {
+            path = path.get(segments[i]);
+        }
+        return path.getComparable(segments[segments.length - 1], Comparable.class);
     }
 }
@@ -0,0 +1,56 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 수 보정 작업
+ * 댓글 수는 댓글을 쓰고 지울 때 더하고 빼기만 하므로, 실패한 요청이나 직접 고친 데이터 때문에 실제 댓글 수와 어긋날 수 있다.
+ * 게시글 id 범위를 끊어 가며 실제 댓글 수와 다른 게시글만 고치고, 범위마다 트랜잭션을 따로 써서 잠금을 오래 잡지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleCommentCountReconciler {
+    static final int BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+
+    // 초기 데이터(data.sql)는 댓글 수 없이 들어가므로 기동할 때도 한 번 맞춘다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        reconcile();
+    }
+
+    // 고친 게시글 수를 반환한다.
+    public int reconcile() {
+        long lastArticleId = 0L;
+        int repairedCount = 0;
+
+        while (true) {
+            List<Long> articleIds = articleRepository.findIdsAfter(lastArticleId, PageRequest.ofSize(BATCH_SIZE));
+            if (articleIds.isEmpty()) {
+                break;
+            }
+
+            Long untilId = articleIds.get(articleIds.size() - 1);
+            repairedCount += articleRepository.reconcileCommentCounts(lastArticleId, untilId);
+            lastArticleId = untilId;
+            if (articleIds.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        log.info("게시글 댓글 수 보정 완료 - repaired: {}", repairedCount);
+        return repairedCount;
+    }
+}
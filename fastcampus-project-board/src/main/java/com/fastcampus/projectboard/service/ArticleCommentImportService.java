@@ -0,0 +1,230 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleCommentImportDto;
+import com.fastcampus.projectboard.dto.ArticleCommentImportResultDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 일괄 등록 (옛 게시판 이전용)
+ * 댓글을 스트림으로 받아 BATCH_SIZE 개씩 JDBC 배치 insert 하고, 배치마다 트랜잭션을 따로 쓴다.
+ * 부모 댓글은 externalId 로 가리키고, 넣은 댓글의 externalId -> id 를 메모리에 들고 있다가 자식 댓글을 넣을 때 바꿔 넣는다.
+ * 부모보다 먼저 온 자식 댓글은 부모가 들어갈 때까지 기다렸다가 다음 배치로 넣는다.
+ * 게시글과 작성자는 배치마다 한 번에 존재 여부를 확인하고, 없으면 그 댓글(과 그 자식 댓글)은 넣지 않고 rejected 로 센다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleCommentImportService {
+    static final int BATCH_SIZE = 1000;
+    private static final int MAX_CONTENT_LENGTH = 500;
+    private static final int PROGRESS_LOG_BATCHES = 10;
+
+    private static final String INSERT_SQL = """
+            insert into article_comment (article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String ADD_COMMENT_COUNT_SQL = "update article set comment_count = comment_count + ? where id = ?";
+    private static final String EXISTING_ARTICLE_IDS_SQL = "select id from article where id in (:ids)";
+    private static final String EXISTING_USER_IDS_SQL = "select user_id from user_account where user_id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+
+    public ArticleCommentImportResultDto importComments(Stream<ArticleCommentImportDto> comments) {
+        Import run = new Import();
+        comments.forEach(run::accept);
+        return run.finish();
+    }
+
+    private final class Import {
+        private final long startedAt = System.nanoTime();
+
+        // externalId -> 댓글 id. 받았지만 아직 넣지 않은 댓글은 null 이다.
+        private final Map<String, Long> commentIds = new HashMap<>();
+        private final Map<String, List<ArticleCommentImportDto>> waiting = new HashMap<>();
+        private final Map<Long, Boolean> articleExists = new HashMap<>();
+        private final Map<String, Boolean> userExists = new HashMap<>();
+        private final List<ArticleCommentImportDto> batch = new ArrayList<>();
+
+        private long received = 0L;
+        private long inserted = 0L;
+        private long rejected = 0L;
+        private long batches = 0L;
+
+        void accept(ArticleCommentImportDto dto) {
+            received++;
+            if (!isValid(dto) || (dto.externalId() != null && commentIds.containsKey(dto.externalId()))) {
+                rejected++;
+                return;
+            }
+            if (dto.externalId() != null) {
+                commentIds.put(dto.externalId(), null);
+            }
+            enqueue(dto);
+            flush(false);
+        }
+
+        ArticleCommentImportResultDto finish() {
+            flush(true);
+            long orphans = waiting.values().stream().mapToLong(List::size).sum();
+            rejected += orphans;
+
+            ArticleCommentImportResultDto result = ArticleCommentImportResultDto.of(received, inserted, rejected, elapsed());
+            log.info("댓글 일괄 등록 완료 - received: {}, inserted: {}, rejected: {}, orphans: {}, elapsed: {}, commentsPerSecond: {}",
+                    received, inserted, rejected, orphans, result.elapsed(), String.format("%.1f", result.commentsPerSecond()));
+            return result;
+        }
+
+        private void enqueue(ArticleCommentImportDto dto) {
+            if (dto.parentExternalId() != null && commentIds.get(dto.parentExternalId()) == null) {
+                waiting.computeIfAbsent(dto.parentExternalId(), parentExternalId -> new ArrayList<>()).add(dto);
+            } else {
+                batch.add(dto);
+            }
+        }
+
+        // 넣은 댓글을 기다리던 자식 댓글이 batch 에 다시 쌓이므로, 한 번에 끝나지 않을 수 있다.
+        private void flush(boolean force) {
+            while (batch.size() >= BATCH_SIZE || (force && !batch.isEmpty())) {
+                List<ArticleCommentImportDto> head = batch.subList(0, Math.min(batch.size(), BATCH_SIZE));
+                List<ArticleCommentImportDto> rows = new ArrayList<>(head);
+                head.clear();
+                insert(rows);
+            }
+        }
+
+        private void insert(List<ArticleCommentImportDto> rows) {
+            resolveExistence(rows);
+            List<ArticleCommentImportDto> accepted = rows.stream()
+                    .filter(dto -> articleExists.get(dto.articleId()) && userExists.get(dto.userId()))
+                    .toList();
+            rejected += rows.size() - accepted.size();
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            List<Long> ids = transactionOperations.execute(status -> insertComments(accepted));
+            for (int i = 0; i < accepted.size(); i++) {
+                String externalId = accepted.get(i).externalId();
+                if (externalId != null) {
+                    commentIds.put(externalId, ids.get(i));
+                    List<ArticleCommentImportDto> children = waiting.remove(externalId);
+                    if (children != null) {
+                        children.forEach(this::enqueue);
+                    }
+                }
+            }
+
+            inserted += accepted.size();
+            if (++batches % PROGRESS_LOG_BATCHES == 0) {
+                log.info("댓글 일괄 등록 중 - inserted: {}, commentsPerSecond: {}",
+                        inserted, String.format("%.1f", inserted * 1_000_000_000.0 / Math.max(System.nanoTime() - startedAt, 1L)));
+            }
+        }
+
+        private List<Long> insertComments(List<ArticleCommentImportDto> rows) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.getJdbcOperations().batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setInsertValues(ps, rows.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    },
+                    keyHolder);
+
+            Map<Long, Long> commentCounts = rows.stream()
+                    .collect(Collectors.groupingBy(ArticleCommentImportDto::articleId, Collectors.counting()));
+            jdbcTemplate.getJdbcOperations().batchUpdate(ADD_COMMENT_COUNT_SQL, commentCounts.entrySet(), commentCounts.size(),
+                    (ps, entry) -> {
+                        ps.setLong(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    });
+
+            return keyHolder.getKeyList().stream()
+                    .map(Import::generatedId)
+                    .toList();
+        }
+
+        private void setInsertValues(PreparedStatement ps, ArticleCommentImportDto dto) throws SQLException {
+            Timestamp createdAt = Timestamp.valueOf(dto.createdAt() == null ? LocalDateTime.now() : dto.createdAt());
+            Long parentCommentId = dto.parentExternalId() == null ? null : commentIds.get(dto.parentExternalId());
+
+            ps.setLong(1, dto.articleId());
+            ps.setString(2, dto.userId());
+            if (parentCommentId == null) {
+                ps.setNull(3, Types.BIGINT);
+            } else {
+                ps.setLong(3, parentCommentId);
+            }
+            ps.setString(4, dto.content());
+            ps.setTimestamp(5, createdAt);
+            ps.setString(6, dto.userId());
+            ps.setTimestamp(7, createdAt);
+            ps.setString(8, dto.userId());
+        }
+
+        // 처음 보는 게시글 id, 작성자 id 만 모아서 한 번씩 조회한다.
+        private void resolveExistence(List<ArticleCommentImportDto> rows) {
+            resolve(rows, ArticleCommentImportDto::articleId, articleExists, EXISTING_ARTICLE_IDS_SQL, Long.class);
+            resolve(rows, ArticleCommentImportDto::userId, userExists, EXISTING_USER_IDS_SQL, String.class);
+        }
+
+        private <T> void resolve(List<ArticleCommentImportDto> rows, Function<ArticleCommentImportDto, T> key,
+                                 Map<T, Boolean> exists, String sql, Class<T> type) {
+            Set<T> unknown = rows.stream()
+                    .map(key)
+                    .filter(value -> !exists.containsKey(value))
+                    .collect(Collectors.toSet());
+            if (unknown.isEmpty()) {
+                return;
+            }
+            Set<T> found = new HashSet<>(jdbcTemplate.queryForList(sql, Map.of("ids", unknown), type));
+            unknown.forEach(value -> exists.put(value, found.contains(value)));
+        }
+
+        private Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
+
+        // 드라이버마다 생성 키 컬럼 이름의 대소문자가 다르다.
+        private static Long generatedId(Map<String, Object> keys) {
+            return keys.entrySet().stream()
+                    .filter(entry -> entry.getKey().equalsIgnoreCase("id"))
+                    .map(entry -> ((Number) entry.getValue()).longValue())
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("생성된 댓글 id 를 찾을 수 없습니다 - keys: " + keys));
+        }
+    }
+
+    private static boolean isValid(ArticleCommentImportDto dto) {
+        return dto.articleId() != null
+                && dto.userId() != null && !dto.userId().isBlank()
+                && dto.content() != null && !dto.content().isBlank()
+                && dto.content().length() <= MAX_CONTENT_LENGTH;
+    }
+}
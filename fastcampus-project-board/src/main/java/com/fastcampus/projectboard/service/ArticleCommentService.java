@@ -3,23 +3,31 @@ package com.fastcampus.projectboard.service;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentWindowDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class ArticleCommentService {
+    private static final int MAX_WINDOW_SIZE = 100;
+
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
@@ -32,6 +40,29 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public ArticleCommentWindowDto getTopLevelComments(Long articleId, ArticleCommentCursor cursor, int size) {
+        Pageable limit = limitOf(size);
+        List<ArticleComment> comments = cursor.isFirst()
+                ? articleCommentRepository.findTopLevelComments(articleId, limit)
+                : articleCommentRepository.findTopLevelCommentsAfter(articleId, cursor.createdAt(), cursor.id(), limit);
+        return toWindow(articleId, comments, limit.getPageSize() - 1);
+    }
+
+    // 부모 댓글의 게시글 id 를 알아야 인덱스를 탈 수 있으므로, 부모 댓글부터 읽는다.
+    @Transactional(readOnly = true)
+    public ArticleCommentWindowDto getReplies(Long parentCommentId, ArticleCommentCursor cursor, int size) {
+        ArticleComment parentComment = articleCommentRepository.findById(parentCommentId)
+                .orElseThrow(() -> new EntityNotFoundException("댓글이 없습니다 - articleCommentId: " + parentCommentId));
+        Long articleId = parentComment.getArticle().getId();
+
+        Pageable limit = limitOf(size);
+        List<ArticleComment> replies = cursor.isFirst()
+                ? articleCommentRepository.findReplies(articleId, parentCommentId, limit)
+                : articleCommentRepository.findRepliesAfter(articleId, parentCommentId, cursor.createdAt(), cursor.id(), limit);
+        return toWindow(articleId, replies, limit.getPageSize() - 1);
+    }
+
     public void saveArticleComment(ArticleCommentDto dto){
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
@@ -49,6 +80,7 @@ public class ArticleCommentService {
             else{
                 articleCommentRepository.save(articleComment);
             }
+            articleRepository.addCommentCount(dto.articleId(), 1);
 
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
@@ -56,7 +88,37 @@ public class ArticleCommentService {
     }
     
 
+    // 자식 댓글도 함께 지워지므로, 지우기 전에 딸린 댓글 수를 DB 에서 세어 두었다가 게시글 댓글 수에서 한 번에 뺀다.
     public void deleteArticleComment(Long articleCommentId , String userId){
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        articleCommentRepository.findById(articleCommentId).ifPresent(articleComment -> {
+            Long articleId = articleComment.getArticle().getId();
+            long threadSize = articleCommentRepository.countThread(articleId, articleCommentId);
+            if (articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId) > 0) {
+                articleRepository.addCommentCount(articleId, -threadSize);
+            }
+        });
+    }
+
+    // 다음 묶음이 있는지 알 수 있게 한 건 더 읽는다.
+    private static Pageable limitOf(int size) {
+        return PageRequest.ofSize(Math.min(Math.max(size, 1), MAX_WINDOW_SIZE) + 1);
+    }
+
+    // 한 건 더 읽은 것은 버리고, 남은 댓글들의 자식 댓글 수를 한 번에 센다.
+    private ArticleCommentWindowDto toWindow(Long articleId, List<ArticleComment> comments, int size) {
+        boolean hasNext = comments.size() > size;
+        List<ArticleCommentDto> dtos = comments.stream()
+                .limit(size)
+                .map(ArticleCommentDto::from)
+                .toList();
+        if (dtos.isEmpty()) {
+            return ArticleCommentWindowDto.of(dtos, Map.of(), null);
+        }
+
+        Map<Long, Long> replyCounts = articleCommentRepository.countReplies(articleId, dtos.stream().map(ArticleCommentDto::id).toList())
+                .stream()
+                .collect(Collectors.toMap(ArticleCommentRepository.ReplyCount::getParentCommentId, ArticleCommentRepository.ReplyCount::getReplyCount));
+        return ArticleCommentWindowDto.of(dtos, replyCounts,
+                hasNext ? ArticleCommentCursor.after(dtos.get(dtos.size() - 1)) : null);
     }
 }
@@ -0,0 +1,72 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판 전체 게시글 수 (board.articles.count 메트릭)
+ * 기동할 때 한 번 세어 두고, 게시글 생성, 삭제 이벤트를 커밋 이후에 더하고 빼서 수집할 때마다 count(*) 를 하지 않는다.
+ * Data REST 로 지운 게시글처럼 이벤트 없이 바뀐 것은 주기적으로 다시 세어서 맞춘다.
+ */
+@Slf4j
+@Component
+public class ArticleCounter {
+    private final ArticleRepository articleRepository;
+    private final AtomicLong count = new AtomicLong();
+    private volatile boolean seeded = false;
+
+    public ArticleCounter(ArticleRepository articleRepository, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+
+        Gauge.builder("board.articles.count", count, AtomicLong::get)
+                .description("게시판 전체 게시글 수").register(meterRegistry);
+    }
+
+    // 기동 이벤트보다 먼저 불리면 그 자리에서 센다.
+    public long get() {
+        if (!seeded) {
+            reconcile();
+        }
+        return count.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.article-count.reconcile-interval:PT10M}",
+            initialDelayString = "${board.article-count.reconcile-interval:PT10M}")
+    public void reconcileAll() {
+        reconcile();
+    }
+
+    /*
+     * 세는 도중에 커밋된 생성, 삭제는 센 값과 이벤트 양쪽에 들어가 잠깐 어긋날 수 있다.
+     * 그 차이는 다음 보정 때 맞춰진다.
+     */
+    public synchronized long reconcile() {
+        long counted = articleRepository.count();
+        long previous = count.getAndSet(counted);
+        if (seeded && previous != counted) {
+            log.info("게시글 수 보정 - previous: {}, counted: {}", previous, counted);
+        }
+        seeded = true;
+        return counted;
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED -> count.incrementAndGet();
+            case DELETED -> count.decrementAndGet();
+            case UPDATED -> { }
+        }
+    }
+}
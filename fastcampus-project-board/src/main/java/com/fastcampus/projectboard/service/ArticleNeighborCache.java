@@ -0,0 +1,95 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleNeighborsDto;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상세 화면 이전 글 / 다음 글 캐시
+ * 자주 보는 게시글의 이웃 id 만 최대 maxSize 개까지 들고, 넘치면 가장 오래 쓰지 않은 항목부터 버린다.
+ * 게시글은 작성 시각 순으로만 추가되므로, 생성 이벤트는 다음 글이 없던(가장 최근) 항목만, 삭제 이벤트는 삭제된 글과 그 글을 이웃으로 둔 항목만 지운다.
+ */
+@Slf4j
+@Component
+public class ArticleNeighborCache {
+    private final int maxSize;
+    private final Map<Long, ArticleNeighborsDto> entries;
+
+    // 무효화가 일어날 때마다 증가한다. 조회 도중 무효화가 끼어들면 그 결과는 캐시에 넣지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public ArticleNeighborCache(@Value("${board.neighbor-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ArticleNeighborsDto> eldest) {
+                return size() > ArticleNeighborCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized Optional<ArticleNeighborsDto> get(Long articleId) {
+        return Optional.ofNullable(entries.get(articleId));
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // 조회를 시작할 때 읽어 둔 generation 이 그대로일 때만 넣는다.
+    public synchronized void put(Long articleId, ArticleNeighborsDto neighbors, long expectedGeneration) {
+        if (generation.get() == expectedGeneration) {
+            entries.put(articleId, neighbors);
+        }
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.eventType() == ArticleEvent.EventType.UPDATED) {
+            return;
+        }
+
+        int invalidated = 0;
+        synchronized (this) {
+            generation.incrementAndGet();
+            Iterator<Map.Entry<Long, ArticleNeighborsDto>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, ArticleNeighborsDto> entry = iterator.next();
+                if (isAffected(event, entry.getKey(), entry.getValue())) {
+                    iterator.remove();
+                    invalidated++;
+                }
+            }
+        }
+        log.debug("이웃 게시글 캐시 무효화 - articleId: {}, eventType: {}, entries: {}", event.articleId(), event.eventType(), invalidated);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static boolean isAffected(ArticleEvent event, Long articleId, ArticleNeighborsDto neighbors) {
+        return switch (event.eventType()) {
+            case CREATED -> !neighbors.hasNext();
+            case DELETED -> articleId.equals(event.articleId())
+                    || Objects.equals(neighbors.previousId(), event.articleId())
+                    || Objects.equals(neighbors.nextId(), event.articleId());
+            case UPDATED -> false;
+        };
+    }
+}
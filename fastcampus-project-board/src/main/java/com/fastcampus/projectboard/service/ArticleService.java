@@ -2,25 +2,50 @@ package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.domain.type.TrendWindow;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDocument;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleNeighborsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.HashtagDto;
+import com.fastcampus.projectboard.dto.HashtagTrendDto;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.HashtagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.search.ArticleSearchCache;
+import com.fastcampus.projectboard.service.search.ArticleSearchEngine;
+import com.fastcampus.projectboard.service.search.AuthorDirectory;
+import com.fastcampus.projectboard.service.search.HashtagQuery;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Slf4j
@@ -28,37 +53,75 @@ import java.util.stream.Collectors;
 @Transactional
 @Service
 public class ArticleService {
+    // 검색어에 걸리는 작성자가 이보다 많으면 IN 목록 대신 LIKE 로 찾는다.
+    private static final int MAX_AUTHOR_IDS = 1000;
+
     private final UserAccountRepository userAccountRepository;
     private final ArticleRepository articleRepository;
 
     private final HashtagService hashtagService;
     private final HashtagRepository hashtagRepository;
 
+    private final ArticleSearchEngine articleSearchEngine;
+    private final ArticleSearchCache articleSearchCache;
+    private final AuthorDirectory authorDirectory;
+    private final SearchCountStrategy searchCountStrategy;
+    private final ArticleNeighborCache articleNeighborCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final HashtagTrendCounter hashtagTrendCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
-        if (searchKeyword == null || searchKeyword.isBlank())
-        {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
-        }
-        return switch(searchType)
-        {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable)
-                    .map(ArticleDto::from);
-        };
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (sortsByCounter(pageable)) {
+            return loadArticles(searchType, searchKeyword, pageable);
+        }
+        return cached(ArticleSearchCache.Key.of(searchType, searchKeyword, pageable),
+                () -> loadArticles(searchType, searchKeyword, pageable));
+    }
+
+    /*
+     * 키셋 페이징 검색
+     * (createdAt, id) 를 기준으로 이어서 읽으므로 OFFSET 과 count 쿼리가 없다.
+     */
+    @Transactional(readOnly = true)
+    public Window<ArticleSummaryDto> scrollArticles(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return scrollArticles(new BooleanBuilder(), cursor, size);
+        }
+
+        if (articleSearchEngine.supports(searchType)) {
+            return findSummariesByIds(articleSearchEngine.scroll(searchType, searchKeyword, cursor, size));
+        }
+
+        return scrollArticles(searchPredicate(searchType, searchKeyword), cursor, size);
     }
+
+    @Transactional(readOnly = true)
+    public Window<ArticleSummaryDto> scrollArticlesViaHashtag(String hashtagName, ArticleCursor cursor, int size) {
+        if (hashtagName == null || hashtagName.isBlank()) {
+            return Window.from(List.of(), ScrollPosition::offset);
+        }
+        if (articleSearchEngine.supports(SearchType.HASHTAG)) {
+            return findSummariesByIds(articleSearchEngine.scroll(SearchType.HASHTAG, hashtagName, cursor, size));
+        }
+        return scrollArticles(QArticle.article.hashtags.any().hashtagName.eq(hashtagName), cursor, size);
+    }
+
     @Transactional(readOnly = true)
     public ArticleWithCommentsDto getArticleWithComments(Long articleId){
-        return articleRepository.findById(articleId)
+        return articleRepository.findWithComments(articleId)
                 .map(ArticleWithCommentsDto::from)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
 
     }
 
+    @Transactional(readOnly = true)
+    public long getCommentCount(Long articleId) {
+        return articleRepository.findCommentCountById(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+    }
+
     @Transactional(readOnly = true)
     public ArticleDto getArticle(Long articleId){
         return articleRepository.findById(articleId)
@@ -66,10 +129,32 @@ public class ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    /*
+     * 상세 화면 이전 글 / 다음 글
+     * 목록과 같은 (createdAt, id) 순서에서 바로 앞뒤 게시글을 인덱스로 한 행씩 찾으므로, id 에 빈 곳이 있어도 되고 전체 개수를 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ArticleNeighborsDto getArticleNeighbors(Long articleId, LocalDateTime createdAt) {
+        Optional<ArticleNeighborsDto> cachedNeighbors = articleNeighborCache.get(articleId);
+        if (cachedNeighbors.isPresent()) {
+            return cachedNeighbors.get();
+        }
+
+        long generation = articleNeighborCache.generation();
+        Pageable first = PageRequest.ofSize(1);
+        ArticleNeighborsDto neighbors = ArticleNeighborsDto.of(
+                articleRepository.findOlderIds(createdAt, articleId, first).stream().findFirst().orElse(null),
+                articleRepository.findNewerIds(createdAt, articleId, first).stream().findFirst().orElse(null)
+        );
+        articleNeighborCache.put(articleId, neighbors, generation);
+        return neighbors;
+    }
+
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
 
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
+        Set<Hashtag> hashtags = hashtagService.resolveHashtags(
+                hashtagService.parseHashtagNames(dto.content()), dto.userAccountDto().userId());
 
         // 기존 게시글이 없으므로, 해시태그 삭제 과정이 필요없다.
 
@@ -77,8 +162,11 @@ public class ArticleService {
 
         article.addHashtags(hashtags);
 
-        articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+
+        hashtagService.addArticleCount(hashtagIdsOf(savedArticle), 1);
 
+        eventPublisher.publishEvent(ArticleEvent.created(ArticleDocument.from(savedArticle)));
     }
 
     public void updateArticle(Long articleId , ArticleDto dto) {
@@ -89,29 +177,19 @@ public class ArticleService {
 
 
             if(article.getUserAccount().equals(userAccount)){
+                ArticleDocument previousDocument = ArticleDocument.from(article);
+
                 if (dto.title() != null) {
                     article.setTitle(dto.title());
                 }
 
-                if (dto.content() != null) {
+                // 본문이 그대로면 해시태그도 그대로이므로 해시태그는 건드리지 않는다.
+                if (dto.content() != null && !dto.content().equals(article.getContent())) {
                     article.setContent(dto.content());
+                    updateHashtags(article, dto.content(), dto.userAccountDto().userId());
                 }
 
-                Set<Long> hashtagIds = article.getHashtags().stream()
-                        .map(Hashtag::getId)
-                        .collect(Collectors.toUnmodifiableSet());
-
-                article.clearHashtags();
-
-                // 업데이트 에선 기존 연결된 해시태그 삭제 후, 작업
-
-                articleRepository.save(article);
-
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-
-                Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-
-                article.addHashtags(hashtags);
+                eventPublisher.publishEvent(ArticleEvent.updated(previousDocument, ArticleDocument.from(article)));
             }
 
         }
@@ -124,54 +202,216 @@ public class ArticleService {
     public void deleteArticle(long articleId , String userId) {
         Article article = articleRepository.getReferenceById(articleId);
 
-        Set<Long> hashtagIds = article.getHashtags().stream()
-                .map(Hashtag::getId)
-                .collect(Collectors.toUnmodifiableSet());
-
+        Set<Long> hashtagIds = hashtagIdsOf(article);
 
+        // 작성자가 아니면 아무것도 지워지지 않으므로, 삭제 이벤트도 발행하지 않는다.
+        ArticleDocument deletedDocument = article.getUserAccount().getUserId().equals(userId)
+                ? ArticleDocument.from(article)
+                : null;
 
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        long deletedCount = articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
 
         articleRepository.flush();
 
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        if (deletedCount > 0) {
+            hashtagService.addArticleCount(hashtagIds, -1);
+        }
 
+        if (deletedDocument != null) {
+            eventPublisher.publishEvent(ArticleEvent.deleted(deletedDocument));
+        }
     }
 
-    public long getArticleCount(){
-        return articleRepository.count();
+    // 조회수와 인기 해시태그 집계는 메모리에 모으므로 트랜잭션(커넥션)을 열지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(ArticleDto articleDto) {
+        recordView(articleDto.id(), articleDto.hashtagDtos());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(ArticleWithCommentsDto articleDto) {
+        recordView(articleDto.id(), articleDto.hashtagDtos());
+    }
+
+    private void recordView(Long articleId, Set<HashtagDto> hashtagDtos) {
+        articleViewCounter.record(articleId);
+        if (hashtagDtos != null) {
+            hashtagTrendCounter.recordView(hashtagDtos.stream()
+                    .map(HashtagDto::hashtagName)
+                    .collect(Collectors.toUnmodifiableSet()));
+        }
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(ArticleDto::from);
+        if (sortsByCounter(pageable)) {
+            return articleRepository.findSummariesByHashtagNames(List.of(hashtagName), pageable);
+        }
+        return cached(ArticleSearchCache.Key.of(SearchType.HASHTAG, hashtagName, pageable), () -> {
+            if (articleSearchEngine.supports(SearchType.HASHTAG)) {
+                return findSummariesByIds(articleSearchEngine.search(SearchType.HASHTAG, hashtagName, pageable));
+            }
+            return articleRepository.findSummariesByHashtagNames(List.of(hashtagName), pageable);
+        });
     }
 
     public List<String> getHashTags(){
         return hashtagRepository.findAllHashtagNames(); // TODO:
     }
 
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
+    // 구간 안의 인기 해시태그 이름을 점수 순으로 반환한다. limit 에 못 미치면 게시글이 많은 해시태그 limit 개 안에서 채운다.
+    @Transactional(readOnly = true)
+    public List<String> getTrendingHashtags(TrendWindow trendWindow, int limit) {
+        List<String> trendingHashtags = hashtagTrendCounter.top(trendWindow, limit).stream()
+                .map(HashtagTrendDto::hashtagName)
+                .toList();
+        if (trendingHashtags.size() >= limit) {
+            return trendingHashtags;
+        }
+        return Stream.concat(trendingHashtags.stream(), hashtagRepository.findTopHashtagNames(PageRequest.ofSize(limit)).stream())
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    private Page<ArticleSummaryDto> loadArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        boolean noKeyword = searchKeyword == null || searchKeyword.isBlank();
 
-        // 내용에 있는 해시태그 파싱
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        // 파싱된 해시태그들중 repository 에 있는거 가져오기
+        // 제목, 본문, 해시태그 검색은 색인이 준비되어 있으면 DB 검색 대신 메모리 색인을 쓴다.
+        if (!noKeyword && !sortsByCounter(pageable) && articleSearchEngine.supports(searchType)) {
+            return findSummariesByIds(articleSearchEngine.search(searchType, searchKeyword, pageable));
+        }
 
-        Set<String> existingHashtagNames = hashtags.stream().map(Hashtag::getHashtagName)
-                .collect(Collectors.toUnmodifiableSet());
-        // 스트링으로 변환
+        // 전체 개수는 검색 조건의 비용에 따라 정확히 세거나, 캐시하거나, 몇 페이지 앞까지만 확인한다.
+        Predicate predicate = noKeyword ? new BooleanBuilder() : searchPredicate(searchType, searchKeyword);
+        return searchCountStrategy.page(
+                articleRepository.findSummaries(predicate, pageable),
+                pageable,
+                searchType,
+                searchKeyword,
+                () -> articleRepository.countArticles(predicate),
+                (offset, limit) -> articleRepository.countArticlesUpTo(predicate, offset, limit)
+        );
+    }
+
+    // 댓글 수, 조회수는 게시글 이벤트 없이 바뀌어서 색인과 캐시가 따라가지 못하므로, 이 값으로 정렬하면 DB 에서 한다.
+    private static boolean sortsByCounter(Pageable pageable) {
+        return pageable.getSort().getOrderFor("commentCount") != null
+                || pageable.getSort().getOrderFor("viewCount") != null;
+    }
 
-        hashtagNamesInContent.forEach(newHashtagName ->{
-            if(!existingHashtagNames.contains(newHashtagName)){
-                hashtags.add(Hashtag.of(newHashtagName));
+    // 캐시에는 id 페이지와 전체 개수만 있으므로, 적중하면 목록 컬럼만 다시 읽는다.
+    private Page<ArticleSummaryDto> cached(ArticleSearchCache.Key cacheKey, Supplier<Page<ArticleSummaryDto>> loader) {
+        Optional<Page<Long>> cachedArticleIds = articleSearchCache.get(cacheKey);
+        if (cachedArticleIds.isPresent()) {
+            return findSummariesByIds(cachedArticleIds.get());
+        }
+
+        long generation = articleSearchCache.generation();
+        Page<ArticleSummaryDto> articles = loader.get();
+        articleSearchCache.put(cacheKey, articles.map(ArticleSummaryDto::id), generation);
+        return articles;
+    }
+
+    // 키셋 페이징은 Spring Data 의 scroll 을 쓰므로 엔티티를 읽어서 요약으로 바꾼다.
+    private Window<ArticleSummaryDto> scrollArticles(Predicate predicate, ArticleCursor cursor, int size) {
+        return articleRepository.findBy(predicate, query -> query
+                        .sortBy(ArticleCursor.SORT)
+                        .limit(size)
+                        .scroll(cursor.toScrollPosition()))
+                .map(ArticleSummaryDto::from);
+    }
+
+    private Predicate searchPredicate(SearchType searchType, String searchKeyword) {
+        QArticle article = QArticle.article;
+        if (authorDirectory.supports(searchType)) {
+            Set<String> userIds = authorDirectory.findUserIds(searchType, searchKeyword);
+            if (userIds.size() <= MAX_AUTHOR_IDS) {
+                return article.userAccount.userId.in(userIds);
             }
-        });
-        // 내용에 있는 해시태그 파싱된것중 없는거 추가
+        }
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> hashtagPredicate(HashtagQuery.parse(searchKeyword));
+            case ALL -> allFieldsPredicate(searchKeyword);
+        };
+    }
 
-        return hashtags;
+    // 색인이 준비되기 전에 쓰는 전체 검색 조건. 관련도 점수 없이, 어느 필드에든 검색어가 있으면 걸린다.
+    private Predicate allFieldsPredicate(String searchKeyword) {
+        QArticle article = QArticle.article;
+        return new BooleanBuilder()
+                .or(article.title.contains(searchKeyword))
+                .or(article.content.contains(searchKeyword))
+                .or(article.userAccount.nickname.contains(searchKeyword))
+                .or(article.hashtags.any().hashtagName.eq(searchKeyword));
+    }
+
+    // 색인이 준비되기 전에 쓰는 해시태그 검색 조건. 색인 검색과 같은 AND / OR / NOT 규칙을 따른다.
+    private Predicate hashtagPredicate(HashtagQuery query) {
+        QArticle article = QArticle.article;
+        BooleanBuilder builder = new BooleanBuilder();
+        query.requiredGroups().forEach(group -> builder.and(article.hashtags.any().hashtagName.in(group)));
+        if (!query.excludedNames().isEmpty()) {
+            builder.andNot(article.hashtags.any().hashtagName.in(query.excludedNames()));
+        }
+        return builder;
+    }
+
+    // 색인에서 찾은 id 페이지 순서를 유지한 채 목록 컬럼을 채운다.
+    private Page<ArticleSummaryDto> findSummariesByIds(Page<Long> articleIds) {
+        return new PageImpl<>(articleRepository.findSummariesByIds(articleIds.getContent()), articleIds.getPageable(), articleIds.getTotalElements());
+    }
+
+    private Window<ArticleSummaryDto> findSummariesByIds(Window<Long> articleIds) {
+        List<ArticleSummaryDto> content = articleRepository.findSummariesByIds(articleIds.getContent());
+        return Window.from(content,
+                index -> ArticleCursor.of(content.get(index).createdAt(), content.get(index).id(), false).toScrollPosition(),
+                articleIds.hasNext());
+    }
+
+    /*
+     * 기존 해시태그 이름과 새 본문의 해시태그 이름을 비교해서, 빠진 해시태그와 새로 붙은 해시태그의 연결(article_hashtag 행)만 지우고 넣는다.
+     * 게시글 수도 바뀐 해시태그만 더하고 빼며, 게시글 수가 0 이 된 해시태그는 HashtagOrphanCollector 가 지운다.
+     */
+    private void updateHashtags(Article article, String content, String userId) {
+        Set<String> hashtagNames = hashtagService.parseHashtagNames(content);
+
+        Set<Hashtag> removedHashtags = article.getHashtags().stream()
+                .filter(hashtag -> !hashtagNames.contains(hashtag.getHashtagName()))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> existingHashtagNames = article.getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> addedHashtagNames = hashtagNames.stream()
+                .filter(hashtagName -> !existingHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
+
+        if (!removedHashtags.isEmpty()) {
+            article.removeHashtags(removedHashtags);
+            hashtagService.addArticleCount(hashtagIdsOf(removedHashtags), -1);
+        }
+
+        if (!addedHashtagNames.isEmpty()) {
+            Set<Hashtag> addedHashtags = hashtagService.resolveHashtags(addedHashtagNames, userId);
+            article.addHashtags(addedHashtags);
+            hashtagService.addArticleCount(hashtagIdsOf(addedHashtags), 1);
+        }
+    }
+
+    private static Set<Long> hashtagIdsOf(Article article) {
+        return hashtagIdsOf(article.getHashtags());
+    }
+
+    private static Set<Long> hashtagIdsOf(Collection<Hashtag> hashtags) {
+        return hashtags.stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toUnmodifiableSet());
     }
 }
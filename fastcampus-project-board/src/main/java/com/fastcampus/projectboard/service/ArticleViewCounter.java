@@ -0,0 +1,182 @@
+package com.fastcampus.projectboard.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 (write-behind)
+ * 조회할 때는 게시글별 {@link LongAdder} 만 올려서, 같은 게시글을 동시에 봐도 스레드끼리 다른 칸을 올리고 DB 행 잠금을 기다리지 않는다.
+ * flush 주기마다 모인 조회수를 게시글별로 합쳐 JDBC 배치 update 한 번으로 더한다.
+ * 아직 DB 에 들어가지 않은 조회수는 checkpoint 주기마다 {@link ViewCountJournal} 에 적어 두고, 재기동할 때 다시 읽어서 더한다.
+ * 저널을 고치기 전에 죽으면 마지막 flush 분이 두 번 더해질 수 있지만, 조회수라서 덜 세는 것보다 그쪽을 택한다.
+ */
+@Slf4j
+@Component
+public class ArticleViewCounter {
+    static final String ADD_VIEW_COUNT_SQL = "update article set view_count = view_count + ? where id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ViewCountJournal journal;
+
+    // 한 번 만든 LongAdder 는 지우지 않는다. 지우면 그 사이에 올린 조회수를 잃을 수 있고, 키는 게시글 수만큼만 생긴다.
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private Map<Long, Long> inFlight = Map.of();
+
+    private final LongAdder recordedCount = new LongAdder();
+    private final AtomicLong flushedCount = new AtomicLong();
+
+    @Autowired
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate,
+                              TransactionOperations transactionOperations,
+                              MeterRegistry meterRegistry,
+                              @Value("${board.view-count.journal-path:}") String journalPath,
+                              @Value("${board.data-dir:}") String dataDir,
+                              @Value("${board.instance-id:}") String instanceId) {
+        this(jdbcTemplate, transactionOperations, meterRegistry, journalPathOf(journalPath, dataDir, instanceId));
+    }
+
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate,
+                              TransactionOperations transactionOperations,
+                              MeterRegistry meterRegistry,
+                              Path journalPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.journal = new ViewCountJournal(journalPath);
+
+        Map<Long, Long> recovered = journal.read();
+        recovered.forEach(this::add);
+        if (!recovered.isEmpty()) {
+            log.info("조회수 저널 복구 - articles: {}", recovered.size());
+        }
+
+        FunctionCounter.builder("board.article.views", recordedCount, LongAdder::sum)
+                .description("기록한 게시글 조회 수").register(meterRegistry);
+        FunctionCounter.builder("board.article.views.flushed", flushedCount, AtomicLong::get)
+                .description("DB 에 더한 게시글 조회 수").register(meterRegistry);
+        Gauge.builder("board.article.views.pending", pending, map -> map.values().stream().mapToLong(LongAdder::sum).sum())
+                .description("아직 DB 에 더하지 않은 조회 수").register(meterRegistry);
+    }
+
+    public void record(Long articleId) {
+        add(articleId, 1L);
+        recordedCount.increment();
+    }
+
+    /*
+     * 모인 조회수를 꺼내 DB 에 더하고, 더한 게시글 수를 반환한다.
+     * LongAdder.sumThenReset 은 칸마다 getAndSet 으로 비우므로 꺼내는 도중에 올린 조회수도 다음 flush 로 넘어갈 뿐 사라지지 않는다.
+     * DB 에 더하지 못하면 다시 넣어 두고 다음 flush 때 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:PT10S}")
+    public synchronized int flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        inFlight = deltas;
+        checkpoint();
+        try {
+            List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+            transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, entries, BATCH_SIZE,
+                    (ps, entry) -> {
+                        ps.setLong(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    }));
+        } catch (DataAccessException e) {
+            deltas.forEach(this::add);
+            log.warn("조회수 반영 실패. 다음 주기에 다시 시도합니다 - articles: {}", deltas.size(), e);
+            return 0;
+        } finally {
+            inFlight = Map.of();
+        }
+
+        flushedCount.addAndGet(deltas.values().stream().mapToLong(Long::longValue).sum());
+        checkpoint();
+        return deltas.size();
+    }
+
+    // DB 에 아직 들어가지 않은 조회수(보내는 중인 것 포함)를 저널에 적는다.
+    @Scheduled(fixedDelayString = "${board.view-count.checkpoint-interval:PT1S}")
+    public synchronized void checkpoint() {
+        Map<Long, Long> snapshot = new HashMap<>(inFlight);
+        pending.forEach((articleId, adder) -> {
+            long count = adder.sum();
+            if (count != 0) {
+                snapshot.merge(articleId, count, Long::sum);
+            }
+        });
+        journal.write(snapshot);
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+        checkpoint();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((articleId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count != 0) {
+                deltas.put(articleId, count);
+            }
+        });
+        return deltas;
+    }
+
+    private void add(Long articleId, Long count) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).add(count);
+    }
+
+    /*
+     * 저널은 작업 디렉터리가 아니라 board.data-dir 아래에 두고, 같은 디렉터리를 쓰는 인스턴스끼리 섞이지 않게 파일 이름에 인스턴스 id 를 붙인다.
+     * 인스턴스 id 는 재기동해도 같아야 자기 저널을 다시 읽으므로, 지정하지 않으면 임의 값이 아니라 호스트 이름을 쓴다.
+     * board.data-dir 이 없으면 java.io.tmpdir 에 두지만, 재부팅할 때 지워질 수 있으므로 경고를 남긴다.
+     */
+    static Path journalPathOf(String journalPath, String dataDir, String instanceId) {
+        if (journalPath != null && !journalPath.isBlank()) {
+            return Path.of(journalPath);
+        }
+        String directory = dataDir;
+        if (directory == null || directory.isBlank()) {
+            directory = System.getProperty("java.io.tmpdir");
+            log.warn("board.data-dir 가 없어 조회수 저널을 임시 디렉터리에 둡니다. 재부팅하면 DB 에 더하지 않은 조회수를 잃을 수 있습니다 - dir: {}", directory);
+        }
+        String instance = instanceId == null || instanceId.isBlank() ? hostName() : instanceId;
+        return Path.of(directory, "view-counts-" + instance.replaceAll("[^A-Za-z0-9._-]", "_") + ".journal");
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fastcampus.projectboard.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 본문에서 해시태그 이름을 뽑는다.
+ * '#' 뒤에 이어지는 글자(모든 언어의 문자, 결합 문자, 숫자, '_')를 코드 포인트 단위로 한 번 훑으며 잘라낸다.
+ * '#' 바로 앞이 글자면("abc#tag") 해시태그로 보지 않는다. 다만 해시태그 바로 뒤에 붙은 '#' 은 이어지는 해시태그로 본다. ("#java#spring")
+ * 정규식 (?<![\p{L}\p{M}\p{Nd}_])(#[\p{L}\p{M}\p{Nd}_]+)+ 로 찾은 덩어리를 '#' 으로 나눈 것과 같다.
+ * 자모로 나뉘어 들어온 한글(NFD)도 음절로 찾도록 NFC 로 정규화하고, 코드 포인트 기준 maxLength 보다 긴 이름은 버린다.
+ * 이미 NFC 인 본문이면 결과 Set 과 이름 문자열 말고는 할당하지 않는다.
+ */
+@Component
+public class HashtagExtractor {
+    private final int maxLength;
+
+    public HashtagExtractor(@Value("${board.hashtag.max-length:50}") int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public Set<String> extract(String content) {
+        if (content == null || content.indexOf('#') < 0) {
+            return Set.of();
+        }
+        String text = Normalizer.isNormalized(content, Normalizer.Form.NFC)
+                ? content
+                : Normalizer.normalize(content, Normalizer.Form.NFC);
+
+        Set<String> hashtagNames = null;
+        int length = text.length();
+        int previousEnd = -1;
+        int hash = text.indexOf('#');
+        while (hash >= 0) {
+            int start = hash + 1;
+            int end = start;
+            int nameLength = 0;
+            if (hash == 0 || hash == previousEnd || !isHashtagCodePoint(text.codePointBefore(hash))) {
+                while (end < length) {
+                    int codePoint = text.codePointAt(end);
+                    if (!isHashtagCodePoint(codePoint)) {
+                        break;
+                    }
+                    end += Character.charCount(codePoint);
+                    nameLength++;
+                }
+            }
+            if (nameLength > 0) {
+                // 너무 길어서 버린 이름도 해시태그이므로, 바로 뒤에 붙은 '#' 은 이어지는 해시태그다.
+                previousEnd = end;
+                if (nameLength <= maxLength) {
+                    if (hashtagNames == null) {
+                        hashtagNames = new HashSet<>();
+                    }
+                    hashtagNames.add(text.substring(start, end));
+                }
+            }
+            hash = text.indexOf('#', end);
+        }
+        return hashtagNames == null ? Set.of() : Collections.unmodifiableSet(hashtagNames);
+    }
+
+    // 정규식의 [\p{L}\p{M}\p{Nd}_] 와 같다. 보조 평면 문자도 코드 포인트로 판단한다.
+    static boolean isHashtagCodePoint(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint) || codePoint == '_') {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+}
@@ -0,0 +1,100 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글이 없는 해시태그 정리 작업
+ * 게시글을 고치거나 지울 때는 해시태그의 게시글 수만 빼 두고, 게시글 수가 0 이 된 해시태그는 주기적으로 한 번에 지운다.
+ * 해시태그는 게시글과 같은 트랜잭션에서 만들어지고 게시글 수도 함께 더해지지만, 막 만들어진 해시태그는 여유를 두고 남긴다.
+ * 후보를 id 범위로 끊어 읽어 지우고, 지운 범위의 이름만 {@link HashtagResolver} 사전에서 뺀다.
+ * 게시글 수 보정은 해시태그 id 범위를 끊어 가며 하고, 범위마다 트랜잭션을 따로 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagOrphanCollector {
+    static final int BATCH_SIZE = 500;
+    static final Duration GRACE_PERIOD = Duration.ofMinutes(10);
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagResolver hashtagResolver;
+
+    // 초기 데이터(data.sql)는 게시글 수 없이 들어가므로, 기동할 때 게시글 수를 맞춘 다음 정리한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAndCollect() {
+        reconcile();
+        collect();
+    }
+
+    @Scheduled(cron = "${board.hashtag.orphan-collect-cron:0 0 * * * *}")
+    public void collectOrphans() {
+        collect();
+    }
+
+    // 지운 해시태그 수를 반환한다.
+    public int collect() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(GRACE_PERIOD);
+        long lastHashtagId = 0L;
+        int deletedCount = 0;
+
+        while (true) {
+            List<HashtagRepository.OrphanCandidate> candidates =
+                    hashtagRepository.findOrphanCandidatesAfter(lastHashtagId, createdBefore, PageRequest.ofSize(BATCH_SIZE));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            Map<Long, String> hashtagNames = candidates.stream()
+                    .collect(Collectors.toMap(HashtagRepository.OrphanCandidate::getId, HashtagRepository.OrphanCandidate::getHashtagName));
+            int deleted = hashtagRepository.deleteOrphans(hashtagNames.keySet());
+            if (deleted > 0) {
+                // 후보 중 그 사이에 다시 쓰여 남은 이름도 함께 빠지지만, 다음에 한 번 더 찾으면 된다.
+                hashtagResolver.evict(hashtagNames.values());
+            }
+            deletedCount += deleted;
+            lastHashtagId = candidates.get(candidates.size() - 1).getId();
+            if (candidates.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        log.info("게시글 없는 해시태그 정리 완료 - deleted: {}", deletedCount);
+        return deletedCount;
+    }
+
+    // 고친 해시태그 수를 반환한다.
+    public int reconcile() {
+        long lastHashtagId = 0L;
+        int repairedCount = 0;
+
+        while (true) {
+            List<Long> hashtagIds = hashtagRepository.findIdsAfter(lastHashtagId, PageRequest.ofSize(BATCH_SIZE));
+            if (hashtagIds.isEmpty()) {
+                break;
+            }
+
+            Long untilId = hashtagIds.get(hashtagIds.size() - 1);
+            repairedCount += hashtagRepository.reconcileArticleCounts(lastHashtagId, untilId);
+            lastHashtagId = untilId;
+            if (hashtagIds.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        log.info("해시태그 게시글 수 보정 완료 - repaired: {}", repairedCount);
+        return repairedCount;
+    }
+}
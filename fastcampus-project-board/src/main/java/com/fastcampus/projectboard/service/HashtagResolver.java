@@ -0,0 +1,224 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 해시태그 이름 -> id 변환
+ * 처음 보는 이름만 한 번에 DB 에서 찾고, 없는 이름은 호출한 쪽(게시글 저장) 트랜잭션의 커넥션으로 넣는다. 커넥션을 하나 더 빌리지 않는다.
+ * PostgreSQL 은 on conflict do nothing 으로 넣어서, 같은 이름을 동시에 넣어도 먼저 커밋된 행을 기다렸다가 다시 읽는다.
+ * 다른 DB 는 없을 때만 넣고, 그래도 유니크 인덱스에 걸리면 다시 읽는다.
+ * 사전에는 커밋된 id 만 넣는다. 새로 넣은 해시태그는 트랜잭션이 커밋된 뒤에 넣는다.
+ * 사전에 있는 이름은 DB 를 거치지 않는다. {@link HashtagOrphanCollector} 는 지운 이름만 사전에서 빼고,
+ * 그 사이에 꺼낸 id 로 게시글 저장이 외래 키에 걸려 롤백되면 그 트랜잭션에서 넘겨준 이름을 사전에서 빼서 다시 시도할 때는 DB 에서 찾게 한다.
+ */
+@Slf4j
+@Component
+public class HashtagResolver {
+    private static final String SELECT_IDS_SQL = "select id, hashtag_name from hashtag where hashtag_name in (:names)";
+    static final String INSERT_ON_CONFLICT_DO_NOTHING_SQL = """
+            insert into hashtag (hashtag_name, article_count, created_at, created_by, modified_at, modified_by)
+            values (:name, 0, :now, :userId, :now, :userId)
+            on conflict (hashtag_name) do nothing
+            """;
+    static final String INSERT_IF_ABSENT_SQL = """
+            insert into hashtag (hashtag_name, article_count, created_at, created_by, modified_at, modified_by)
+            select :name, 0, :now, :userId, :now, :userId
+            where not exists (select 1 from hashtag where hashtag_name = :name)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertSql;
+    private final int maxSize;
+    private final Map<String, Long> hashtagIds = new ConcurrentHashMap<>();
+
+    // 해시태그가 지워질 때마다 증가한다. 찾는 도중 삭제가 끼어들면 찾은 id 는 사전에 넣지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public HashtagResolver(NamedParameterJdbcTemplate jdbcTemplate,
+                           DataSource dataSource,
+                           @Value("${board.hashtag.id-cache.max-size:100000}") int maxSize) {
+        this(jdbcTemplate, insertSqlFor(dataSource), maxSize);
+    }
+
+    HashtagResolver(NamedParameterJdbcTemplate jdbcTemplate, String insertSql, int maxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = insertSql;
+        this.maxSize = maxSize;
+    }
+
+    // 이름마다 해시태그 id 를 반환한다. 없는 해시태그는 userId 를 생성자로 해서 만든다.
+    public Map<String, Long> resolve(Set<String> hashtagNames, String userId) {
+        long expectedGeneration = generation.get();
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missingNames = new HashSet<>();
+        for (String hashtagName : hashtagNames) {
+            Long hashtagId = hashtagIds.get(hashtagName);
+            if (hashtagId == null) {
+                missingNames.add(hashtagName);
+            } else {
+                resolved.put(hashtagName, hashtagId);
+            }
+        }
+        if (missingNames.isEmpty()) {
+            forgetOnRollback(resolved);
+            return resolved;
+        }
+
+        Map<String, Long> found = findIds(missingNames);
+        found.forEach((hashtagName, hashtagId) -> remember(hashtagName, hashtagId, expectedGeneration));
+        resolved.putAll(found);
+        forgetOnRollback(resolved);
+
+        Set<String> absentNames = new HashSet<>(missingNames);
+        absentNames.removeAll(found.keySet());
+        if (!absentNames.isEmpty()) {
+            Map<String, Long> inserted = insert(absentNames, userId);
+            rememberAfterCommit(inserted, expectedGeneration);
+            resolved.putAll(inserted);
+        }
+        return resolved;
+    }
+
+    public void evict(String hashtagName) {
+        generation.incrementAndGet();
+        hashtagIds.remove(hashtagName);
+    }
+
+    // 정리 작업이 지운 이름들. 사전의 나머지 이름은 그대로 둔다.
+    public void evict(Collection<String> hashtagNames) {
+        generation.incrementAndGet();
+        hashtagNames.forEach(hashtagIds::remove);
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        hashtagIds.clear();
+    }
+
+    // REST API(/api/hashtags)로 지운 해시태그
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent event) {
+        if (event.getSource() instanceof Hashtag hashtag) {
+            evict(hashtag.getHashtagName());
+        }
+    }
+
+    public int size() {
+        return hashtagIds.size();
+    }
+
+    // 넣은 뒤 이름으로 다시 읽으면, 직접 넣은 행과 다른 요청이 먼저 넣은 행의 id 를 함께 얻는다.
+    private Map<String, Long> insert(Set<String> hashtagNames, String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] params = hashtagNames.stream()
+                .map(hashtagName -> new MapSqlParameterSource()
+                        .addValue("name", hashtagName)
+                        .addValue("now", now)
+                        .addValue("userId", userId))
+                .toArray(SqlParameterSource[]::new);
+        try {
+            jdbcTemplate.batchUpdate(insertSql, params);
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 같은 이름을 먼저 넣고 커밋했다. 배치가 중간에 멈췄을 수 있으므로 한 건씩 다시 넣는다.
+            log.debug("해시태그 동시 생성 - hashtagNames: {}", hashtagNames);
+            for (SqlParameterSource param : params) {
+                try {
+                    jdbcTemplate.update(insertSql, param);
+                } catch (DuplicateKeyException ignored) {
+                    // 이 이름은 이미 있다.
+                }
+            }
+        }
+
+        Map<String, Long> inserted = findIds(hashtagNames);
+        if (inserted.size() != hashtagNames.size()) {
+            throw new IllegalStateException("해시태그를 만들지 못했습니다 - hashtagNames: " + hashtagNames);
+        }
+        return inserted;
+    }
+
+    private Map<String, Long> findIds(Set<String> hashtagNames) {
+        Map<String, Long> found = new HashMap<>();
+        jdbcTemplate.query(SELECT_IDS_SQL, Map.of("names", hashtagNames),
+                rs -> {
+                    found.put(rs.getString("hashtag_name"), rs.getLong("id"));
+                });
+        return found;
+    }
+
+    // 트랜잭션 안에서 넣은 행은 롤백될 수 있으므로, 커밋된 뒤에 사전에 넣는다.
+    private void rememberAfterCommit(Map<String, Long> inserted, long expectedGeneration) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inserted.forEach((hashtagName, hashtagId) -> remember(hashtagName, hashtagId, expectedGeneration));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inserted.forEach((hashtagName, hashtagId) -> remember(hashtagName, hashtagId, expectedGeneration));
+            }
+        });
+    }
+
+    /*
+     * 넘겨준 id 가 그 사이에 지워졌으면 게시글 저장이 외래 키에 걸려 롤백된다. 어떤 이름 때문인지 모르므로 넘겨준 이름을 모두 뺀다.
+     * 이 트랜잭션에서 새로 넣은 해시태그는 아직 사전에 없으므로 빼도 상관없다.
+     */
+    private void forgetOnRollback(Map<String, Long> resolved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Map<String, Long> handedOut = Map.copyOf(resolved);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    handedOut.forEach(hashtagIds::remove);
+                }
+            }
+        });
+    }
+
+    private void remember(String hashtagName, Long hashtagId, long expectedGeneration) {
+        if (hashtagIds.size() >= maxSize || generation.get() != expectedGeneration) {
+            return;
+        }
+        hashtagIds.put(hashtagName, hashtagId);
+        // 넣는 사이에 삭제가 끼어들었으면 지운 id 일 수 있으므로 도로 뺀다.
+        if (generation.get() != expectedGeneration) {
+            hashtagIds.remove(hashtagName, hashtagId);
+        }
+    }
+
+    private static String insertSqlFor(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(productName) ? INSERT_ON_CONFLICT_DO_NOTHING_SQL : INSERT_IF_ABSENT_SQL;
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류를 알 수 없어 해시태그를 없을 때만 넣습니다 - {}", e.getLocalizedMessage());
+            return INSERT_IF_ABSENT_SQL;
+        }
+    }
+}
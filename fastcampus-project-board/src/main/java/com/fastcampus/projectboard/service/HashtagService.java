@@ -7,10 +7,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -18,19 +18,11 @@ import java.util.regex.Pattern;
 public class HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final HashtagExtractor hashtagExtractor;
+    private final HashtagResolver hashtagResolver;
 
     public Set<String> parseHashtagNames(String content) {
-        if (content == null) {
-            return Set.of();
-        }
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
-        while(matcher.find()){
-            result.add(matcher.group().replace("#", ""));
-        }
-        return Set.copyOf(result);
-
+        return hashtagExtractor.extract(content);
     }
 
 
@@ -41,10 +33,21 @@ public class HashtagService {
 
     }
 
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
+    // 이름마다 해시태그를 찾거나 만들고, SELECT 없이 id 만으로 만든 참조를 반환한다.
+    public Set<Hashtag> resolveHashtags(Set<String> hashtagNames, String userId) {
+        if (hashtagNames.isEmpty()) {
+            return new HashSet<>();
+        }
+        return hashtagResolver.resolve(hashtagNames, userId).values().stream()
+                .map(hashtagRepository::getReferenceById)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    // 게시글과 해시태그의 연결(article_hashtag)을 바꾼 트랜잭션 안에서, 바뀐 해시태그들의 게시글 수를 함께 더하고 뺀다.
+    public void addArticleCount(Collection<Long> hashtagIds, long delta) {
+        if (hashtagIds.isEmpty() || delta == 0) {
+            return;
         }
+        hashtagRepository.addArticleCount(hashtagIds, delta);
     }
 }
@@ -0,0 +1,175 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.type.TrendWindow;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.HashtagTrendDto;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 인기 해시태그 집계
+ * 구간(TrendWindow)마다 bucket 링 버퍼를 두고, bucket 마다 해시태그별 횟수와 구간 전체 합계를 함께 들고 있다.
+ * 횟수를 더할 때는 현재 bucket 과 합계만 고치고, 시간이 지나 bucket 이 밀려나면 그 bucket 의 횟수를 합계에서 뺀다.
+ * 그래서 기록은 O(1) 이고, 상위 k 개는 합계만 훑어서 구하며 article_hashtag 를 집계하는 쿼리는 쓰지 않는다.
+ * 게시글이 작성되거나 수정으로 해시태그가 새로 붙을 때 1 씩 세고, board.hashtag-trend.view-weight 를 주면 조회도 그만큼 센다.
+ * 메모리에만 있으므로 기동할 때 최근 1주 게시글의 해시태그로 다시 채운다.
+ */
+@Slf4j
+@Component
+public class HashtagTrendCounter {
+    private final ArticleRepository articleRepository;
+    private final long viewWeight;
+    private final Map<TrendWindow, SlidingWindow> windows = new EnumMap<>(TrendWindow.class);
+
+    public HashtagTrendCounter(ArticleRepository articleRepository,
+                               @Value("${board.hashtag-trend.view-weight:0}") long viewWeight) {
+        this.articleRepository = articleRepository;
+        this.viewWeight = viewWeight;
+        for (TrendWindow window : TrendWindow.values()) {
+            windows.put(window, new SlidingWindow(window));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = Instant.now();
+        LocalDateTime since = LocalDateTime.ofInstant(now.minus(TrendWindow.WEEK.getLength()), ZoneId.systemDefault());
+        List<ArticleRepository.HashtagUsage> usages = articleRepository.findHashtagUsagesSince(since);
+        synchronized (this) {
+            usages.forEach(usage -> add(usage.getHashtagName(), 1,
+                    usage.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant(), now));
+        }
+        log.info("인기 해시태그 집계 적재 완료 - usages: {}", usages.size());
+    }
+
+    // 삭제나 해시태그를 뺀 수정은 세지 않는다. 이미 쓰인 횟수는 구간이 지나면 저절로 빠진다.
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED -> record(event.document().hashtagNames(), 1, Instant.now());
+            case UPDATED -> record(addedHashtagNames(event.previousDocument(), event.document()), 1, Instant.now());
+            case DELETED -> {
+            }
+        }
+    }
+
+    public void recordView(Set<String> hashtagNames) {
+        if (viewWeight > 0) {
+            record(hashtagNames, viewWeight, Instant.now());
+        }
+    }
+
+    public List<HashtagTrendDto> top(TrendWindow window, int limit) {
+        return top(window, limit, Instant.now());
+    }
+
+    synchronized void record(Collection<String> hashtagNames, long weight, Instant now) {
+        if (hashtagNames == null) {
+            return;
+        }
+        hashtagNames.forEach(hashtagName -> add(hashtagName, weight, now, now));
+    }
+
+    // 점수 내림차순, 같으면 이름 순. 크기 limit 인 최소 힙으로 합계를 한 번만 훑는다.
+    synchronized List<HashtagTrendDto> top(TrendWindow window, int limit, Instant now) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        SlidingWindow slidingWindow = windows.get(window);
+        slidingWindow.advance(now);
+
+        Comparator<HashtagTrendDto> order = Comparator.comparingLong(HashtagTrendDto::score).reversed()
+                .thenComparing(HashtagTrendDto::hashtagName);
+        PriorityQueue<HashtagTrendDto> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        slidingWindow.totals.forEach((hashtagName, score) -> {
+            heap.add(HashtagTrendDto.of(hashtagName, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        List<HashtagTrendDto> trends = new ArrayList<>(heap);
+        trends.sort(order);
+        return trends;
+    }
+
+    private void add(String hashtagName, long weight, Instant at, Instant now) {
+        windows.values().forEach(window -> window.add(hashtagName, weight, at, now));
+    }
+
+    private static Set<String> addedHashtagNames(ArticleDocument previous, ArticleDocument current) {
+        if (current.hashtagNames() == null) {
+            return Set.of();
+        }
+        Set<String> added = new HashSet<>(current.hashtagNames());
+        if (previous != null && previous.hashtagNames() != null) {
+            added.removeAll(previous.hashtagNames());
+        }
+        return added;
+    }
+
+    private static final class SlidingWindow {
+        private final long bucketMillis;
+        private final Map<String, Long>[] buckets;
+        private final Map<String, Long> totals = new HashMap<>();
+        private long currentEpoch = Long.MIN_VALUE;
+
+        @SuppressWarnings("unchecked")
+        SlidingWindow(TrendWindow window) {
+            this.bucketMillis = window.getBucket().toMillis();
+            this.buckets = new Map[window.bucketCount()];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new HashMap<>();
+            }
+        }
+
+        // 구간을 벗어난 시각(너무 오래됐거나 미래)의 기록은 버린다.
+        void add(String hashtagName, long weight, Instant at, Instant now) {
+            advance(now);
+            long epoch = Math.floorDiv(at.toEpochMilli(), bucketMillis);
+            if (epoch > currentEpoch || epoch <= currentEpoch - buckets.length) {
+                return;
+            }
+            buckets[slot(epoch)].merge(hashtagName, weight, Long::sum);
+            totals.merge(hashtagName, weight, Long::sum);
+        }
+
+        // 현재 bucket 을 now 로 옮기면서, 그 사이 밀려난 bucket 의 횟수를 합계에서 뺀다.
+        void advance(Instant now) {
+            long epoch = Math.floorDiv(now.toEpochMilli(), bucketMillis);
+            if (epoch <= currentEpoch) {
+                return;
+            }
+            if (currentEpoch == Long.MIN_VALUE || epoch - currentEpoch >= buckets.length) {
+                Arrays.stream(buckets).forEach(Map::clear);
+                totals.clear();
+            } else {
+                for (long expired = currentEpoch + 1; expired <= epoch; expired++) {
+                    Map<String, Long> bucket = buckets[slot(expired)];
+                    bucket.forEach((hashtagName, count) -> {
+                        if (totals.merge(hashtagName, -count, Long::sum) <= 0) {
+                            totals.remove(hashtagName);
+                        }
+                    });
+                    bucket.clear();
+                }
+            }
+            currentEpoch = epoch;
+        }
+
+        private int slot(long epoch) {
+            return (int) Math.floorMod(epoch, (long) buckets.length);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.fastcampus.projectboard.service;
 
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.response.ArticleCursorsResponse;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,4 +22,29 @@ public class PaginationService {
     public int currentBarLength(){
         return BAR_LENGTH;
     }
+
+    /*
+     * 키셋 페이징의 이전, 다음 커서
+     * 뒤로 이동한 window 의 hasNext 는 더 이전 페이지가 있는지를 뜻한다.
+     */
+    public ArticleCursorsResponse getCursors(ArticleCursor currentCursor, Window<?> window) {
+        if (window.isEmpty()) {
+            // 현재 위치를 기준으로 왔던 방향으로만 돌아갈 수 있다.
+            if (currentCursor.isFirst()) {
+                return ArticleCursorsResponse.of(null, null);
+            }
+            String returnCursor = currentCursor.reversed().encode();
+            return currentCursor.backward()
+                    ? ArticleCursorsResponse.of(null, returnCursor)
+                    : ArticleCursorsResponse.of(returnCursor, null);
+        }
+
+        boolean hasPrevious = currentCursor.backward() ? window.hasNext() : !currentCursor.isFirst();
+        boolean hasNext = currentCursor.backward() || window.hasNext();
+
+        String previousCursor = hasPrevious ? ArticleCursor.from(window.positionAt(0), true).encode() : null;
+        String nextCursor = hasNext ? ArticleCursor.from(window.positionAt(window.size() - 1), false).encode() : null;
+
+        return ArticleCursorsResponse.of(previousCursor, nextCursor);
+    }
 }
@@ -0,0 +1,133 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.EstimatedPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 검색 결과의 전체 개수를 구하는 방법
+ * EXACT  : 싼 조건(전체 목록, 해시태그)은 그대로 count 한다.
+ * CACHED : 작성자 검색처럼 같은 검색이 반복되는 조건은 정확한 개수를 TTL 동안 재사용한다.
+ * PROBE  : 제목, 본문 LIKE 처럼 비싼 조건은 현재 위치부터 N 페이지 + 1 건까지만 세어 보고, 넘치면 근사치로 둔다.
+ */
+@Component
+public class SearchCountStrategy {
+    private static final int MAX_CACHED_COUNTS = 1_000;
+
+    private final PaginationService paginationService;
+    private final long countTtlNanos;
+    private final Map<CountKey, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    public SearchCountStrategy(PaginationService paginationService,
+                               @Value("${board.search-count.ttl:60s}") Duration countTtl) {
+        this.paginationService = paginationService;
+        this.countTtlNanos = countTtl.toNanos();
+    }
+
+    public enum Mode {
+        EXACT, CACHED, PROBE
+    }
+
+    /**
+     * 현재 위치부터 최대 limit 건까지 세는 쿼리
+     */
+    @FunctionalInterface
+    public interface ProbeCounter {
+        long countUpTo(long offset, int limit);
+    }
+
+    public Mode modeOf(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return Mode.EXACT;
+        }
+        return switch (searchType) {
+            case HASHTAG -> Mode.EXACT;
+            case ID, NICKNAME -> Mode.CACHED;
+            case TITLE, CONTENT, ALL -> Mode.PROBE;
+        };
+    }
+
+    public <T> EstimatedPage<T> page(List<T> content, Pageable pageable,
+                                     SearchType searchType, String searchKeyword,
+                                     LongSupplier exactCounter, ProbeCounter probeCounter) {
+        // 현재 페이지가 덜 찼으면 개수를 세지 않아도 전체 개수를 안다.
+        if (pageable.isUnpaged() || (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty()))) {
+            long offset = pageable.isUnpaged() ? 0 : pageable.getOffset();
+            return EstimatedPage.of(content, pageable, offset + content.size(), false);
+        }
+
+        return switch (modeOf(searchType, searchKeyword)) {
+            case EXACT -> EstimatedPage.of(content, pageable, exactCounter.getAsLong(), false);
+            case CACHED -> EstimatedPage.of(content, pageable, cachedCount(searchType, searchKeyword, exactCounter), false);
+            case PROBE -> probe(content, pageable, searchType, searchKeyword, probeCounter);
+        };
+    }
+
+    /*
+     * 페이지 바가 보여주는 만큼(BAR_LENGTH 페이지) 앞까지만 센다.
+     * 한도를 다 채우면 뒤에 더 있다는 뜻이므로, 한도 + 1 건을 근사 전체 개수로 둔다.
+     * 결과보다 뒤쪽 페이지면 offset 뒤에 아무것도 없다는 것만 알 뿐 전체 개수는 모르므로, 처음부터 다시 센다.
+     */
+    private <T> EstimatedPage<T> probe(List<T> content, Pageable pageable,
+                                       SearchType searchType, String searchKeyword, ProbeCounter probeCounter) {
+        CachedCount cached = cachedCounts.get(CountKey.of(searchType, searchKeyword));
+        if (cached != null && !cached.isExpired()) {
+            return EstimatedPage.of(content, pageable, cached.count(), false);
+        }
+
+        int limit = paginationService.currentBarLength() * pageable.getPageSize() + 1;
+        long offset = pageable.getOffset();
+        long found = probeCounter.countUpTo(offset, limit);
+        if (found == 0 && offset > 0) {
+            offset = 0;
+            found = probeCounter.countUpTo(offset, limit);
+        }
+        if (found < limit) {
+            long total = offset + found;
+            cache(CountKey.of(searchType, searchKeyword), total);
+            return EstimatedPage.of(content, pageable, total, false);
+        }
+        return EstimatedPage.of(content, pageable, offset + limit, true);
+    }
+
+    private long cachedCount(SearchType searchType, String searchKeyword, LongSupplier exactCounter) {
+        CountKey key = CountKey.of(searchType, searchKeyword);
+        CachedCount cached = cachedCounts.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.count();
+        }
+        long count = exactCounter.getAsLong();
+        cache(key, count);
+        return count;
+    }
+
+    private void cache(CountKey key, long count) {
+        if (cachedCounts.size() >= MAX_CACHED_COUNTS) {
+            cachedCounts.values().removeIf(CachedCount::isExpired);
+            if (cachedCounts.size() >= MAX_CACHED_COUNTS) {
+                cachedCounts.clear();
+            }
+        }
+        cachedCounts.put(key, new CachedCount(count, System.nanoTime() + countTtlNanos));
+    }
+
+    private record CountKey(SearchType searchType, String searchKeyword) {
+        static CountKey of(SearchType searchType, String searchKeyword) {
+            return new CountKey(searchType, searchKeyword.strip());
+        }
+    }
+
+    private record CachedCount(long count, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
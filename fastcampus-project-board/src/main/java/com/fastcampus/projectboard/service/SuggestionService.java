@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.SuggestionDto;
+import com.fastcampus.projectboard.service.search.ArticleIndexer;
+import com.fastcampus.projectboard.service.search.HashtagQuery;
+import com.fastcampus.projectboard.service.search.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 검색창 자동완성과 오타 교정
+ * DB 를 보지 않고 메모리 색인만 쓰므로, 색인 적재가 끝나기 전에는 후보가 없다.
+ */
+@RequiredArgsConstructor
+@Service
+public class SuggestionService {
+    public static final int MAX_LIMIT = 20;
+    private static final int DID_YOU_MEAN_LIMIT = 3;
+
+    private final ArticleIndexer articleIndexer;
+    private final SuggestionIndex suggestionIndex;
+
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        if (!articleIndexer.isReady()) {
+            return List.of();
+        }
+        return suggestionIndex.suggest(prefix, Math.min(limit, MAX_LIMIT));
+    }
+
+    /*
+     * 검색 결과가 없을 때 보여줄 오타 교정 후보 (해시태그, 닉네임 검색만)
+     * 해시태그는 태그 하나만 검색한 경우에만 고쳐 본다.
+     */
+    public List<SuggestionDto> didYouMean(SearchType searchType, String searchKeyword) {
+        if (!articleIndexer.isReady() || searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return List.of();
+        }
+        return switch (searchType) {
+            case HASHTAG -> {
+                HashtagQuery query = HashtagQuery.parse(searchKeyword);
+                boolean singleHashtag = query.excludedNames().isEmpty()
+                        && query.requiredGroups().size() == 1
+                        && query.requiredGroups().get(0).size() == 1;
+                yield singleHashtag
+                        ? suggestionIndex.didYouMean(SearchType.HASHTAG, query.requiredGroups().get(0).iterator().next(), DID_YOU_MEAN_LIMIT)
+                        : List.of();
+            }
+            case NICKNAME -> suggestionIndex.didYouMean(SearchType.NICKNAME, searchKeyword, DID_YOU_MEAN_LIMIT);
+            default -> List.of();
+        };
+    }
+}
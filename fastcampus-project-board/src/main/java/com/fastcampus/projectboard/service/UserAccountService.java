@@ -3,8 +3,10 @@ package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ import java.util.Optional;
 @Service
 public class UserAccountService {
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username){
@@ -24,7 +27,11 @@ public class UserAccountService {
     }
 
     public UserAccountDto saveUser(String username, String password, String email, String nickname,String memo) {
+        UserAccount savedUserAccount = userAccountRepository.save(UserAccount.of(username, password, email, nickname, memo, username));
 
-        return UserAccountDto.from(userAccountRepository.save(UserAccount.of(username, password, email, nickname, memo, username)));
+        // 작성자 목록(AuthorDirectory)이 가입, 닉네임 변경을 반영하도록 알린다.
+        eventPublisher.publishEvent(UserAccountEvent.of(savedUserAccount.getUserId(), savedUserAccount.getNickname()));
+
+        return UserAccountDto.from(savedUserAccount);
     }
 }
@@ -0,0 +1,83 @@
+package com.fastcampus.projectboard.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 에 아직 더하지 않은 조회수를 적어 두는 로컬 파일
+ * 한 줄에 "게시글 id 조회수" 를 적고, 임시 파일에 쓴 뒤 원자적으로 바꿔치기해서 쓰다가 죽어도 이전 내용이 남는다.
+ * 비어 있으면 파일을 지운다.
+ */
+@Slf4j
+final class ViewCountJournal {
+    private final Path path;
+    private boolean empty;
+
+    ViewCountJournal(Path path) {
+        this.path = path;
+        this.empty = !Files.exists(path);
+    }
+
+    // 읽을 수 없는 줄은 건너뛴다.
+    Map<Long, Long> read() {
+        Map<Long, Long> deltas = new HashMap<>();
+        if (!Files.exists(path)) {
+            return deltas;
+        }
+        try {
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] tokens = line.strip().split(" ");
+                if (tokens.length != 2) {
+                    continue;
+                }
+                try {
+                    deltas.merge(Long.valueOf(tokens[0]), Long.valueOf(tokens[1]), Long::sum);
+                } catch (NumberFormatException e) {
+                    log.warn("조회수 저널의 잘못된 줄을 건너뜁니다 - line: {}", line);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("조회수 저널을 읽지 못했습니다 - path: {}", path, e);
+        }
+        return deltas;
+    }
+
+    void write(Map<Long, Long> deltas) {
+        if (deltas.isEmpty() && empty) {
+            return;
+        }
+        try {
+            if (deltas.isEmpty()) {
+                Files.deleteIfExists(path);
+            } else {
+                Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                     BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+                    for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                        writer.write(entry.getKey() + " " + entry.getValue());
+                        writer.newLine();
+                    }
+                    writer.flush();
+                    channel.force(true);
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            empty = deltas.isEmpty();
+        } catch (IOException e) {
+            log.warn("조회수 저널을 쓰지 못했습니다 - path: {}", path, e);
+        }
+    }
+}
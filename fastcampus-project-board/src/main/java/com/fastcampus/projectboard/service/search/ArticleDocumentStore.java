@@ -0,0 +1,158 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 색인 검색 결과를 정렬, 페이징 하기 위한 게시글 요약 저장소
+ * 검색 결과 id 가 많아도 DB 에는 현재 페이지의 id 만 넘기고, 결과 전체를 정렬하지 않고 현재 페이지까지만 골라낸다.
+ */
+@Component
+public class ArticleDocumentStore implements ArticleIndex {
+    private static final Set<String> HASHTAG_PROPERTIES = Set.of("hashtags", "hashtags.hashtagName");
+
+    private final Map<Long, ArticleDocument> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public void index(ArticleDocument document) {
+        documents.put(document.id(), document.withoutContent());
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        documents.remove(articleId);
+    }
+
+    @Override
+    public void clear() {
+        documents.clear();
+    }
+
+    public Optional<ArticleDocument> find(Long articleId) {
+        return Optional.ofNullable(documents.get(articleId));
+    }
+
+    // 정렬한 결과 중 현재 페이지까지(offset + size)만 힙에 남기므로, 결과 전체를 정렬하지 않는다.
+    public Page<Long> page(Collection<Long> articleIds, Pageable pageable) {
+        Comparator<ArticleDocument> comparator = comparator(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            List<Long> sorted = articleIds.stream()
+                    .map(documents::get)
+                    .filter(Objects::nonNull)
+                    .sorted(comparator)
+                    .map(ArticleDocument::id)
+                    .toList();
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        Head head = head(articleIds, document -> true, comparator, (int) Math.min(limit, Integer.MAX_VALUE));
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), head.documents().size());
+        return new PageImpl<>(
+                head.documents().subList(fromIndex, head.documents().size()).stream().map(ArticleDocument::id).toList(),
+                pageable,
+                head.matchedCount()
+        );
+    }
+
+    /*
+     * 키셋 페이징: (createdAt, id) 내림차순에서 커서 다음(또는 이전) 위치부터 size 개를 가져온다.
+     * 다음 페이지가 있는지 알기 위해 size + 1 개만 힙에 남긴다.
+     */
+    public Window<Long> scroll(Collection<Long> articleIds, ArticleCursor cursor, int size) {
+        Comparator<ArticleDocument> comparator = comparator(ArticleCursor.SORT);
+        ArticleDocument position = cursor.isFirst()
+                ? null
+                : ArticleDocument.of(cursor.id(), null, null, null, null, Set.of(), cursor.createdAt());
+
+        // 뒤로 갈 때는 역순에서 커서에 가장 가까운 size 개를 고른 뒤, 다시 내림차순으로 뒤집는다.
+        Comparator<ArticleDocument> direction = cursor.backward() ? comparator.reversed() : comparator;
+        Head head = head(articleIds,
+                document -> position == null || direction.compare(document, position) > 0,
+                direction, size + 1);
+
+        boolean hasNext = head.documents().size() > size;
+        List<ArticleDocument> window = new ArrayList<>(head.documents().subList(0, Math.min(size, head.documents().size())));
+        if (cursor.backward()) {
+            Collections.reverse(window);
+        }
+        return Window.from(
+                window.stream().map(ArticleDocument::id).toList(),
+                index -> ArticleCursor.of(window.get(index).createdAt(), window.get(index).id(), false).toScrollPosition(),
+                hasNext
+        );
+    }
+
+    // comparator 순서에서 앞쪽 limit 개를 정렬해서 돌려준다. 크기 limit 인 최대 힙을 쓰므로 O(n log limit) 이다.
+    private Head head(Collection<Long> articleIds, Predicate<ArticleDocument> filter, Comparator<ArticleDocument> comparator, int limit) {
+        PriorityQueue<ArticleDocument> heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, comparator.reversed());
+        int matchedCount = 0;
+        for (Long articleId : articleIds) {
+            ArticleDocument document = documents.get(articleId);
+            if (document == null || !filter.test(document)) {
+                continue;
+            }
+            matchedCount++;
+            if (heap.size() < limit) {
+                heap.add(document);
+            } else if (limit > 0 && comparator.compare(document, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(document);
+            }
+        }
+
+        List<ArticleDocument> sorted = new ArrayList<>(heap);
+        sorted.sort(comparator);
+        return new Head(sorted, matchedCount);
+    }
+
+    /*
+     * 게시판에서 쓰는 정렬 속성만 지원한다.
+     * 해시태그 정렬은 DB 와 같이 오름차순이면 가장 앞선 이름, 내림차순이면 가장 뒤의 이름으로 비교하고, 해시태그가 없는 글은 가장 큰 값으로 본다.
+     * 지원하지 않는 속성은 무시하고, 마지막엔 항상 작성일 , id 내림차순으로 순서를 고정한다.
+     */
+    static Comparator<ArticleDocument> comparator(Sort sort) {
+        Comparator<ArticleDocument> comparator = (left, right) -> 0;
+
+        for (Sort.Order order : sort) {
+            if (HASHTAG_PROPERTIES.contains(order.getProperty())) {
+                comparator = comparator.thenComparing(order.isAscending()
+                        ? Comparator.comparing(ArticleDocumentStore::firstHashtagName, Comparator.nullsLast(Comparator.naturalOrder()))
+                        : Comparator.comparing(ArticleDocumentStore::lastHashtagName, Comparator.nullsLast(Comparator.<String>naturalOrder())).reversed());
+                continue;
+            }
+            Comparator<ArticleDocument> propertyComparator = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(ArticleDocument::id);
+                case "title" -> Comparator.comparing(ArticleDocument::title, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "createdAt" -> Comparator.comparing(ArticleDocument::createdAt, Comparator.nullsLast(Comparator.naturalOrder()));
+                case "userAccount.userId" -> Comparator.comparing(ArticleDocument::userId, Comparator.nullsLast(Comparator.naturalOrder()));
+                default -> null;
+            };
+            if (propertyComparator != null) {
+                comparator = comparator.thenComparing(order.isAscending() ? propertyComparator : propertyComparator.reversed());
+            }
+        }
+
+        return comparator
+                .thenComparing(ArticleDocument::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(ArticleDocument::id, Comparator.reverseOrder());
+    }
+
+    private static String firstHashtagName(ArticleDocument document) {
+        return document.hashtagNames() == null ? null : document.hashtagNames().stream().min(Comparator.naturalOrder()).orElse(null);
+    }
+
+    private static String lastHashtagName(ArticleDocument document) {
+        return document.hashtagNames() == null ? null : document.hashtagNames().stream().max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    private record Head(List<ArticleDocument> documents, int matchedCount) {}
+}
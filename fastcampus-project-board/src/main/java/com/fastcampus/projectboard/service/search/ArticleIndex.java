@@ -0,0 +1,16 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+
+/**
+ * 게시글 쓰기 경로에서 증분 갱신되는 메모리 색인
+ * {@link ArticleIndexer} 가 기동 시 전체 적재와 커밋 이후 갱신을 맡는다.
+ */
+public interface ArticleIndex {
+    // 같은 id 로 다시 호출되면 기존 내용을 교체한다.
+    void index(ArticleDocument document);
+
+    void remove(Long articleId);
+
+    void clear();
+}
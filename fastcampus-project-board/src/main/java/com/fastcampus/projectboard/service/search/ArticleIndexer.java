@@ -0,0 +1,85 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.Article;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 등록된 {@link ArticleIndex} 들을 기동 시 채우고, 게시글 이벤트를 커밋 이후에 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleIndexer {
+    private static final int WARM_UP_BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<ArticleIndex> articleIndexes;
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ready = false;
+        articleIndexes.forEach(ArticleIndex::clear);
+
+        long lastArticleId = 0L;
+        long indexedCount = 0L;
+        boolean hasNext = true;
+
+        // id 기준으로 끊어 읽어서 영속성 컨텍스트가 배치 단위로 비워지게 한다.
+        while (hasNext) {
+            long afterId = lastArticleId;
+            List<ArticleDocument> documents = transactionTemplate.execute(status -> {
+                Slice<Article> slice = articleRepository.findByIdGreaterThan(afterId,
+                        PageRequest.of(0, WARM_UP_BATCH_SIZE, Sort.by("id")));
+                return slice.map(ArticleDocument::from).getContent();
+            });
+            if (documents == null || documents.isEmpty()) {
+                break;
+            }
+
+            documents.forEach(this::index);
+            lastArticleId = documents.get(documents.size() - 1).id();
+            indexedCount += documents.size();
+            hasNext = documents.size() == WARM_UP_BATCH_SIZE;
+        }
+
+        ready = true;
+        log.info("게시글 색인 적재 완료 - articles: {}, indexes: {}", indexedCount, articleIndexes.size());
+    }
+
+    // 검색 결과 캐시 무효화보다 먼저 색인을 고친다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED, UPDATED -> index(event.document());
+            case DELETED -> articleIndexes.forEach(articleIndex -> articleIndex.remove(event.articleId()));
+        }
+    }
+
+    private void index(ArticleDocument document) {
+        articleIndexes.forEach(articleIndex -> articleIndex.index(document));
+    }
+}
@@ -0,0 +1,255 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.EstimatedPage;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 검색 결과 캐시
+ * (검색 유형, 검색어, pageable) 별로 게시글 id 페이지와 전체 개수만 들고, 게시글 내용은 조회할 때 다시 채운다.
+ * 캐시 크기는 항목 수가 아니라 담고 있는 id 개수(weight)로 제한하고, 넘치면 가장 오래 쓰지 않은 항목부터 버린다.
+ * 항목은 넣은 뒤 TTL 이 지나면 버린다. 댓글 수, 조회수처럼 이벤트 없이 바뀌는 값이나 놓친 무효화가 있어도 그 이상 오래 남지 않는다.
+ * 게시글이 생성, 수정, 삭제되면 그 게시글이 결과에 들어갈 수 있는 항목만 지운다.
+ */
+@Slf4j
+@Component
+public class ArticleSearchCache {
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0L;
+
+    // 무효화가 일어날 때마다 증가한다. 조회 도중 무효화가 끼어들면 그 결과는 캐시에 넣지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ArticleSearchCache(@Value("${board.search-cache.max-weight:50000}") long maxWeight,
+                              @Value("${board.search-cache.ttl:5m}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+
+        FunctionCounter.builder("board.search.cache.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit").description("검색 결과 캐시 적중 수").register(meterRegistry);
+        FunctionCounter.builder("board.search.cache.requests", missCount, AtomicLong::get)
+                .tag("result", "miss").description("검색 결과 캐시 미적중 수").register(meterRegistry);
+        FunctionCounter.builder("board.search.cache.evictions", evictionCount, AtomicLong::get)
+                .tag("cause", "size").description("크기 제한으로 버린 항목 수").register(meterRegistry);
+        FunctionCounter.builder("board.search.cache.evictions", expirationCount, AtomicLong::get)
+                .tag("cause", "expiration").description("TTL 이 지나서 버린 항목 수").register(meterRegistry);
+        FunctionCounter.builder("board.search.cache.evictions", invalidationCount, AtomicLong::get)
+                .tag("cause", "invalidation").description("게시글 변경으로 지운 항목 수").register(meterRegistry);
+        Gauge.builder("board.search.cache.size", this, ArticleSearchCache::size)
+                .description("캐시 항목 수").register(meterRegistry);
+        Gauge.builder("board.search.cache.weight", this, ArticleSearchCache::weight)
+                .description("캐시에 담긴 게시글 id 수").register(meterRegistry);
+    }
+
+    public Optional<Page<Long>> get(Key key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(key);
+                weight -= entry.weight();
+                expirationCount.incrementAndGet();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(EstimatedPage.of(entry.articleIds(), key.pageable(), entry.totalElements(), entry.totalApproximate()));
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // 조회를 시작할 때 읽어 둔 generation 이 그대로일 때만 넣는다.
+    public void put(Key key, Page<Long> articleIds, long expectedGeneration) {
+        Entry entry = new Entry(List.copyOf(articleIds.getContent()), articleIds.getTotalElements(),
+                EstimatedPage.isTotalApproximate(articleIds), System.nanoTime() + ttlNanos);
+        if (entry.weight() > maxWeight) {
+            return;
+        }
+
+        synchronized (this) {
+            if (generation.get() != expectedGeneration) {
+                return;
+            }
+            Entry previous = entries.put(key, entry);
+            weight += entry.weight() - (previous == null ? 0 : previous.weight());
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                weight -= eldest.next().weight();
+                eldest.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        weight = 0L;
+    }
+
+    /*
+     * 색인 갱신(ArticleIndexer) 뒤에 실행되어야, 무효화 직후 다시 채워지는 결과가 최신 색인을 본다.
+     * 수정은 수정 전, 후 상태 중 하나라도 검색 조건에 걸리면 지운다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        List<ArticleDocument> documents = event.previousDocument() == null
+                ? List.of(event.document())
+                : List.of(event.previousDocument(), event.document());
+
+        int invalidated = 0;
+        synchronized (this) {
+            generation.incrementAndGet();
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> entry = iterator.next();
+                if (entry.getValue().articleIds().contains(event.articleId())
+                        || documents.stream().anyMatch(entry.getKey()::mayContain)) {
+                    weight -= entry.getValue().weight();
+                    iterator.remove();
+                    invalidated++;
+                }
+            }
+        }
+        invalidationCount.addAndGet(invalidated);
+        log.debug("검색 결과 캐시 무효화 - articleId: {}, eventType: {}, entries: {}", event.articleId(), event.eventType(), invalidated);
+    }
+
+    // 닉네임이 바뀌면 그 회원의 게시글이 닉네임 검색 결과에 들고 나므로, 닉네임 검색 항목을 모두 지운다.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountEvent(UserAccountEvent event) {
+        int invalidated = 0;
+        synchronized (this) {
+            generation.incrementAndGet();
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> entry = iterator.next();
+                if (entry.getKey().searchType() == SearchType.NICKNAME) {
+                    weight -= entry.getValue().weight();
+                    iterator.remove();
+                    invalidated++;
+                }
+            }
+        }
+        invalidationCount.addAndGet(invalidated);
+        log.debug("검색 결과 캐시 무효화 - userId: {}, entries: {}", event.userId(), invalidated);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * 캐시 키. 검색어가 없으면 검색 유형과 상관없이 전체 목록으로 본다.
+     */
+    public record Key(SearchType searchType, String keyword, Pageable pageable) {
+        public static Key of(SearchType searchType, String keyword, Pageable pageable) {
+            if (keyword == null || keyword.isBlank()) {
+                return new Key(null, null, pageable);
+            }
+            return new Key(searchType, keyword.strip(), pageable);
+        }
+
+        /*
+         * 게시글이 이 검색 결과에 들어갈 수 있는지 넉넉하게 판단한다. (틀리면 지우는 쪽으로)
+         * 제목, 본문은 LIKE 검색과 색인 검색 모두, 검색어의 모든 단어가 대소문자 무시하고(한글은 자모, 초성 단위로) 포함되어야 걸린다.
+         */
+        boolean mayContain(ArticleDocument document) {
+            if (searchType == null) {
+                return true;
+            }
+            return switch (searchType) {
+                case TITLE -> containsEveryTerm(document.title());
+                case CONTENT -> containsEveryTerm(document.content());
+                case ID -> containsIgnoreCase(document.userId(), keyword);
+                case NICKNAME -> containsIgnoreCase(document.nickname(), keyword);
+                case HASHTAG -> mayMatchHashtags(document.hashtagNames());
+                case ALL -> containsAnyTerm(document);
+            };
+        }
+
+        private boolean containsEveryTerm(String text) {
+            if (text == null) {
+                return false;
+            }
+            String lowerText = text.toLowerCase(Locale.ROOT);
+            return InvertedIndex.tokenize(keyword).stream()
+                    .allMatch(term -> lowerText.contains(term) || HangulJamo.matches(text, term));
+        }
+
+        // 전체 검색은 단어 하나만 걸려도 결과에 들어간다. 점수는 다른 게시글 수에도 조금씩 영향을 받지만 그 정도 순위 변화는 무시한다.
+        private boolean containsAnyTerm(ArticleDocument document) {
+            String text = String.join(" ",
+                    Objects.toString(document.title(), ""),
+                    Objects.toString(document.content(), ""),
+                    Objects.toString(document.nickname(), ""),
+                    document.hashtagNames() == null ? "" : String.join(" ", document.hashtagNames())
+            ).toLowerCase(Locale.ROOT);
+            return InvertedIndex.tokenize(keyword).stream().anyMatch(text::contains);
+        }
+
+        // 포함 조건이 없는 쿼리(제외만 있는 쿼리)는 거의 모든 게시글이 걸리므로 항상 지운다.
+        private boolean mayMatchHashtags(Set<String> hashtagNames) {
+            HashtagQuery query = HashtagQuery.parse(keyword);
+            if (query.requiredGroups().isEmpty()) {
+                return true;
+            }
+            return hashtagNames != null && query.requiredGroups().stream()
+                    .flatMap(Set::stream)
+                    .anyMatch(hashtagNames::contains);
+        }
+
+        private static boolean containsIgnoreCase(String text, String keyword) {
+            return text != null && text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private record Entry(List<Long> articleIds, long totalElements, boolean totalApproximate, long expiresAtNanos) {
+        long weight() {
+            return articleIds.size() + 1L;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 메모리 색인으로 게시글 id 페이지를 만든다.
+ * 색인 적재가 끝나기 전에는 supports 가 false 를 돌려주므로, 호출하는 쪽은 DB 검색으로 대신한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchEngine {
+    private final ArticleIndexer articleIndexer;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final HashtagBitmapIndex hashtagBitmapIndex;
+    private final Bm25Index bm25Index;
+    private final JamoIndex jamoIndex;
+    private final ArticleDocumentStore articleDocumentStore;
+
+    public boolean supports(SearchType searchType) {
+        return articleIndexer.isReady()
+                && (searchType == SearchType.HASHTAG || searchType == SearchType.ALL || articleSearchIndex.supports(searchType));
+    }
+
+    // 전체 검색은 관련도 순이라서, 정렬 조건과 상관없이 BM25 점수 순으로 페이지를 만든다.
+    public Page<Long> search(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (searchType == SearchType.ALL) {
+            return bm25Index.search(searchKeyword, pageable);
+        }
+        return articleDocumentStore.page(match(searchType, searchKeyword), pageable);
+    }
+
+    public Window<Long> scroll(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        return articleDocumentStore.scroll(match(searchType, searchKeyword), cursor, size);
+    }
+
+    private Collection<Long> match(SearchType searchType, String searchKeyword) {
+        if (searchType == SearchType.HASHTAG) {
+            return hashtagBitmapIndex.search(HashtagQuery.parse(searchKeyword));
+        }
+        if (searchType == SearchType.ALL) {
+            return bm25Index.matches(searchKeyword);
+        }
+        // 한글 제목 검색은 단어 접두어 대신 자모 단위 부분 문자열로 찾는다. (초성, 입력 중인 글자 포함)
+        if (searchType == SearchType.TITLE && HangulJamo.containsHangul(searchKeyword)) {
+            return jamoIndex.search(searchKeyword);
+        }
+        return articleSearchIndex.search(searchType, searchKeyword);
+    }
+}
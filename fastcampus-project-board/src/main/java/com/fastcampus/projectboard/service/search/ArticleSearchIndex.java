@@ -0,0 +1,47 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 제목, 본문 검색용 역색인
+ * LIKE '%검색어%' 대신 단어 접두어 매칭으로 게시글 id 를 찾는다.
+ */
+@Component
+public class ArticleSearchIndex implements ArticleIndex {
+    private final InvertedIndex titleIndex = new InvertedIndex();
+    private final InvertedIndex contentIndex = new InvertedIndex();
+
+    @Override
+    public void index(ArticleDocument document) {
+        titleIndex.index(document.id(), document.title());
+        contentIndex.index(document.id(), document.content());
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        titleIndex.remove(articleId);
+        contentIndex.remove(articleId);
+    }
+
+    @Override
+    public void clear() {
+        titleIndex.clear();
+        contentIndex.clear();
+    }
+
+    public boolean supports(SearchType searchType) {
+        return searchType == SearchType.TITLE || searchType == SearchType.CONTENT;
+    }
+
+    public Set<Long> search(SearchType searchType, String searchKeyword) {
+        return switch (searchType) {
+            case TITLE -> titleIndex.search(searchKeyword);
+            case CONTENT -> contentIndex.search(searchKeyword);
+            default -> throw new IllegalArgumentException("색인 검색을 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+/**
+ * 아이디, 닉네임 검색용 작성자 목록
+ * 회원 수는 게시글보다 훨씬 적고 잘 바뀌지 않으므로 메모리에 두고, 검색어에 맞는 userId 를 먼저 찾는다.
+ * 게시글 검색은 그 userId 들로 user_id IN (...) 조회가 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuthorDirectory {
+    private final UserAccountRepository userAccountRepository;
+
+    private final NGramIndex<String> userIdIndex = new NGramIndex<>();
+    private final NGramIndex<String> nicknameIndex = new NGramIndex<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ready = false;
+        userIdIndex.clear();
+        nicknameIndex.clear();
+
+        userAccountRepository.findAll().forEach(userAccount -> {
+            userIdIndex.index(userAccount.getUserId(), userAccount.getUserId());
+            nicknameIndex.index(userAccount.getUserId(), userAccount.getNickname());
+        });
+
+        ready = true;
+        log.info("작성자 목록 적재 완료 - users: {}", userAccountRepository.count());
+    }
+
+    // 가입과 닉네임 변경 모두 UserAccountService.saveUser 를 거친다. 검색 결과 캐시 무효화보다 먼저 반영한다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountEvent(UserAccountEvent event) {
+        userIdIndex.index(event.userId(), event.userId());
+        nicknameIndex.index(event.userId(), event.nickname());
+    }
+
+    public boolean supports(SearchType searchType) {
+        return ready && (searchType == SearchType.ID || searchType == SearchType.NICKNAME);
+    }
+
+    public Set<String> findUserIds(SearchType searchType, String searchKeyword) {
+        return switch (searchType) {
+            case ID -> userIdIndex.search(searchKeyword);
+            case NICKNAME -> nicknameIndex.search(searchKeyword);
+            default -> throw new IllegalArgumentException("작성자 검색을 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+    }
+}
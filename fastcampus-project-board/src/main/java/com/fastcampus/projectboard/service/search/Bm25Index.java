@@ -0,0 +1,293 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 전체(ALL) 검색용 BM25 색인
+ * 제목, 본문, 해시태그, 닉네임을 필드별로 따로 색인하고, 필드 가중치(boost)를 곱한 BM25 점수를 더해 관련도 순으로 정렬한다.
+ * 검색어 단어 중 하나라도 있으면 결과에 들어간다.
+ * 단어의 희귀도(idf)는 필드와 상관없이 그 단어가 어느 필드에든 있는 게시글 수로 계산해서, 드문 필드에 한 번 나온 단어가 과하게 앞서지 않게 한다.
+ *
+ * 채점은 게시글 id 순으로 정렬된 posting list 들을 함께 훑으면서(document-at-a-time) 게시글 하나씩 점수를 내고,
+ * 크기가 k 인 최소 힙에 상위 k 개만 남긴다. 점수 누적용 맵이나 전체 결과 목록을 만들지 않는다.
+ */
+@Component
+public class Bm25Index implements ArticleIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<Field, Double> boosts;
+    private final Map<Field, Map<String, TreeMap<Long, Integer>>> postings = new EnumMap<>(Field.class);
+    private final Map<String, Integer> documentFrequencies = new HashMap<>();
+    private final Map<Long, int[]> documentLengths = new HashMap<>();
+    private final long[] totalLengths = new long[Field.values().length];
+    private final Map<Long, Map<Field, Set<String>>> documentTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Bm25Index(@Value("${board.search.boost.title:3.0}") double titleBoost,
+                     @Value("${board.search.boost.content:1.0}") double contentBoost,
+                     @Value("${board.search.boost.hashtag:2.0}") double hashtagBoost,
+                     @Value("${board.search.boost.nickname:1.5}") double nicknameBoost) {
+        this.boosts = new EnumMap<>(Map.of(
+                Field.TITLE, titleBoost,
+                Field.CONTENT, contentBoost,
+                Field.HASHTAG, hashtagBoost,
+                Field.NICKNAME, nicknameBoost
+        ));
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    public enum Field {
+        TITLE, CONTENT, HASHTAG, NICKNAME
+    }
+
+    @Override
+    public void index(ArticleDocument document) {
+        Map<Field, List<String>> fieldTerms = new EnumMap<>(Field.class);
+        fieldTerms.put(Field.TITLE, InvertedIndex.tokenize(document.title()));
+        fieldTerms.put(Field.CONTENT, InvertedIndex.tokenize(document.content()));
+        fieldTerms.put(Field.HASHTAG, document.hashtagNames() == null ? List.of()
+                : document.hashtagNames().stream().flatMap(hashtagName -> InvertedIndex.tokenize(hashtagName).stream()).toList());
+        fieldTerms.put(Field.NICKNAME, InvertedIndex.tokenize(document.nickname()));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+
+            int[] lengths = new int[Field.values().length];
+            Map<Field, Set<String>> terms = new EnumMap<>(Field.class);
+            fieldTerms.forEach((field, tokens) -> {
+                Map<String, Integer> frequencies = new HashMap<>();
+                tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+                frequencies.forEach((term, frequency) -> postings.get(field)
+                        .computeIfAbsent(term, key -> new TreeMap<>())
+                        .put(document.id(), frequency));
+
+                lengths[field.ordinal()] = tokens.size();
+                totalLengths[field.ordinal()] += tokens.size();
+                terms.put(field, frequencies.keySet());
+            });
+            documentLengths.put(document.id(), lengths);
+            documentTerms.put(document.id(), terms);
+            distinctTerms(terms).forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(Map::clear);
+            documentFrequencies.clear();
+            documentLengths.clear();
+            documentTerms.clear();
+            Arrays.fill(totalLengths, 0L);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 관련도 내림차순(같으면 최신 게시글 먼저) 페이지
+     * 페이지 끝(offset + size)까지만 힙에 남기므로, 뒤 페이지로 갈수록 힙이 커진다.
+     * pageable 의 정렬 조건은 쓰지 않는다.
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        int k = pageable.isUnpaged() ? Integer.MAX_VALUE : Math.toIntExact(Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE));
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<ScoredArticle> topK = new PriorityQueue<>();
+            long matched = score(query, scoredArticle -> {
+                if (topK.size() < k) {
+                    topK.add(scoredArticle);
+                } else if (scoredArticle.compareTo(topK.peek()) > 0) {
+                    topK.poll();
+                    topK.add(scoredArticle);
+                }
+            });
+
+            List<Long> ranked = new ArrayList<>(topK.size());
+            while (!topK.isEmpty()) {
+                ranked.add(topK.poll().articleId());
+            }
+            Collections.reverse(ranked);
+
+            int fromIndex = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), ranked.size());
+            return new PageImpl<>(List.copyOf(ranked.subList(fromIndex, ranked.size())), pageable, matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수와 상관없이 검색어에 걸리는 게시글 id. 키셋 페이징처럼 작성일 순으로 보여줄 때 쓴다.
+    public Set<Long> matches(String query) {
+        Set<Long> articleIds = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            score(query, scoredArticle -> articleIds.add(scoredArticle.articleId()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return articleIds;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 게시글 id 가 가장 작은 커서들을 함께 꺼내 한 게시글의 점수를 끝내고 넘어간다. 걸린 게시글 수를 반환한다.
+    private long score(String query, Consumer<ScoredArticle> consumer) {
+        Set<String> queryTerms = new LinkedHashSet<>(InvertedIndex.tokenize(query));
+        int documentCount = documentLengths.size();
+        if (queryTerms.isEmpty() || documentCount == 0) {
+            return 0L;
+        }
+
+        PriorityQueue<PostingCursor> cursors = new PriorityQueue<>(Comparator.comparingLong(PostingCursor::articleId));
+        for (Field field : Field.values()) {
+            double boost = boosts.get(field);
+            if (boost <= 0) {
+                continue;
+            }
+            for (String term : queryTerms) {
+                TreeMap<Long, Integer> posting = postings.get(field).get(term);
+                if (posting != null) {
+                    double idf = idf(documentCount, documentFrequencies.getOrDefault(term, posting.size()));
+                    PostingCursor cursor = new PostingCursor(field, boost * idf, posting.entrySet().iterator());
+                    if (cursor.advance()) {
+                        cursors.add(cursor);
+                    }
+                }
+            }
+        }
+
+        double[] averageLengths = new double[Field.values().length];
+        for (Field field : Field.values()) {
+            averageLengths[field.ordinal()] = Math.max((double) totalLengths[field.ordinal()] / documentCount, 1.0);
+        }
+
+        long matched = 0L;
+        List<PostingCursor> current = new ArrayList<>();
+        while (!cursors.isEmpty()) {
+            long articleId = cursors.peek().articleId();
+            int[] lengths = documentLengths.get(articleId);
+            double score = 0.0;
+            while (!cursors.isEmpty() && cursors.peek().articleId() == articleId) {
+                PostingCursor cursor = cursors.poll();
+                int ordinal = cursor.field.ordinal();
+                double normalization = K1 * (1 - B + B * lengths[ordinal] / averageLengths[ordinal]);
+                score += cursor.weight * cursor.frequency * (K1 + 1) / (cursor.frequency + normalization);
+                current.add(cursor);
+            }
+            consumer.accept(new ScoredArticle(articleId, score));
+            matched++;
+
+            current.forEach(cursor -> {
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            });
+            current.clear();
+        }
+        return matched;
+    }
+
+    private static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void removeInternal(Long articleId) {
+        Map<Field, Set<String>> terms = documentTerms.remove(articleId);
+        if (terms == null) {
+            return;
+        }
+        distinctTerms(terms).forEach(term -> documentFrequencies.computeIfPresent(term, (key, count) -> count > 1 ? count - 1 : null));
+        terms.forEach((field, fieldTerms) -> fieldTerms.forEach(term -> {
+            TreeMap<Long, Integer> posting = postings.get(field).get(term);
+            if (posting != null) {
+                posting.remove(articleId);
+                if (posting.isEmpty()) {
+                    postings.get(field).remove(term);
+                }
+            }
+        }));
+
+        int[] lengths = documentLengths.remove(articleId);
+        for (Field field : Field.values()) {
+            totalLengths[field.ordinal()] -= lengths[field.ordinal()];
+        }
+    }
+
+    private static Set<String> distinctTerms(Map<Field, Set<String>> terms) {
+        Set<String> distinct = new HashSet<>();
+        terms.values().forEach(distinct::addAll);
+        return distinct;
+    }
+
+    private static final class PostingCursor {
+        private final Field field;
+        private final double weight;
+        private final Iterator<Map.Entry<Long, Integer>> iterator;
+        private long articleId;
+        private int frequency;
+
+        private PostingCursor(Field field, double weight, Iterator<Map.Entry<Long, Integer>> iterator) {
+            this.field = field;
+            this.weight = weight;
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            Map.Entry<Long, Integer> entry = iterator.next();
+            articleId = entry.getKey();
+            frequency = entry.getValue();
+            return true;
+        }
+
+        private long articleId() {
+            return articleId;
+        }
+    }
+
+    // 점수가 낮을수록(같으면 id 가 작을수록) 작다. 힙의 맨 위가 가장 먼저 밀려날 후보다.
+    private record ScoredArticle(long articleId, double score) implements Comparable<ScoredArticle> {
+        @Override
+        public int compareTo(ScoredArticle other) {
+            int compared = Double.compare(score, other.score);
+            return compared != 0 ? compared : Long.compare(articleId, other.articleId);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * 0 이상의 int 집합을 담는 압축 비트맵 (Roaring bitmap 방식)
+ * 상위 16비트로 구간을 나누고, 구간마다 원소가 적으면 정렬된 char 배열, 많으면 65536 비트 배열로 저장한다.
+ * and, or, andNot 은 피연산자를 바꾸지 않고 항상 새 비트맵을 만든다.
+ */
+public class CompressedBitmap {
+    private final NavigableMap<Integer, Chunk> chunks = new TreeMap<>();
+
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public void add(int value) {
+        chunks.computeIfAbsent(high(value, true), key -> new Chunk()).add(low(value));
+    }
+
+    public void remove(int value) {
+        int high = high(value, true);
+        Chunk chunk = chunks.get(high);
+        if (chunk == null) {
+            return;
+        }
+        chunk.remove(low(value));
+        if (chunk.cardinality == 0) {
+            chunks.remove(high);
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        Chunk chunk = chunks.get(high(value, false));
+        return chunk != null && chunk.contains(low(value));
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (Chunk chunk : chunks.values()) {
+            cardinality += chunk.cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap smaller = chunks.size() <= other.chunks.size() ? this : other;
+        CompressedBitmap larger = smaller == this ? other : this;
+
+        CompressedBitmap result = new CompressedBitmap();
+        smaller.chunks.forEach((high, chunk) -> {
+            Chunk otherChunk = larger.chunks.get(high);
+            if (otherChunk != null) {
+                result.putIfNotEmpty(high, chunk.and(otherChunk));
+            }
+        });
+        return result;
+    }
+
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        chunks.forEach((high, chunk) -> {
+            Chunk otherChunk = other.chunks.get(high);
+            result.chunks.put(high, otherChunk == null ? chunk.copy() : chunk.or(otherChunk));
+        });
+        other.chunks.forEach((high, chunk) -> {
+            if (!chunks.containsKey(high)) {
+                result.chunks.put(high, chunk.copy());
+            }
+        });
+        return result;
+    }
+
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        chunks.forEach((high, chunk) -> {
+            Chunk otherChunk = other.chunks.get(high);
+            result.putIfNotEmpty(high, otherChunk == null ? chunk.copy() : chunk.andNot(otherChunk));
+        });
+        return result;
+    }
+
+    // 오름차순으로 순회한다.
+    public void forEach(IntConsumer action) {
+        chunks.forEach((high, chunk) -> chunk.forEach(high << 16, action));
+    }
+
+    public List<Long> toLongList() {
+        List<Long> values = new ArrayList<>(cardinality());
+        forEach(value -> values.add((long) value));
+        return values;
+    }
+
+    private void putIfNotEmpty(int high, Chunk chunk) {
+        if (chunk.cardinality > 0) {
+            chunks.put(high, chunk);
+        }
+    }
+
+    private static int high(int value, boolean strict) {
+        if (strict && value < 0) {
+            throw new IllegalArgumentException("음수는 비트맵에 넣을 수 없습니다 - value: " + value);
+        }
+        return value >>> 16;
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    /*
+     * 한 구간(상위 16비트가 같은 값들)의 저장소
+     * 원소가 ARRAY_MAX_SIZE 개를 넘으면 비트 배열(8KB)로, 다시 줄어들면 정렬 배열로 바꾼다.
+     */
+    private static final class Chunk {
+        private static final int ARRAY_MAX_SIZE = 4096;
+        private static final int WORD_COUNT = (1 << 16) / Long.SIZE;
+
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+
+        private Chunk() {
+            this(new char[4], null, 0);
+        }
+
+        private Chunk(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        void add(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) == 0) {
+                    words[low >>> 6] |= bit;
+                    cardinality++;
+                }
+                return;
+            }
+
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return;
+            }
+            if (cardinality == ARRAY_MAX_SIZE) {
+                convertToWords();
+                add(low);
+                return;
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE));
+            }
+            int insertAt = -index - 1;
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = low;
+            cardinality++;
+        }
+
+        void remove(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) != 0) {
+                    words[low >>> 6] &= ~bit;
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX_SIZE) {
+                        convertToValues();
+                    }
+                }
+                return;
+            }
+
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+        }
+
+        Chunk and(Chunk other) {
+            if (words == null) {
+                return filter(other, true);
+            }
+            if (other.words == null) {
+                return other.filter(this, true);
+            }
+            long[] result = new long[WORD_COUNT];
+            for (int i = 0; i < WORD_COUNT; i++) {
+                result[i] = words[i] & other.words[i];
+            }
+            return fromWords(result);
+        }
+
+        Chunk or(Chunk other) {
+            if (words == null && other.words == null && cardinality + other.cardinality <= ARRAY_MAX_SIZE) {
+                return mergeValues(other);
+            }
+            long[] result = toWords();
+            other.orInto(result);
+            return fromWords(result);
+        }
+
+        Chunk andNot(Chunk other) {
+            if (words == null) {
+                return filter(other, false);
+            }
+            long[] result = words.clone();
+            if (other.words != null) {
+                for (int i = 0; i < WORD_COUNT; i++) {
+                    result[i] &= ~other.words[i];
+                }
+            } else {
+                for (int i = 0; i < other.cardinality; i++) {
+                    char low = other.values[i];
+                    result[low >>> 6] &= ~(1L << low);
+                }
+            }
+            return fromWords(result);
+        }
+
+        Chunk copy() {
+            return words != null
+                    ? new Chunk(null, words.clone(), cardinality)
+                    : new Chunk(Arrays.copyOf(values, cardinality), null, cardinality);
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORD_COUNT; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        // 정렬 배열의 원소 중 other 에 포함 여부가 keep 과 같은 것만 남긴다.
+        private Chunk filter(Chunk other, boolean keep) {
+            char[] result = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result[size++] = values[i];
+                }
+            }
+            return new Chunk(result, null, size);
+        }
+
+        private Chunk mergeValues(Chunk other) {
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0, j = 0, size = 0;
+            while (i < cardinality && j < other.cardinality) {
+                char left = values[i];
+                char right = other.values[j];
+                if (left == right) {
+                    result[size++] = left;
+                    i++;
+                    j++;
+                } else if (left < right) {
+                    result[size++] = left;
+                    i++;
+                } else {
+                    result[size++] = right;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[size++] = values[i++];
+            }
+            while (j < other.cardinality) {
+                result[size++] = other.values[j++];
+            }
+            return new Chunk(result, null, size);
+        }
+
+        private long[] toWords() {
+            if (words != null) {
+                return words.clone();
+            }
+            long[] result = new long[WORD_COUNT];
+            orInto(result);
+            return result;
+        }
+
+        private void orInto(long[] target) {
+            if (words != null) {
+                for (int i = 0; i < WORD_COUNT; i++) {
+                    target[i] |= words[i];
+                }
+                return;
+            }
+            for (int i = 0; i < cardinality; i++) {
+                char low = values[i];
+                target[low >>> 6] |= 1L << low;
+            }
+        }
+
+        private void convertToWords() {
+            words = toWords();
+            values = null;
+        }
+
+        private void convertToValues() {
+            char[] result = new char[Math.max(cardinality, 4)];
+            int[] size = {0};
+            forEach(0, value -> result[size[0]++] = (char) value);
+            values = result;
+            words = null;
+        }
+
+        private static Chunk fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            Chunk chunk = new Chunk(null, words, cardinality);
+            if (cardinality <= ARRAY_MAX_SIZE) {
+                chunk.convertToValues();
+            }
+            return chunk;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.fastcampus.projectboard.service.search;
+
+/**
+ * 한글 자모 분해
+ * 완성형 음절을 초성, 중성, 종성의 호환 자모로 풀고, 겹받침(ㄺ)과 겹모음(ㅘ)은 입력할 때 누르는 낱자(ㄹㄱ, ㅗㅏ)로 한 번 더 푼다.
+ * 그래서 입력 중인 글자("북", "부ㄱ")도 분해한 문자열의 부분 문자열로 "부가" 와 매칭된다.
+ * 한글이 아닌 글자는 소문자로만 바꾼다.
+ */
+public final class HangulJamo {
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char COMPATIBILITY_JAMO_FIRST = 'ㄱ';
+    private static final char COMPATIBILITY_JAMO_LAST = 'ㅣ';
+    private static final char COMPATIBILITY_CONSONANT_LAST = 'ㅎ';
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    // 0 번은 받침 없음
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    // 호환 자모(ㄱ ~ ㅣ) 하나를 낱자로 푼 결과. 겹자모가 아니면 자기 자신이다.
+    private static final String[] ATOMS = new String[COMPATIBILITY_JAMO_LAST - COMPATIBILITY_JAMO_FIRST + 1];
+
+    static {
+        for (char c = COMPATIBILITY_JAMO_FIRST; c <= COMPATIBILITY_JAMO_LAST; c++) {
+            ATOMS[c - COMPATIBILITY_JAMO_FIRST] = String.valueOf(c);
+        }
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            ATOMS[compound[0].charAt(0) - COMPATIBILITY_JAMO_FIRST] = compound[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_FIRST;
+                result.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                appendAtoms(result, JUNGSEONG[index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT]);
+                int jongseong = index % JONGSEONG_COUNT;
+                if (jongseong != 0) {
+                    appendAtoms(result, JONGSEONG[jongseong]);
+                }
+            } else if (isCompatibilityJamo(c)) {
+                appendAtoms(result, c);
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    // 음절은 초성만 남긴다. "부가 게시판" -> "ㅂㄱ ㄱㅅㅍ"
+    public static String choseong(String text) {
+        if (text == null) {
+            return "";
+        }
+        char[] result = new char[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            result[i] = isSyllable(c)
+                    ? CHOSEONG[(c - SYLLABLE_FIRST) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]
+                    : Character.toLowerCase(c);
+        }
+        return new String(result);
+    }
+
+    public static boolean isChoseongOnly(String term) {
+        if (term == null || term.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c < COMPATIBILITY_JAMO_FIRST || c > COMPATIBILITY_CONSONANT_LAST) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean containsHangul(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c) || isCompatibilityJamo(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 초성만 있는 검색어는 초성끼리, 나머지는 자모를 분해해서 부분 문자열로 비교한다.
+    public static boolean matches(String text, String term) {
+        if (text == null || term == null) {
+            return false;
+        }
+        return isChoseongOnly(term)
+                ? choseong(text).contains(term)
+                : decompose(text).contains(decompose(term));
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= COMPATIBILITY_JAMO_FIRST && c <= COMPATIBILITY_JAMO_LAST;
+    }
+
+    private static void appendAtoms(StringBuilder result, char jamo) {
+        result.append(ATOMS[jamo - COMPATIBILITY_JAMO_FIRST]);
+    }
+}
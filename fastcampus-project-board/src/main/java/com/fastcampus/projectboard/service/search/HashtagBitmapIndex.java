@@ -0,0 +1,127 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 -> 게시글 id 비트맵 색인
+ * {@link HashtagQuery} 의 AND / OR / NOT 을 비트맵 교집합, 합집합, 차집합으로 계산한다.
+ * 해시태그 이름마다 색인 안에서만 쓰는 번호를 붙이고, 번호로 비트맵을 찾는다.
+ */
+@Component
+public class HashtagBitmapIndex implements ArticleIndex {
+    private final Map<String, Integer> hashtagIds = new HashMap<>();
+    private final List<CompressedBitmap> postings = new ArrayList<>();
+    private final Map<Long, Set<String>> articleHashtags = new HashMap<>();
+    private CompressedBitmap allArticles = new CompressedBitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(ArticleDocument document) {
+        int articleId = toBitmapValue(document.id());
+        Set<String> hashtagNames = document.hashtagNames() == null ? Set.of() : Set.copyOf(document.hashtagNames());
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            hashtagNames.forEach(hashtagName -> posting(hashtagName).add(articleId));
+            articleHashtags.put(document.id(), hashtagNames);
+            allArticles.add(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            hashtagIds.clear();
+            postings.clear();
+            articleHashtags.clear();
+            allArticles = new CompressedBitmap();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 포함 그룹이 없으면 전체 게시글에서 제외 태그만 뺀다.
+     * 결과는 id 오름차순이고, 정렬과 페이징은 ArticleDocumentStore 가 맡는다.
+     */
+    public List<Long> search(HashtagQuery query) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap result = null;
+            for (Set<String> group : query.requiredGroups()) {
+                CompressedBitmap matched = union(group);
+                result = result == null ? matched : result.and(matched);
+                if (result.isEmpty()) {
+                    return List.of();
+                }
+            }
+            if (result == null) {
+                result = allArticles;
+            }
+            if (!query.excludedNames().isEmpty()) {
+                result = result.andNot(union(query.excludedNames()));
+            }
+            return result.toLongList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CompressedBitmap union(Set<String> hashtagNames) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (String hashtagName : hashtagNames) {
+            Integer hashtagId = hashtagIds.get(hashtagName);
+            if (hashtagId != null) {
+                result = result.or(postings.get(hashtagId));
+            }
+        }
+        return result;
+    }
+
+    private CompressedBitmap posting(String hashtagName) {
+        int hashtagId = hashtagIds.computeIfAbsent(hashtagName, key -> {
+            postings.add(new CompressedBitmap());
+            return postings.size() - 1;
+        });
+        return postings.get(hashtagId);
+    }
+
+    private void removeInternal(Long articleId) {
+        Set<String> hashtagNames = articleHashtags.remove(articleId);
+        if (hashtagNames == null) {
+            return;
+        }
+        int value = toBitmapValue(articleId);
+        hashtagNames.forEach(hashtagName -> {
+            Integer hashtagId = hashtagIds.get(hashtagName);
+            if (hashtagId != null) {
+                postings.get(hashtagId).remove(value);
+            }
+        });
+        allArticles.remove(value);
+    }
+
+    // 게시글 id 는 DB 시퀀스 값이므로 int 범위를 넘지 않는다고 본다.
+    private static int toBitmapValue(Long articleId) {
+        return Math.toIntExact(articleId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.*;
+
+/**
+ * 해시태그 검색어
+ * 공백으로 나눈 항목은 모두 포함(AND), '|' 로 이은 태그는 그중 하나 이상(OR), '-' 로 시작하는 항목은 제외(NOT) 한다.
+ * 예) "#java #spring|#jpa -#kotlin" : java 가 있고, spring 이나 jpa 가 있고, kotlin 은 없는 게시글
+ */
+public record HashtagQuery(
+        List<Set<String>> requiredGroups,
+        Set<String> excludedNames
+) {
+    public static HashtagQuery of(List<Set<String>> requiredGroups, Set<String> excludedNames) {
+        return new HashtagQuery(requiredGroups, excludedNames);
+    }
+
+    public static HashtagQuery parse(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return of(List.of(), Set.of());
+        }
+
+        List<Set<String>> requiredGroups = new ArrayList<>();
+        Set<String> excludedNames = new LinkedHashSet<>();
+        for (String token : keyword.trim().split("\\s+")) {
+            boolean excluded = token.startsWith("-");
+            Set<String> names = parseNames(excluded ? token.substring(1) : token);
+            if (names.isEmpty()) {
+                continue;
+            }
+            if (excluded) {
+                excludedNames.addAll(names);
+            } else {
+                requiredGroups.add(names);
+            }
+        }
+
+        return of(List.copyOf(requiredGroups), Collections.unmodifiableSet(excludedNames));
+    }
+
+    public boolean isEmpty() {
+        return requiredGroups.isEmpty() && excludedNames.isEmpty();
+    }
+
+    private static Set<String> parseNames(String token) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : token.split("\\|")) {
+            String hashtagName = name.startsWith("#") ? name.substring(1) : name;
+            if (!hashtagName.isBlank()) {
+                names.add(hashtagName);
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+}
@@ -0,0 +1,132 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 단어 -> 게시글 id 목록(posting list) 역색인
+ * 검색어의 각 단어는 접두어로 매칭하고, 단어끼리는 AND 로 묶는다.
+ */
+public class InvertedIndex {
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Long documentId, String text) {
+        Set<String> terms = new HashSet<>(tokenize(text));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+            if (terms.isEmpty()) {
+                return;
+            }
+            terms.forEach(term -> postings.computeIfAbsent(term, key -> new HashSet<>()).add(documentId));
+            documentTerms.put(documentId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> search(String query) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return Set.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> result = null;
+            for (String queryTerm : queryTerms) {
+                Set<Long> matched = new HashSet<>();
+                postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false)
+                        .values()
+                        .forEach(matched::addAll);
+
+                if (result == null) {
+                    result = matched;
+                } else {
+                    result.retainAll(matched);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * 글자, 숫자, '_' 가 아닌 문자를 경계로 자르고 소문자로 바꾼다.
+     * 한글도 Character.isLetterOrDigit 로 판단하므로 따로 처리하지 않는다.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && isWordChar(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private void removeInternal(Long documentId) {
+        Set<String> terms = documentTerms.remove(documentId);
+        if (terms == null) {
+            return;
+        }
+        terms.forEach(term -> {
+            Set<Long> documentIds = postings.get(term);
+            if (documentIds != null) {
+                documentIds.remove(documentId);
+                if (documentIds.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+}
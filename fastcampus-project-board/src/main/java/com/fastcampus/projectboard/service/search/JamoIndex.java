@@ -0,0 +1,60 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한글 제목 검색용 자모 색인
+ * 제목을 자모로 분해한 문자열과 초성 문자열을 각각 n-gram 색인에 넣어, "ㅂㄱ" 같은 초성 검색과 "북" 같은 입력 중인 글자로 "부가" 를 찾는다.
+ * 검색어의 단어끼리는 AND 로 묶고, 단어마다 부분 문자열로 매칭한다.
+ */
+@Component
+public class JamoIndex implements ArticleIndex {
+    private final NGramIndex<Long> jamoIndex = new NGramIndex<>();
+    private final NGramIndex<Long> choseongIndex = new NGramIndex<>();
+
+    @Override
+    public void index(ArticleDocument document) {
+        jamoIndex.index(document.id(), HangulJamo.decompose(document.title()));
+        choseongIndex.index(document.id(), HangulJamo.choseong(document.title()));
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        jamoIndex.remove(articleId);
+        choseongIndex.remove(articleId);
+    }
+
+    @Override
+    public void clear() {
+        jamoIndex.clear();
+        choseongIndex.clear();
+    }
+
+    public Set<Long> search(String query) {
+        List<String> terms = InvertedIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> result = null;
+        for (String term : terms) {
+            Set<Long> matched = HangulJamo.isChoseongOnly(term)
+                    ? choseongIndex.search(term)
+                    : jamoIndex.search(HangulJamo.decompose(term));
+            if (result == null) {
+                result = new HashSet<>(matched);
+            } else {
+                result.retainAll(matched);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열(LIKE '%검색어%') 검색용 n-gram 색인
+ * 1 ~ 3 글자 조각마다 키 목록을 두고, 3 글자보다 긴 검색어는 3-gram 목록의 교집합을 원문으로 한 번 더 확인한다.
+ * DB 의 LIKE 와 같게 대소문자를 구분한다.
+ */
+public class NGramIndex<K> {
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<K>> postings = new HashMap<>();
+    private final Map<K, String> texts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(K key, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (text == null || text.isEmpty()) {
+                return;
+            }
+            grams(text).forEach(gram -> postings.computeIfAbsent(gram, k -> new HashSet<>()).add(key));
+            texts.put(key, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            texts.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<K> search(String query) {
+        if (query == null || query.isEmpty()) {
+            return Set.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (query.length() <= MAX_GRAM_LENGTH) {
+                return Set.copyOf(postings.getOrDefault(query, Set.of()));
+            }
+
+            // 가장 짧은 목록부터 교집합을 만들고, 조각이 흩어져 있는 경우는 원문으로 걸러낸다.
+            List<Set<K>> candidates = new ArrayList<>();
+            for (int i = 0; i + MAX_GRAM_LENGTH <= query.length(); i++) {
+                Set<K> keys = postings.get(query.substring(i, i + MAX_GRAM_LENGTH));
+                if (keys == null) {
+                    return Set.of();
+                }
+                candidates.add(keys);
+            }
+            candidates.sort(Comparator.comparingInt(Set::size));
+
+            Set<K> result = new HashSet<>(candidates.get(0));
+            for (int i = 1; i < candidates.size() && !result.isEmpty(); i++) {
+                result.retainAll(candidates.get(i));
+            }
+            result.removeIf(key -> !texts.get(key).contains(query));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private void removeInternal(K key) {
+        String text = texts.remove(key);
+        if (text == null) {
+            return;
+        }
+        grams(text).forEach(gram -> {
+            Set<K> keys = postings.get(gram);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,210 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.*;
+
+/**
+ * 가중치 있는 문자열의 접두어 검색용 압축 트라이 (radix tree)
+ * 자식이 하나뿐인 경로는 한 간선으로 합쳐 두고, 노드마다 하위 트리의 최대 가중치를 들고 있어서
+ * 접두어 아래에서 가중치가 큰 순서로 limit 개만 꺼낼 때 필요한 가지만 내려간다.
+ * 동시 접근 제어는 사용하는 쪽에서 맡는다.
+ */
+public class PrefixTrie {
+    private final Node root = new Node("");
+    private int size = 0;
+
+    // 가중치가 0 이하이면 지운다.
+    public void put(String key, long weight) {
+        if (weight <= 0) {
+            remove(key);
+            return;
+        }
+        put(root, key, 0, weight);
+    }
+
+    public void remove(String key) {
+        if (remove(root, key, 0)) {
+            size--;
+        }
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.terminal = false;
+        root.maxWeight = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /*
+     * 접두어로 시작하는 키를 가중치 내림차순(같으면 키 오름차순)으로 limit 개까지 반환한다.
+     * 후보는 하위 트리 최대 가중치 기준 우선순위 큐로 꺼내므로, 결과에 들어가지 못할 가지는 열어보지 않는다.
+     */
+    public List<Entry> top(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Candidate start = find(prefix);
+        if (start == null) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(start);
+        List<Entry> result = new ArrayList<>(limit);
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.entry) {
+                result.add(new Entry(candidate.key, candidate.weight));
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.terminal) {
+                queue.add(new Candidate(null, candidate.key, node.weight, true));
+            }
+            node.children.values().forEach(child ->
+                    queue.add(new Candidate(child, candidate.key + child.label, child.maxWeight, false)));
+        }
+        return result;
+    }
+
+    // 접두어가 간선 중간에서 끝나면 그 간선 아래 노드 전체가 후보다.
+    private Candidate find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return new Candidate(child, prefix.substring(0, position) + child.label, child.maxWeight, false);
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            position += common;
+            node = child;
+        }
+        return new Candidate(node, prefix, node.maxWeight, false);
+    }
+
+    private void put(Node node, String key, int position, long weight) {
+        if (position == key.length()) {
+            if (!node.terminal) {
+                size++;
+            }
+            node.terminal = true;
+            node.weight = weight;
+            node.updateMaxWeight();
+            return;
+        }
+
+        Node child = node.children.get(key.charAt(position));
+        if (child == null) {
+            Node leaf = new Node(key.substring(position));
+            leaf.terminal = true;
+            leaf.weight = weight;
+            leaf.updateMaxWeight();
+            node.children.put(leaf.label.charAt(0), leaf);
+            size++;
+        } else {
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // 간선을 공통 부분에서 둘로 나눈다.
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                middle.updateMaxWeight();
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            put(child, key, position + common, weight);
+        }
+        node.updateMaxWeight();
+    }
+
+    private boolean remove(Node node, String key, int position) {
+        if (position == key.length()) {
+            if (!node.terminal) {
+                return false;
+            }
+            node.terminal = false;
+            node.weight = 0;
+            node.updateMaxWeight();
+            return true;
+        }
+
+        Node child = node.children.get(key.charAt(position));
+        if (child == null || !key.startsWith(child.label, position)) {
+            return false;
+        }
+        if (!remove(child, key, position + child.label.length())) {
+            return false;
+        }
+
+        // 빈 잎은 떼어내고, 자식이 하나만 남은 중간 노드는 간선을 다시 합친다.
+        if (!child.terminal && child.children.isEmpty()) {
+            node.children.remove(child.label.charAt(0));
+        } else if (!child.terminal && child.children.size() == 1) {
+            Node grandChild = child.children.values().iterator().next();
+            grandChild.label = child.label + grandChild.label;
+            node.children.put(grandChild.label.charAt(0), grandChild);
+        }
+        node.updateMaxWeight();
+        return true;
+    }
+
+    private static int commonPrefixLength(String label, String key, int position) {
+        int length = Math.min(label.length(), key.length() - position);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(position + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    public record Entry(String key, long weight) {}
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private boolean terminal;
+        private long weight;
+        private long maxWeight;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void updateMaxWeight() {
+            long max = terminal ? weight : 0;
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    /*
+     * 가중치 내림차순, 같으면 키 오름차순으로 꺼낸다.
+     * 하위 트리 후보의 키는 그 아래 모든 키의 접두어라서, 먼저 꺼내 펼쳐도 결과 순서가 어긋나지 않는다.
+     */
+    private record Candidate(Node node, String key, long weight, boolean entry) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            int compared = Long.compare(other.weight, weight);
+            if (compared != 0) {
+                return compared;
+            }
+            compared = key.compareTo(other.key);
+            if (compared != 0) {
+                return compared;
+            }
+            return Boolean.compare(other.entry, entry);
+        }
+    }
+}
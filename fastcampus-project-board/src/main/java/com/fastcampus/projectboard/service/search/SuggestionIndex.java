@@ -0,0 +1,244 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.SuggestionDto;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그, 닉네임 자동완성 색인
+ * 게시글마다 해시태그와 작성자를 기억해 두고 게시글 수를 세어, 게시글 수를 가중치로 {@link PrefixTrie} 에 넣는다.
+ * 게시글 수가 0 이 된 해시태그와 작성자는 후보에서 빠진다.
+ * 트라이 키는 "자모로 분해한 소문자 이름 + 구분자 + 원래 이름" 이라서, 대소문자 구분 없이 입력 중인 한글("자ㅂ")로도 찾고 원래 이름으로 보여준다.
+ * 한글 이름은 초성 키("ㅈㅂ")로도 넣어 두고, 초성만 입력하면 그쪽에서 찾는다.
+ */
+@Component
+public class SuggestionIndex implements ArticleIndex {
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final CandidateTrie hashtagTrie = new CandidateTrie();
+    private final CandidateTrie nicknameTrie = new CandidateTrie();
+
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+    private final Map<String, Long> hashtagCounts = new HashMap<>();
+    private final Map<String, Long> authorCounts = new HashMap<>();
+    private final Map<String, String> nicknames = new HashMap<>();
+    private final Map<String, Long> nicknameCounts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(ArticleDocument document) {
+        Set<String> hashtagNames = document.hashtagNames() == null ? Set.of() : Set.copyOf(document.hashtagNames());
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            articles.put(document.id(), new IndexedArticle(document.userId(), hashtagNames));
+            hashtagNames.forEach(hashtagName -> addHashtagCount(hashtagName, 1));
+            rename(document.userId(), document.nickname());
+            addAuthorCount(document.userId(), 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            hashtagTrie.clear();
+            nicknameTrie.clear();
+            articles.clear();
+            hashtagCounts.clear();
+            authorCounts.clear();
+            nicknames.clear();
+            nicknameCounts.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글 문서의 닉네임은 작성 당시 값이므로, 닉네임 변경은 회원 이벤트로 따로 반영한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountEvent(UserAccountEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (authorCounts.containsKey(event.userId())) {
+                rename(event.userId(), event.nickname());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 해시태그와 닉네임 후보를 각각 limit 개까지 뽑아 게시글 수 내림차순으로 합친다.
+     * 접두어가 '#' 으로 시작하면 해시태그만 찾는다.
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        String stripped = prefix.strip();
+        boolean hashtagOnly = stripped.startsWith("#");
+        String normalizedPrefix = hashtagOnly ? stripped.substring(1) : stripped;
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        List<SuggestionDto> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            hashtagTrie.top(normalizedPrefix, limit)
+                    .forEach(entry -> suggestions.add(SuggestionDto.of(SearchType.HASHTAG, displayName(entry.key()), entry.weight())));
+            if (!hashtagOnly) {
+                nicknameTrie.top(normalizedPrefix, limit)
+                        .forEach(entry -> suggestions.add(SuggestionDto.of(SearchType.NICKNAME, displayName(entry.key()), entry.weight())));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        suggestions.sort(Comparator.comparingLong(SuggestionDto::articleCount).reversed()
+                .thenComparing(SuggestionDto::text));
+        return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+    }
+
+    /*
+     * 오타 교정 후보: 편집 거리 2 이하인 해시태그(또는 닉네임)를 거리 오름차순, 게시글 수 내림차순으로 반환한다.
+     * 검색어와 대소문자까지 같은 이름은 이미 검색해 본 것이므로 뺀다.
+     */
+    public List<SuggestionDto> didYouMean(SearchType searchType, String term, int limit) {
+        if (term == null || term.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        CandidateTrie candidates = switch (searchType) {
+            case HASHTAG -> hashtagTrie;
+            case NICKNAME -> nicknameTrie;
+            default -> throw new IllegalArgumentException("오타 교정을 지원하지 않는 검색 유형입니다 - searchType: " + searchType);
+        };
+        Map<String, Long> counts = searchType == SearchType.HASHTAG ? hashtagCounts : nicknameCounts;
+        String stripped = term.strip();
+
+        lock.readLock().lock();
+        try {
+            return candidates.fuzzy.search(stripped, SymmetricDeleteIndex.MAX_DISTANCE).stream()
+                    .filter(match -> !match.word().equals(stripped))
+                    .sorted(Comparator.comparingInt(SymmetricDeleteIndex.Match::distance)
+                            .thenComparing(match -> -counts.getOrDefault(match.word(), 0L)))
+                    .limit(limit)
+                    .map(match -> SuggestionDto.of(searchType, match.word(), counts.getOrDefault(match.word(), 0L)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long articleId) {
+        IndexedArticle article = articles.remove(articleId);
+        if (article == null) {
+            return;
+        }
+        article.hashtagNames().forEach(hashtagName -> addHashtagCount(hashtagName, -1));
+        addAuthorCount(article.userId(), -1);
+    }
+
+    private void addHashtagCount(String hashtagName, long delta) {
+        long count = hashtagCounts.merge(hashtagName, delta, Long::sum);
+        if (count <= 0) {
+            hashtagCounts.remove(hashtagName);
+        }
+        hashtagTrie.put(hashtagName, count);
+    }
+
+    private void addAuthorCount(String userId, long delta) {
+        long count = authorCounts.merge(userId, delta, Long::sum);
+        String nickname = nicknames.get(userId);
+        if (count <= 0) {
+            authorCounts.remove(userId);
+            nicknames.remove(userId);
+        }
+        addNicknameCount(nickname, delta);
+    }
+
+    // 작성자의 게시글 수를 이전 닉네임에서 새 닉네임으로 옮긴다.
+    private void rename(String userId, String nickname) {
+        String previous = nicknames.get(userId);
+        if (Objects.equals(previous, nickname)) {
+            return;
+        }
+        long count = authorCounts.getOrDefault(userId, 0L);
+        addNicknameCount(previous, -count);
+        if (nickname == null) {
+            nicknames.remove(userId);
+        } else {
+            nicknames.put(userId, nickname);
+        }
+        addNicknameCount(nickname, count);
+    }
+
+    // 같은 닉네임을 쓰는 작성자가 여럿이면 게시글 수를 합친다.
+    private void addNicknameCount(String nickname, long delta) {
+        if (nickname == null || nickname.isBlank() || delta == 0) {
+            return;
+        }
+        long count = nicknameCounts.merge(nickname, delta, Long::sum);
+        if (count <= 0) {
+            nicknameCounts.remove(nickname);
+        }
+        nicknameTrie.put(nickname, count);
+    }
+
+    private static String displayName(String key) {
+        return key.substring(key.indexOf(KEY_SEPARATOR) + 1);
+    }
+
+    // 자모 키 트라이, 초성 키 트라이, 오타 교정 사전을 함께 갱신한다.
+    private static final class CandidateTrie {
+        private final PrefixTrie jamoTrie = new PrefixTrie();
+        private final PrefixTrie choseongTrie = new PrefixTrie();
+        private final SymmetricDeleteIndex fuzzy = new SymmetricDeleteIndex();
+
+        void put(String name, long count) {
+            if (count > 0) {
+                fuzzy.add(name);
+            } else {
+                fuzzy.remove(name);
+            }
+            jamoTrie.put(HangulJamo.decompose(name) + KEY_SEPARATOR + name, count);
+            if (HangulJamo.containsHangul(name)) {
+                choseongTrie.put(HangulJamo.choseong(name) + KEY_SEPARATOR + name, count);
+            }
+        }
+
+        List<PrefixTrie.Entry> top(String prefix, int limit) {
+            return HangulJamo.isChoseongOnly(prefix)
+                    ? choseongTrie.top(prefix, limit)
+                    : jamoTrie.top(HangulJamo.decompose(prefix), limit);
+        }
+
+        void clear() {
+            jamoTrie.clear();
+            choseongTrie.clear();
+            fuzzy.clear();
+        }
+    }
+
+    private record IndexedArticle(String userId, Set<String> hashtagNames) {}
+}
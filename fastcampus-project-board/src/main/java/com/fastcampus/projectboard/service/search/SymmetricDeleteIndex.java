@@ -0,0 +1,139 @@
+package com.fastcampus.projectboard.service.search;
+
+import java.util.*;
+
+/**
+ * 편집 거리 검색용 대칭 삭제(symmetric delete) 사전
+ * 단어마다 글자를 최대 MAX_DISTANCE 개 지운 변형을 미리 색인해 두고, 검색어도 똑같이 지워 본 변형이 겹치는 단어만 후보로 삼는다.
+ * 후보는 실제 편집 거리(인접 글자 바꿈 포함)로 한 번 더 확인한다. 대소문자는 구분하지 않는다.
+ * 동시 접근 제어는 사용하는 쪽에서 맡는다.
+ */
+public class SymmetricDeleteIndex {
+    public static final int MAX_DISTANCE = 2;
+    // 지운 변형 수는 길이의 제곱에 비례하므로, 이보다 긴 단어는 오타 검색 대상에서 뺀다.
+    private static final int MAX_WORD_LENGTH = 30;
+
+    private final Map<String, Set<String>> deletes = new HashMap<>();
+    private final Set<String> words = new HashSet<>();
+
+    public void add(String word) {
+        if (word == null || word.length() > MAX_WORD_LENGTH || !words.add(word)) {
+            return;
+        }
+        variants(normalize(word)).forEach(variant -> deletes.computeIfAbsent(variant, key -> new HashSet<>()).add(word));
+    }
+
+    public void remove(String word) {
+        if (word == null || !words.remove(word)) {
+            return;
+        }
+        variants(normalize(word)).forEach(variant -> {
+            Set<String> matched = deletes.get(variant);
+            if (matched != null) {
+                matched.remove(word);
+                if (matched.isEmpty()) {
+                    deletes.remove(variant);
+                }
+            }
+        });
+    }
+
+    public void clear() {
+        deletes.clear();
+        words.clear();
+    }
+
+    // 편집 거리 오름차순. 검색어와 똑같은 단어는 거리 0 으로 들어간다.
+    public List<Match> search(String query, int maxDistance) {
+        if (query == null || query.isBlank() || query.length() > MAX_WORD_LENGTH + maxDistance) {
+            return List.of();
+        }
+        String normalizedQuery = normalize(query);
+        int distanceLimit = Math.min(maxDistance, MAX_DISTANCE);
+
+        Set<String> candidates = new HashSet<>();
+        variants(normalizedQuery, distanceLimit).forEach(variant -> candidates.addAll(deletes.getOrDefault(variant, Set.of())));
+
+        List<Match> matches = new ArrayList<>();
+        for (String candidate : candidates) {
+            int distance = distance(normalizedQuery, normalize(candidate), distanceLimit);
+            if (distance <= distanceLimit) {
+                matches.add(new Match(candidate, distance));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::word));
+        return matches;
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    private static Set<String> variants(String word) {
+        return variants(word, MAX_DISTANCE);
+    }
+
+    // 원래 단어를 포함해, 글자를 0 ~ maxDeletes 개 지운 모든 변형
+    private static Set<String> variants(String word, int maxDeletes) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        Set<String> current = Set.of(word);
+        for (int deleted = 0; deleted < maxDeletes; deleted++) {
+            Set<String> next = new HashSet<>();
+            for (String variant : current) {
+                for (int i = 0; i < variant.length(); i++) {
+                    String shorter = variant.substring(0, i) + variant.substring(i + 1);
+                    if (result.add(shorter)) {
+                        next.add(shorter);
+                    }
+                }
+            }
+            current = next;
+        }
+        return result;
+    }
+
+    /*
+     * 인접 글자 바꿈을 한 번의 편집으로 치는 편집 거리 (optimal string alignment)
+     * 한 행의 최솟값이 limit 을 넘으면 더 볼 필요가 없으므로 limit + 1 을 돌려준다.
+     */
+    static int distance(String source, String target, int limit) {
+        if (Math.abs(source.length() - target.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previousPrevious = new int[target.length() + 1];
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2) && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[target.length()], limit + 1);
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    public record Match(String word, int distance) {}
+}
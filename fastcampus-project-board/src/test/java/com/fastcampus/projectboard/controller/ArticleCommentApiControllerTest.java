@@ -0,0 +1,77 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentWindowDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.service.ArticleCommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 댓글")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleCommentApiController.class)
+class ArticleCommentApiControllerTest {
+    private final MockMvc mvc;
+
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
+    ArticleCommentApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser
+    @DisplayName("[API][GET] 자식 댓글 - 커서로 요청하면, 다음 묶음과 다음 커서를 JSON 으로 반환한다.")
+    @Test
+    void givenParentCommentIdAndCursor_whenRequestingReplies_thenReturnsReplyWindow() throws Exception {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(now, 2L);
+        ArticleCommentCursor nextCursor = ArticleCommentCursor.of(now.plusMinutes(1), 3L);
+        given(articleCommentService.getReplies(1L, cursor, 5)).willReturn(ArticleCommentWindowDto.of(
+                List.of(createArticleCommentDto(3L, 1L, now.plusMinutes(1))),
+                Map.of(3L, 2L),
+                nextCursor
+        ));
+
+        mvc.perform(get("/api/comments/1/replies").queryParam("cursor", cursor.encode()).queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.comments[0].id").value(3))
+                .andExpect(jsonPath("$.comments[0].parentCommentId").value(1))
+                .andExpect(jsonPath("$.comments[0].replyCount").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()));
+        then(articleCommentService).should().getReplies(1L, cursor, 5);
+    }
+
+    @DisplayName("[API][GET] 자식 댓글 - 로그인하지 않으면, 로그인 페이지로 보낸다.")
+    @Test
+    void givenUnauthenticatedUser_whenRequestingReplies_thenRedirectsToLoginPage() throws Exception {
+        mvc.perform(get("/api/comments/1/replies"))
+                .andExpect(status().is3xxRedirection());
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt) {
+        return ArticleCommentDto.of(id, 1L,
+                UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", "memo", createdAt, "uno", createdAt, "uno"),
+                parentCommentId, "reply", createdAt, "uno", createdAt, "uno");
+    }
+}
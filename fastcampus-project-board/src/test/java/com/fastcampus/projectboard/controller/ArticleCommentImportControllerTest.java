@@ -0,0 +1,100 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.dto.ArticleCommentImportDto;
+import com.fastcampus.projectboard.dto.ArticleCommentImportResultDto;
+import com.fastcampus.projectboard.service.ArticleCommentImportService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("API 컨트롤러 - 댓글 일괄 등록")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(controllers = ArticleCommentImportController.class,
+        properties = {"board.comment-import.enabled=true", "board.admin.user-ids=unoTest"})
+class ArticleCommentImportControllerTest {
+    private final MockMvc mvc;
+
+    @MockBean
+    private ArticleCommentImportService articleCommentImportService;
+
+    ArticleCommentImportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithUserDetails(value = "unoTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[API][POST] 댓글 일괄 등록 - NDJSON 을 한 줄씩 읽어 넘기고, 처리 결과와 처리량을 반환한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenNdjsonComments_whenImporting_thenStreamsCommentsAndReturnsResult() throws Exception {
+        List<ArticleCommentImportDto> received = new ArrayList<>();
+        given(articleCommentImportService.importComments(any())).willAnswer(invocation -> {
+            invocation.<Stream<ArticleCommentImportDto>>getArgument(0).forEach(received::add);
+            return ArticleCommentImportResultDto.of(2, 2, 0, Duration.ofMillis(500));
+        });
+        String body = """
+                {"externalId":"c1","articleId":1,"userId":"uno","content":"parent","createdAt":"2024-01-01T00:00:00"}
+                {"externalId":"c2","parentExternalId":"c1","articleId":1,"userId":"uno","content":"reply"}
+                """;
+
+        mvc.perform(post("/api/comments/import")
+                        .contentType("application/x-ndjson")
+                        .content(body)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.elapsedMillis").value(500))
+                .andExpect(jsonPath("$.commentsPerSecond").value(4.0));
+
+        Assertions.assertThat(received).containsExactly(
+                ArticleCommentImportDto.of("c1", null, 1L, "uno", "parent", LocalDateTime.of(2024, 1, 1, 0, 0)),
+                ArticleCommentImportDto.of("c2", "c1", 1L, "uno", "reply", null)
+        );
+    }
+
+    @DisplayName("[API][POST] 댓글 일괄 등록 - 로그인하지 않으면, 로그인 페이지로 보낸다.")
+    @Test
+    void givenUnauthenticatedUser_whenImporting_thenRedirectsToLoginPage() throws Exception {
+        mvc.perform(post("/api/comments/import")
+                        .contentType("application/x-ndjson")
+                        .content("{}")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        then(articleCommentImportService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[API][POST] 댓글 일괄 등록 - 관리자가 아니면, 로그인했어도 거부한다.")
+    @Test
+    void givenNonAdminUser_whenImporting_thenRejects() throws Exception {
+        mvc.perform(post("/api/comments/import")
+                        .contentType("application/x-ndjson")
+                        .content("{}")
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+        then(articleCommentImportService).shouldHaveNoInteractions();
+    }
+}
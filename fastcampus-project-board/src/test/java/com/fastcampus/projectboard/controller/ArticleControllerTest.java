@@ -3,13 +3,25 @@ package com.fastcampus.projectboard.controller;
 import com.fastcampus.projectboard.config.TestSecurityConfig;
 import com.fastcampus.projectboard.domain.constant.FormStatus;
 import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.domain.type.TrendWindow;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentWindowDto;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.EstimatedPage;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleNeighborsDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
 import com.fastcampus.projectboard.dto.HashtagDto;
+import com.fastcampus.projectboard.dto.SuggestionDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.dto.request.ArticleRequest;
+import com.fastcampus.projectboard.dto.response.ArticleCursorsResponse;
+import com.fastcampus.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.fastcampus.projectboard.service.ArticleCommentService;
 import com.fastcampus.projectboard.service.ArticleService;
 import com.fastcampus.projectboard.service.PaginationService;
+import com.fastcampus.projectboard.service.SuggestionService;
 import com.fastcampus.projectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,11 +29,14 @@ import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -30,11 +45,17 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -55,6 +76,12 @@ class ArticleControllerTest {
     @MockBean
     private PaginationService paginationService;
 
+    @MockBean
+    private SuggestionService suggestionService;
+
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
     ArticleControllerTest(@Autowired  MockMvc mvc, @Autowired FormDataEncoder formDataEncoder) {
         this.mvc = mvc;
         this.formDataEncoder = formDataEncoder;
@@ -100,6 +127,24 @@ class ArticleControllerTest {
         BDDMockito.then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 전체 개수가 근사치인 검색 결과")
+    @Test
+    void givenApproximateTotal_whenSearchingArticlesView_thenReturnsArticlesViewMarkedApproximate() throws Exception {
+        SearchType searchType = SearchType.CONTENT;
+        String searchValue = "content";
+        BDDMockito.given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class)))
+                .willReturn(EstimatedPage.of(List.of(), PageRequest.of(0, 10), 51, true));
+        BDDMockito.given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
+
+        mvc.perform(get("/articles")
+                        .queryParam("searchType", searchType.name())
+                        .queryParam("searchValue", searchValue))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attribute("approximateTotal", true));
+        BDDMockito.then(paginationService).should().getPaginationBarNumbers(0, 6);
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 페이징, 정렬 기능")
     @Test
     void givenPagingAndSortingParams_whenSearchingArticlesPage_thenReturnsArticlesPage() throws Exception {
@@ -126,6 +171,63 @@ class ArticleControllerTest {
 
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서(키셋) 페이징")
+    @Test
+    void givenCursor_whenSearchingArticlesView_thenReturnsArticlesViewWithCursors() throws Exception {
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 10L, false);
+        ArticleCursorsResponse cursors = ArticleCursorsResponse.of("prev", "next");
+        BDDMockito.given(articleService.scrollArticles(null, null, cursor, 10))
+                .willReturn(Window.from(List.of(), ScrollPosition::offset));
+        BDDMockito.given(paginationService.getCursors(eq(cursor), any())).willReturn(cursors);
+
+        mvc.perform(get("/articles").queryParam("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("articleCursors", cursors))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+
+        BDDMockito.then(articleService).should().scrollArticles(null, null, cursor, 10);
+        BDDMockito.then(articleService).should(never()).searchArticles(any(), any(), any());
+        BDDMockito.then(paginationService).should().getCursors(eq(cursor), any());
+    }
+
+    @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 커서(키셋) 페이징, 빈 커서는 첫 페이지")
+    @Test
+    void givenEmptyCursor_whenRequestingArticleSearchHashtagView_thenReturnsFirstWindow() throws Exception {
+        String hashtag = "java";
+        BDDMockito.given(articleService.scrollArticlesViaHashtag(hashtag, ArticleCursor.first(), 10))
+                .willReturn(Window.from(List.of(), ScrollPosition::offset));
+        BDDMockito.given(paginationService.getCursors(eq(ArticleCursor.first()), any()))
+                .willReturn(ArticleCursorsResponse.of(null, null));
+        BDDMockito.given(articleService.getTrendingHashtags(TrendWindow.DAY, 30)).willReturn(List.of(hashtag));
+
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("searchValue", hashtag)
+                        .queryParam("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attributeExists("articleCursors"))
+                .andExpect(model().attribute("searchType", SearchType.HASHTAG));
+
+        BDDMockito.then(articleService).should().scrollArticlesViaHashtag(hashtag, ArticleCursor.first(), 10);
+    }
+
+    @DisplayName("[view][get] 해시태그 검색 페이지 - 인기 해시태그 구간 선택")
+    @Test
+    void givenTrendWindow_whenRequestingArticleSearchHashtagView_thenShowsTrendingHashtagsOfWindow() throws Exception {
+        List<String> hashtags = List.of("java", "spring");
+        BDDMockito.given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
+        BDDMockito.given(articleService.getTrendingHashtags(TrendWindow.HOUR, 30)).willReturn(hashtags);
+
+        mvc.perform(get("/articles/search-hashtag").queryParam("trend", "HOUR"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attribute("hashtags", hashtags))
+                .andExpect(model().attribute("trendWindow", TrendWindow.HOUR));
+
+        BDDMockito.then(articleService).should().getTrendingHashtags(TrendWindow.HOUR, 30);
+    }
 
     //@Disabled("구현중")
     @WithMockUser
@@ -133,29 +235,65 @@ class ArticleControllerTest {
     @Test
     void givenNothing_whenRequestingArticleView_thenReturnsArticleView() throws Exception {
         Long articleId = 1L;
-        long totalCount = 1L;
+        ArticleDto articleDto = createArticleDto(articleId);
+        ArticleNeighborsDto neighbors = ArticleNeighborsDto.of(null, 3L);
+
+        ArticleCommentCursor nextCursor = ArticleCommentCursor.of(LocalDateTime.now(), 2L);
 
-        BDDMockito.given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        BDDMockito.given(articleService.getArticleCount()).willReturn(totalCount);
+        BDDMockito.given(articleService.getCommentCount(articleId)).willReturn(21L);
+        BDDMockito.given(articleService.getArticle(articleId)).willReturn(articleDto);
+        BDDMockito.given(articleCommentService.getTopLevelComments(articleId, ArticleCommentCursor.first(), 20))
+                .willReturn(ArticleCommentWindowDto.of(List.of(createArticleCommentDto(2L)), Map.of(2L, 3L), nextCursor));
+        BDDMockito.given(articleService.getArticleNeighbors(articleId, articleDto.createdAt())).willReturn(neighbors);
 
         mvc.perform(get("/articles/" + articleId))
                 .andExpect(status().isOk())
                 .andExpect(result -> content().contentTypeCompatibleWith(MediaType.TEXT_HTML_VALUE))
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
-                .andExpect(model().attributeExists("articleComments"));
+                .andExpect(model().attributeExists("articleComments"))
+                .andExpect(model().attribute("nextCommentCursor", nextCursor.encode()))
+                .andExpect(model().attribute("neighbors", neighbors));
 
-        BDDMockito.then(articleService).should().getArticleWithComments(articleId);
-        BDDMockito.then(articleService).should().getArticleCount();
+        BDDMockito.then(articleService).should().getArticle(articleId);
+        BDDMockito.then(articleService).should().recordView(articleDto);
+        BDDMockito.then(articleCommentService).should().getTopLevelComments(articleId, ArticleCommentCursor.first(), 20);
+        BDDMockito.then(articleService).should().getArticleNeighbors(articleId, articleDto.createdAt());
+        BDDMockito.then(articleService).should(never()).getArticleWithComments(articleId);
 
     }
 
+    @WithMockUser
+    @DisplayName("[view][get] 게시글 상세 페이지 - 댓글이 한 묶음에 들어가면, 자식 댓글까지 한 번에 보여준다.")
+    @Test
+    void givenFewComments_whenRequestingArticleView_thenReturnsArticleViewWithCommentTree() throws Exception {
+        Long articleId = 1L;
+        ArticleWithCommentsDto articleDto = createArticleWithCommentsDto(articleId);
+        ArticleNeighborsDto neighbors = ArticleNeighborsDto.of(null, 3L);
+        BDDMockito.given(articleService.getCommentCount(articleId)).willReturn(2L);
+        BDDMockito.given(articleService.getArticleWithComments(articleId)).willReturn(articleDto);
+        BDDMockito.given(articleService.getArticleNeighbors(articleId, articleDto.createdAt())).willReturn(neighbors);
+
+        mvc.perform(get("/articles/" + articleId))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("article", ArticleWithCommentsResponse.from(articleDto)))
+                .andExpect(model().attribute("articleComments", hasSize(1)))
+                .andExpect(model().attribute("nextCommentCursor", nullValue()))
+                .andExpect(model().attribute("neighbors", neighbors));
+
+        BDDMockito.then(articleService).should().getArticleWithComments(articleId);
+        BDDMockito.then(articleService).should().recordView(articleDto);
+        BDDMockito.then(articleService).should(never()).getArticle(articleId);
+        BDDMockito.then(articleCommentService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 정상 호출")
     @Test
     void givenNothing_whenRequestingArticleSearchHashtagView_thenReturnsArticleSearchHashtagView() throws Exception {
         List<String> hashtags = List.of("#java", "#spring", "#boot");
         BDDMockito.given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
-        BDDMockito.given(articleService.getHashTags()).willReturn(hashtags);
+        BDDMockito.given(articleService.getTrendingHashtags(TrendWindow.DAY, 30)).willReturn(hashtags);
         BDDMockito.given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
 
@@ -165,11 +303,12 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/search-hashtag"))
                 .andExpect(model().attribute("articles", Page.empty()))
                 .andExpect(model().attribute("hashtags", hashtags))
+                .andExpect(model().attribute("trendWindow", TrendWindow.DAY))
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType" , SearchType.HASHTAG));
 
         BDDMockito.then(articleService).should().searchArticlesViaHashtag(eq(null), any(Pageable.class));
-        BDDMockito.then(articleService).should().getHashTags();
+        BDDMockito.then(articleService).should().getTrendingHashtags(TrendWindow.DAY, 30);
         BDDMockito.then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -180,7 +319,7 @@ class ArticleControllerTest {
         List<String> hashtags = List.of("#java", "#spring", "#boot");
 
         BDDMockito.given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
-        BDDMockito.given(articleService.getHashTags()).willReturn(hashtags);
+        BDDMockito.given(articleService.getTrendingHashtags(TrendWindow.DAY, 30)).willReturn(hashtags);
         BDDMockito.given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4,5));
 
         mvc.perform(get("/articles/search-hashtag")
@@ -194,11 +333,29 @@ class ArticleControllerTest {
                 .andExpect(model().attribute("hashtags", hashtags));
 
         BDDMockito.then(articleService).should().searchArticlesViaHashtag(eq(hashtag), any(Pageable.class));
-        BDDMockito.then(articleService).should().getHashTags();
+        BDDMockito.then(articleService).should().getTrendingHashtags(TrendWindow.DAY, 30);
         BDDMockito.then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
 
     }
 
+    @DisplayName("[view][GET] 게시글 해시태그 검색 페이지 - 결과가 없으면, 비슷한 해시태그를 권한다.")
+    @Test
+    void givenMistypedHashtag_whenRequestingArticleSearchHashtagView_thenReturnsDidYouMeanCandidates() throws Exception {
+        String hashtag = "jvaa";
+        List<SuggestionDto> candidates = List.of(SuggestionDto.of(SearchType.HASHTAG, "java", 12));
+
+        BDDMockito.given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
+        BDDMockito.given(suggestionService.didYouMean(SearchType.HASHTAG, hashtag)).willReturn(candidates);
+
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("searchValue", hashtag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attribute("didYouMean", candidates));
+
+        BDDMockito.then(suggestionService).should().didYouMean(SearchType.HASHTAG, hashtag);
+    }
+
     @WithMockUser
     @DisplayName("[view][GET] 새 게시글 작성 페이지")
     @Test
@@ -242,6 +399,26 @@ class ArticleControllerTest {
         System.out.println("articleRequest = " + formDataEncoder.encode(articleRequest));
     }
 
+    @WithUserDetails(value = "unoTest" , userDetailsServiceBeanName = "userDetailsService" , setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][POST] 새 게시글 등록 - 정리된 해시태그 때문에 외래 키에 걸리면 한 번 다시 시도")
+    @Test
+    void givenIntegrityViolationOnce_whenRequesting_thenRetriesSavingOnce() throws Exception {
+        ArticleRequest articleRequest = ArticleRequest.of("new title", "new content #java");
+
+        willThrow(new DataIntegrityViolationException("article_hashtag"))
+                .willDoNothing()
+                .given(articleService).saveArticle(any(ArticleDto.class));
+
+        mvc.perform(post("/articles/form")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .content(formDataEncoder.encode(articleRequest))
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/articles"));
+
+        then(articleService).should(times(2)).saveArticle(any(ArticleDto.class));
+    }
+
     @WithUserDetails(value = "unoTest" , setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("[view][POST] 게시글 삭제 - 정상 호출")
     @Test
@@ -298,17 +475,27 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto(){
-        return ArticleWithCommentsDto.of(1L,
-                createUserAccountDto(),
-                Set.of(),
-                "title",
-                "content",
-                Set.of(HashtagDto.of("java")),
-                LocalDateTime.now(),
-                "uno",
-                LocalDateTime.now(),
-                "uno");
+    private ArticleDto createArticleDto(Long id){
+        return ArticleDto.of(id, createUserAccountDto(), "title", "content", Set.of(HashtagDto.of("java")),
+                LocalDateTime.now(), "uno", LocalDateTime.now(), "uno");
+    }
+
+    private ArticleWithCommentsDto createArticleWithCommentsDto(Long id){
+        LocalDateTime now = LocalDateTime.now();
+        return ArticleWithCommentsDto.of(id, createUserAccountDto(),
+                Set.of(createArticleCommentDto(2L, null, now), createArticleCommentDto(3L, 2L, now.plusMinutes(1L))),
+                "title", "content", Set.of(HashtagDto.of("java")),
+                now, "uno", now, "uno");
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt){
+        return ArticleCommentDto.of(id, 1L, createUserAccountDto(), parentCommentId, "comment",
+                createdAt, "uno", createdAt, "uno");
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id){
+        return ArticleCommentDto.of(id, 1L, createUserAccountDto(), null, "comment",
+                LocalDateTime.now(), "uno", LocalDateTime.now(), "uno");
     }
 
     private UserAccountDto createUserAccountDto(){
@@ -49,6 +49,30 @@ class DataRestTest {
                 .andExpect(result->content().contentType(MediaType.valueOf("application/hal+json")));
     }
 
+    @DisplayName("[api] 내부용 조회, 갱신 쿼리는 검색 엔드포인트로 내보내지 않는다")
+    @Test
+    void givenNothing_whenRequestingInternalQueryMethods_thenReturnsNotFound() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles/search/addCommentCount").param("articleId", "1").param("delta", "1000000"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/articles/search/reconcileCommentCounts").param("afterId", "0").param("untilId", "1000"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/articles/search/findCommentCountById").param("articleId", "1"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/articleComments/search/countThread").param("articleId", "1").param("articleCommentId", "1"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/hashtags/search/addArticleCount").param("hashtagIds", "1").param("delta", "-50"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/hashtags/search/findOrphanCandidatesAfter").param("afterId", "0").param("createdBefore", "2100-01-01T00:00:00"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/hashtags/search/deleteOrphans").param("hashtagIds", "1"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/hashtags/search/findTopHashtagNames").param("size", "100000"))
+                .andExpect(status().isNotFound());
+    }
+
     @DisplayName("[api] 게시글 -> 댓글 리스트 조회")
     @Test
     void givenNothing_whenRequestingArticleCommentsFromArticle_thenReturnsArticleCommentsJsonResponse() throws Exception {
@@ -0,0 +1,53 @@
+package com.fastcampus.projectboard.controller;
+
+import com.fastcampus.projectboard.config.TestSecurityConfig;
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.SuggestionDto;
+import com.fastcampus.projectboard.service.SuggestionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 검색어 자동완성")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(SuggestionController.class)
+class SuggestionControllerTest {
+    private final MockMvc mvc;
+
+    @MockBean
+    private SuggestionService suggestionService;
+
+    SuggestionControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[API][GET] 자동완성 - 로그인 없이 접두어로 요청하면, 후보 목록을 JSON 으로 반환한다.")
+    @Test
+    void givenPrefix_whenRequestingSuggestions_thenReturnsSuggestions() throws Exception {
+        given(suggestionService.suggest("ja", 5)).willReturn(List.of(
+                SuggestionDto.of(SearchType.HASHTAG, "java", 3),
+                SuggestionDto.of(SearchType.NICKNAME, "jay", 1)
+        ));
+
+        mvc.perform(get("/api/suggest").queryParam("q", "ja").queryParam("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].searchType").value("HASHTAG"))
+                .andExpect(jsonPath("$[0].text").value("java"))
+                .andExpect(jsonPath("$[0].articleCount").value(3))
+                .andExpect(jsonPath("$[1].searchType").value("NICKNAME"));
+        then(suggestionService).should().suggest("ja", 5);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fastcampus.projectboard.dto.response;
+
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.UserAccountDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("DTO - 댓글 트리")
+class ArticleCommentTreeTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @DisplayName("정렬된 목록과 뒤섞인 목록으로 만든 트리는 같다.")
+    @Test
+    void givenShuffledComments_whenBuildingTree_thenSameAsSortedInput() {
+        List<ArticleCommentDto> comments = new ArrayList<>();
+        Random random = new Random(14);
+        for (long id = 1; id <= 500; id++) {
+            Long parentId = id > 1 && random.nextInt(3) > 0 ? 1L + random.nextInt((int) id - 1) : null;
+            comments.add(createArticleCommentDto(id, parentId, NOW.plusMinutes(id / 3)));
+        }
+        List<ArticleCommentDto> shuffled = new ArrayList<>(comments);
+        Collections.shuffle(shuffled, random);
+
+        List<ArticleCommentsResponse> expected = ArticleCommentTree.build(comments);
+        List<ArticleCommentsResponse> actual = ArticleCommentTree.build(shuffled);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+        Assertions.assertThat(actual).extracting(ArticleCommentsResponse::createdAt)
+                .isSortedAccordingTo(Collections.reverseOrder());
+    }
+
+    @DisplayName("깊이가 아주 깊은 댓글도 스택 넘침 없이 묶는다.")
+    @Test
+    void givenDeepReplyChain_whenBuildingTree_thenBuildsWithoutRecursion() {
+        int depth = 20_000;
+        List<ArticleCommentDto> comments = new ArrayList<>();
+        for (long id = 1; id <= depth; id++) {
+            comments.add(createArticleCommentDto(id, id == 1 ? null : id - 1, NOW.plusSeconds(id)));
+        }
+
+        List<ArticleCommentsResponse> actual = ArticleCommentTree.build(comments);
+
+        Assertions.assertThat(actual).hasSize(1);
+        ArticleCommentsResponse comment = actual.get(0);
+        int levels = 1;
+        while (!comment.childComments().isEmpty()) {
+            comment = comment.childComments().get(0);
+            levels++;
+        }
+        Assertions.assertThat(levels).isEqualTo(depth);
+    }
+
+    @DisplayName("부모 댓글이 목록에 없으면, 최상위 댓글로 둔다.")
+    @Test
+    void givenCommentWithMissingParent_whenBuildingTree_thenKeepsItAsTopLevelComment() {
+        List<ArticleCommentsResponse> actual = ArticleCommentTree.build(List.of(
+                createArticleCommentDto(2L, null, NOW),
+                createArticleCommentDto(3L, 1L, NOW.plusDays(1))
+        ));
+
+        Assertions.assertThat(actual).extracting(ArticleCommentsResponse::id).containsExactly(3L, 2L);
+    }
+
+    private ArticleCommentDto createArticleCommentDto(long id, Long parentCommentId, LocalDateTime createdAt) {
+        return ArticleCommentDto.of(
+                id,
+                1L,
+                UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", "memo", NOW, "uno", NOW, "uno"),
+                parentCommentId,
+                "test comment " + id,
+                createdAt,
+                "uno",
+                createdAt,
+                "uno");
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Set;
 
 @DisplayName("DTO - 댓글들을 포함한 게시글 응답 테스트")
 class ArticleWithCommentsResponseTest {
-    @DisplayName("자식 댓글이 없는 게시글 + 댓글 dto를 api 응답으로 변환할 때, 댓글을 시간 내림차순 + ID 오름차순으로 정리한다.")
+    @DisplayName("자식 댓글이 없는 게시글 + 댓글 dto를 api 응답으로 변환할 때, 댓글을 시간 내림차순 + ID 내림차순으로 정리한다.")
     @Test
     void givenArticleWithCommentsDtoWithoutChildComments_whenMapping_thenOrganizesCommentsWithCertainOrder() {
         LocalDateTime now = LocalDateTime.now();
@@ -44,8 +44,8 @@ class ArticleWithCommentsResponseTest {
                         createArticleCommentResponse(3L, null, now.plusDays(3L)),
                         createArticleCommentResponse(7L, null, now.plusDays(2L)),
                         createArticleCommentResponse(2L, null, now.plusDays(1L)),
-                        createArticleCommentResponse(1L, null, now),
-                        createArticleCommentResponse(4L, null, now));
+                        createArticleCommentResponse(4L, null, now),
+                        createArticleCommentResponse(1L, null, now));
     }
 
     @DisplayName("게시글 + 댓글 dto를 api 응답으로 변환할 때, 댓글 부모 자식 관계를 각각의 규칙으로 정렬하여 정리한다.")
@@ -66,12 +66,18 @@ class ArticleWithCommentsResponseTest {
         ArticleWithCommentsDto input = createArticleWithCommentsDto(articleCommentDtos);
 
         ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
+        // 자식 댓글 목록은 아래에서 따로 검증한다.
         Assertions.assertThat(actual.articleCommentResponses())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("childComments", "replyCount")
                 .containsExactly(
                         createArticleCommentResponse(5L, null, now.plusDays(5)),
                         createArticleCommentResponse(6L, null, now.plusDays(4)),
                         createArticleCommentResponse(1L, null, now)
-                        )
+                        );
+        Assertions.assertThat(actual.articleCommentResponses())
+                .extracting(ArticleCommentsResponse::replyCount)
+                .containsExactly(0L, 2L, 3L);
+        Assertions.assertThat(actual.articleCommentResponses())
                 .flatExtracting(ArticleCommentsResponse::childComments)
                 .containsExactly(
                         createArticleCommentResponse(7L, 6L, now.plusDays(2L)),
@@ -4,41 +4,73 @@ package com.fastcampus.projectboard.repository;
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentImportDto;
+import com.fastcampus.projectboard.dto.ArticleCommentImportResultDto;
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
+import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.service.ArticleCommentImportService;
+import com.fastcampus.projectboard.service.ArticleViewCounter;
+import com.fastcampus.projectboard.service.HashtagResolver;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("JPA연결 테스트")
 //@Import(JpaRepositoryTest.TestJpaConfig.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class JpaRepositoryTest {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     JpaRepositoryTest(@Autowired ArticleRepository articleRepository,
                       @Autowired ArticleCommentRepository articleCommentRepository,
                       @Autowired UserAccountRepository userAccountRepository,
-                      @Autowired HashtagRepository hashtagRepository) {
+                      @Autowired HashtagRepository hashtagRepository,
+                      @Autowired EntityManager entityManager,
+                      @Autowired JdbcTemplate jdbcTemplate) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Test
@@ -160,19 +192,391 @@ class JpaRepositoryTest {
         List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
         Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("hashtags.hashtagName"), Sort.Order.asc("title")));
 
-        Page<Article> articlePage = articleRepository.findByHashtagNames(hashtagNames, pageable);
+        Page<ArticleSummaryDto> articlePage = articleRepository.findSummariesByHashtagNames(hashtagNames, pageable);
 
         Assertions.assertThat(articlePage.getContent()).hasSize(pageable.getPageSize());
-        Assertions.assertThat(articlePage.getContent().get(0).getTitle())
+        Assertions.assertThat(articlePage.getContent().get(0).title())
                 .isEqualTo("Fusce posuere felis sed lacus.");
 
-        Assertions.assertThat(articlePage.getContent().get(0).getHashtags())
-                .extracting("hashtagName", String.class)
+        Assertions.assertThat(articlePage.getContent().get(0).hashtagNames())
                 .containsExactly("fuscia");
 
 
     }
 
+    @DisplayName("[Querydsl] 검색한 해시태그가 여러 개 달린 게시글은, 한 번만 세고 한 번만 반환한다.")
+    @Test
+    void givenArticleMatchingSeveralHashtags_whenQueryingArticlesByHashtagNames_thenCountsArticleOnce() {
+        Article article = articleRepository.findById(1L).orElseThrow();
+        article.addHashtag(hashtagRepository.findByHashtagName("blue").orElseThrow());
+        articleRepository.flush();
+        long pinkCount = articleRepository.findSummariesByHashtagNames(List.of("pink"), Pageable.unpaged()).getTotalElements();
+        long blueCount = articleRepository.findSummariesByHashtagNames(List.of("blue"), Pageable.unpaged()).getTotalElements();
+
+        Page<ArticleSummaryDto> articlePage = articleRepository.findSummariesByHashtagNames(List.of("pink", "blue"),
+                PageRequest.of(0, 2, Sort.by(Sort.Order.desc("createdAt"))));
+
+        Assertions.assertThat(articlePage.getTotalElements()).isEqualTo(pinkCount + blueCount - 1);
+        Assertions.assertThat(articlePage.getContent()).hasSize(2).doesNotHaveDuplicates();
+        Assertions.assertThat(articleRepository.findSummariesByHashtagNames(List.of("pink", "blue"), Pageable.unpaged()).getContent())
+                .doesNotHaveDuplicates()
+                .filteredOn(found -> found.id().equals(1L))
+                .singleElement()
+                .extracting(ArticleSummaryDto::hashtagNames, InstanceOfAssertFactories.COLLECTION)
+                .containsExactlyInAnyOrder("pink", "blue");
+    }
+
+    @DisplayName("[Querydsl] 목록 요약을 조회하면, 본문 앞부분과 작성자, 해시태그 이름을 담은 목록을 반환한다.")
+    @Test
+    void givenPredicateAndPageable_whenQueryingSummaries_thenReturnsSummaries() {
+        Predicate predicate = QArticle.article.userAccount.userId.eq("uno");
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.asc("hashtags"), Sort.Order.desc("createdAt")));
+
+        List<ArticleSummaryDto> summaries = articleRepository.findSummaries(predicate, pageable);
+
+        Assertions.assertThat(summaries)
+                .hasSize(5)
+                .allSatisfy(summary -> {
+                    Assertions.assertThat(summary.userId()).isEqualTo("uno");
+                    Assertions.assertThat(summary.contentPreview()).hasSizeLessThanOrEqualTo(ArticleSummaryDto.CONTENT_PREVIEW_LENGTH);
+                });
+        Assertions.assertThat(summaries)
+                .extracting(summary -> summary.hashtagNames().stream().sorted().findFirst().orElse(""))
+                .isSorted();
+
+        Article article = articleRepository.findById(summaries.get(0).id()).orElseThrow();
+        Assertions.assertThat(summaries.get(0).hashtagNames())
+                .containsExactlyInAnyOrderElementsOf(article.getHashtags().stream().map(Hashtag::getHashtagName).toList());
+        Assertions.assertThat(article.getContent()).startsWith(summaries.get(0).contentPreview());
+    }
+
+    @DisplayName("[Querydsl] 조건에 맞는 게시글을 세면, 전체 개수 또는 offset 부터 limit 까지의 개수를 반환한다.")
+    @Test
+    void givenPredicate_whenCountingArticles_thenReturnsExactOrBoundedCount() {
+        Predicate predicate = QArticle.article.userAccount.userId.eq("uno");
+        long expectedCount = articleRepository.count(predicate);
+
+        Assertions.assertThat(articleRepository.countArticles(predicate)).isEqualTo(expectedCount);
+        Assertions.assertThat(articleRepository.countArticlesUpTo(predicate, 0, 11)).isEqualTo(Math.min(expectedCount, 11));
+        Assertions.assertThat(articleRepository.countArticlesUpTo(predicate, expectedCount - 3, 11)).isEqualTo(3);
+    }
+
+    @DisplayName("[Querydsl] 작성자 ID 목록으로 세면, 목록에 있는 작성자의 게시글만 세고 빈 목록이면 0 을 반환한다.")
+    @Test
+    void givenUserIds_whenCountingArticles_thenCountsArticlesOfThoseAuthors() {
+        long expectedCount = articleRepository.count(QArticle.article.userAccount.userId.eq("uno"));
+
+        Assertions.assertThat(articleRepository.countArticles(QArticle.article.userAccount.userId.in(Set.of("uno", "nobody")))).isEqualTo(expectedCount);
+        Assertions.assertThat(articleRepository.countArticles(QArticle.article.userAccount.userId.in(Set.of()))).isZero();
+    }
+
+    @DisplayName("[Querydsl] id 목록으로 목록 요약을 조회하면, 주어진 id 순서대로 반환한다.")
+    @Test
+    void givenArticleIds_whenQueryingSummaries_thenReturnsSummariesInGivenOrder() {
+        List<ArticleSummaryDto> summaries = articleRepository.findSummariesByIds(List.of(3L, 1L, 999L, 2L));
+
+        Assertions.assertThat(summaries).extracting(ArticleSummaryDto::id).containsExactly(3L, 1L, 2L);
+    }
+
+    @DisplayName("[Querydsl] 키셋 페이징으로 다음 페이지와 이전 페이지를 이어서 조회하기")
+    @Test
+    void givenKeysetCursor_whenScrollingArticles_thenReturnsAdjacentWindows() {
+        Predicate predicate = new BooleanBuilder();
+        List<Long> expectedIds = articleRepository.findAll(PageRequest.of(0, 10, ArticleCursor.SORT))
+                .map(Article::getId)
+                .getContent();
+
+        Window<Article> firstWindow = scroll(predicate, ArticleCursor.first(), 5);
+        ArticleCursor nextCursor = ArticleCursor.from(firstWindow.positionAt(firstWindow.size() - 1), false);
+        Window<Article> secondWindow = scroll(predicate, nextCursor, 5);
+        ArticleCursor previousCursor = ArticleCursor.from(secondWindow.positionAt(0), true);
+        Window<Article> backToFirstWindow = scroll(predicate, previousCursor, 5);
+
+        Assertions.assertThat(firstWindow.hasNext()).isTrue();
+        Assertions.assertThat(firstWindow.getContent()).extracting("id").containsExactlyElementsOf(expectedIds.subList(0, 5));
+        Assertions.assertThat(secondWindow.getContent()).extracting("id").containsExactlyElementsOf(expectedIds.subList(5, 10));
+        Assertions.assertThat(backToFirstWindow.getContent()).extracting("id").containsExactlyElementsOf(expectedIds.subList(0, 5));
+        Assertions.assertThat(backToFirstWindow.hasNext()).isFalse();
+    }
+
+    @DisplayName("[Querydsl] 해시태그 조건과 함께 키셋 페이징하면, 중복 없이 조건에 맞는 게시글만 조회한다.")
+    @Test
+    void givenHashtagPredicate_whenScrollingArticles_thenReturnsDistinctMatchingArticles() {
+        Predicate predicate = QArticle.article.hashtags.any().hashtagName.in("blue", "crimson");
+
+        Window<Article> window = scroll(predicate, ArticleCursor.first(), 100);
+
+        Assertions.assertThat(window.getContent())
+                .isNotEmpty()
+                .doesNotHaveDuplicates()
+                .allSatisfy(article -> Assertions.assertThat(article.getHashtags())
+                        .extracting("hashtagName", String.class)
+                        .containsAnyOf("blue", "crimson"));
+    }
+
+    @DisplayName("[Querydsl] 상세 화면용으로 조회하면, 댓글 수와 상관없이 쿼리 두 번으로 게시글, 해시태그, 댓글, 작성자를 모두 읽는다.")
+    @Test
+    void givenArticleWithManyComments_whenQueryingWithComments_thenRunsFixedNumberOfStatements() {
+        Article article = Article.of(userAccountRepository.getReferenceById("uno"), "detail", "detail content");
+        article.addHashtags(Set.of(Hashtag.of("detail1"), Hashtag.of("detail2")));
+        articleRepository.save(article);
+        for (int i = 0; i < 30; i++) {
+            UserAccount commenter = userAccountRepository.save(UserAccount.of("commenter" + i, "pw", null, "nick" + i, null));
+            articleCommentRepository.save(ArticleComment.of(article, commenter, "comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ArticleWithCommentsDto dto = articleRepository.findWithComments(article.getId())
+                .map(ArticleWithCommentsDto::from)
+                .orElseThrow();
+
+        assertThat(dto.hashtagDtos()).hasSize(2);
+        assertThat(dto.articleCommentsDto()).hasSize(30)
+                .extracting(comment -> comment.userAccountDto().nickname())
+                .contains("nick0", "nick29");
+        assertThat(dto.articleCommentsDto()).extracting(ArticleCommentDto::id).isSorted();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("[Querydsl] 없는 게시글을 상세 화면용으로 조회하면, 빈 결과를 반환한다.")
+    @Test
+    void givenNonexistentArticleId_whenQueryingWithComments_thenReturnsEmpty() {
+        assertThat(articleRepository.findWithComments(0L)).isEmpty();
+    }
+
+    @DisplayName("[JPA] 댓글 키셋 페이징으로 최상위 댓글과 자식 댓글을 이어서 조회하고, 자식 댓글 수를 센다.")
+    @Test
+    void givenComments_whenSeekingTopLevelCommentsAndReplies_thenReturnsAdjacentWindows() {
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        Article article = articleRepository.save(Article.of(userAccount, "thread", "thread content"));
+        ArticleComment parent = articleCommentRepository.save(ArticleComment.of(article, userAccount, "parent"));
+        for (int i = 0; i < 4; i++) {
+            articleCommentRepository.save(ArticleComment.of(article, userAccount, "top " + i));
+            ArticleComment reply = ArticleComment.of(article, userAccount, "reply " + i);
+            reply.setParentCommentId(parent.getId());
+            articleCommentRepository.save(reply);
+        }
+        entityManager.flush();
+        entityManager.clear(); // 커서 값은 DB 에 저장된 정밀도로 읽어야 한다.
+
+        List<ArticleComment> firstTopLevel = articleCommentRepository.findTopLevelComments(article.getId(), PageRequest.ofSize(3));
+        ArticleComment lastTopLevel = firstTopLevel.get(firstTopLevel.size() - 1);
+        List<ArticleComment> nextTopLevel = articleCommentRepository.findTopLevelCommentsAfter(
+                article.getId(), lastTopLevel.getCreatedAt(), lastTopLevel.getId(), PageRequest.ofSize(3));
+        List<ArticleComment> firstReplies = articleCommentRepository.findReplies(article.getId(), parent.getId(), PageRequest.ofSize(2));
+        ArticleComment lastReply = firstReplies.get(firstReplies.size() - 1);
+        List<ArticleComment> nextReplies = articleCommentRepository.findRepliesAfter(
+                article.getId(), parent.getId(), lastReply.getCreatedAt(), lastReply.getId(), PageRequest.ofSize(3));
+
+        assertThat(firstTopLevel).hasSize(3);
+        assertThat(nextTopLevel).hasSize(2).doesNotContainAnyElementsOf(firstTopLevel);
+        assertThat(Stream.concat(firstTopLevel.stream(), nextTopLevel.stream()).toList())
+                .isSortedAccordingTo(Comparator.comparing(ArticleComment::getCreatedAt).thenComparing(ArticleComment::getId).reversed());
+        assertThat(firstTopLevel).extracting(ArticleComment::getParentCommentId).containsOnlyNulls();
+        assertThat(firstReplies).extracting(ArticleComment::getContent).containsExactly("reply 0", "reply 1");
+        assertThat(nextReplies).extracting(ArticleComment::getContent).containsExactly("reply 2", "reply 3");
+        assertThat(articleCommentRepository.countReplies(article.getId(), List.of(parent.getId(), lastTopLevel.getId())))
+                .singleElement()
+                .satisfies(replyCount -> {
+                    assertThat(replyCount.getParentCommentId()).isEqualTo(parent.getId());
+                    assertThat(replyCount.getReplyCount()).isEqualTo(4L);
+                });
+    }
+
+    @DisplayName("[JPA] 댓글 스레드 크기를 세면, 댓글 자신과 깊이에 상관없이 아래 달린 자식 댓글 수를 더해 반환한다.")
+    @Test
+    void givenNestedReplies_whenCountingThread_thenCountsWholeSubtree() {
+        UserAccount userAccount = userAccountRepository.getReferenceById("uno");
+        Article article = articleRepository.save(Article.of(userAccount, "thread", "thread content"));
+        ArticleComment root = articleCommentRepository.save(ArticleComment.of(article, userAccount, "root"));
+        ArticleComment parent = root;
+        for (int i = 0; i < 3; i++) {
+            ArticleComment reply = ArticleComment.of(article, userAccount, "reply " + i);
+            reply.setParentCommentId(parent.getId());
+            parent = articleCommentRepository.save(reply);
+        }
+        ArticleComment sibling = ArticleComment.of(article, userAccount, "sibling");
+        sibling.setParentCommentId(root.getId());
+        articleCommentRepository.save(sibling);
+        articleCommentRepository.save(ArticleComment.of(article, userAccount, "other"));
+        entityManager.flush();
+
+        assertThat(articleCommentRepository.countThread(article.getId(), root.getId())).isEqualTo(5L);
+        assertThat(articleCommentRepository.countThread(article.getId(), parent.getId())).isEqualTo(1L);
+        assertThat(articleCommentRepository.countThread(article.getId() + 1, root.getId())).isZero();
+    }
+
+    @DisplayName("[JPA] 댓글 수를 더하고 빼면 DB 에서 바로 바뀌고, 보정하면 실제 댓글 수와 다른 게시글만 고친다.")
+    @Test
+    void givenDriftedCommentCount_whenReconciling_thenRepairsOnlyDriftedArticles() {
+        articleRepository.reconcileCommentCounts(0L, Long.MAX_VALUE);
+        long actualCommentCount = articleCommentRepository.findByArticle_Id(1L).size();
+
+        articleRepository.addCommentCount(1L, 2);
+        articleRepository.addCommentCount(2L, -1);
+        entityManager.clear();
+        long driftedCommentCount = articleRepository.findCommentCountById(1L).orElseThrow();
+        int repairedCount = articleRepository.reconcileCommentCounts(0L, 1L);
+        entityManager.clear();
+
+        assertThat(driftedCommentCount).isEqualTo(actualCommentCount + 2);
+        assertThat(repairedCount).isEqualTo(1);
+        assertThat(articleRepository.findById(1L).orElseThrow().getCommentCount()).isEqualTo(actualCommentCount);
+        assertThat(articleRepository.reconcileCommentCounts(0L, Long.MAX_VALUE)).isEqualTo(1);
+        assertThat(articleRepository.findIdsAfter(3L, PageRequest.ofSize(2))).containsExactly(4L, 5L);
+        assertThat(articleRepository.findCommentCountById(0L)).isEmpty();
+    }
+
+    @DisplayName("[JPA] 해시태그 게시글 수를 보정하고 정리하면, 게시글 수가 0 이고 실제로도 게시글이 없는 해시태그만 한 번에 지운다.")
+    @Test
+    void givenZeroCountHashtags_whenDeletingOrphans_thenDeletesOnlyHashtagsWithoutArticles() {
+        hashtagRepository.reconcileArticleCounts(0L, Long.MAX_VALUE);
+        Hashtag orphan = hashtagRepository.save(Hashtag.of("orphan"));
+        Hashtag used = articleRepository.findById(1L).orElseThrow().getHashtags().iterator().next();
+        entityManager.flush();
+        entityManager.clear();
+        long usedArticleCount = hashtagRepository.findById(used.getId()).orElseThrow().getArticleCount();
+
+        hashtagRepository.addArticleCount(Set.of(used.getId()), -usedArticleCount);
+        List<Long> candidateIds = hashtagRepository.findOrphanCandidatesAfter(0L, LocalDateTime.now().plusMinutes(1), Pageable.unpaged())
+                .stream().map(HashtagRepository.OrphanCandidate::getId).toList();
+        int deletedCount = hashtagRepository.deleteOrphans(candidateIds);
+        entityManager.clear();
+
+        assertThat(usedArticleCount).isPositive();
+        assertThat(candidateIds).contains(orphan.getId(), used.getId());
+        assertThat(deletedCount).isEqualTo(candidateIds.size() - 1);
+        assertThat(hashtagRepository.findById(orphan.getId())).isEmpty();
+        assertThat(hashtagRepository.findById(used.getId())).isPresent();
+        assertThat(hashtagRepository.reconcileArticleCounts(0L, Long.MAX_VALUE)).isEqualTo(1);
+    }
+
+    @DisplayName("[JPA] 게시글이 많은 해시태그 이름을 조회하면, 게시글 수 내림차순으로 요청한 개수만큼만 반환한다.")
+    @Test
+    void givenHashtags_whenQueryingTopHashtagNames_thenReturnsMostUsedNamesWithinLimit() {
+        hashtagRepository.reconcileArticleCounts(0L, Long.MAX_VALUE);
+        hashtagRepository.save(Hashtag.of("unused"));
+        List<Hashtag> used = hashtagRepository.findAll(Sort.by(Sort.Order.desc("articleCount"), Sort.Order.asc("hashtagName"))).stream()
+                .filter(hashtag -> hashtag.getArticleCount() > 0)
+                .limit(3)
+                .toList();
+
+        List<String> actual = hashtagRepository.findTopHashtagNames(PageRequest.ofSize(3));
+
+        assertThat(actual).containsExactlyElementsOf(used.stream().map(Hashtag::getHashtagName).toList())
+                .doesNotContain("unused");
+    }
+
+    @DisplayName("[JPA] 최근 게시글의 해시태그 사용 기록을 조회하면, 기준 시각 이후 게시글의 (작성일시, 해시태그 이름) 을 모두 반환한다.")
+    @Test
+    void givenSince_whenQueryingHashtagUsages_thenReturnsUsagesOfRecentArticles() {
+        long expected = articleRepository.findAll().stream()
+                .mapToLong(article -> article.getHashtags().size())
+                .sum();
+
+        List<ArticleRepository.HashtagUsage> all = articleRepository.findHashtagUsagesSince(LocalDateTime.now().minusYears(100));
+        List<ArticleRepository.HashtagUsage> none = articleRepository.findHashtagUsagesSince(LocalDateTime.now().plusDays(1));
+
+        assertThat(all).hasSize((int) expected)
+                .allSatisfy(usage -> assertThat(usage.getHashtagName()).isNotBlank());
+        assertThat(none).isEmpty();
+    }
+
+    @DisplayName("[JPA] 이전 글 / 다음 글을 조회하면, (작성일시, id) 순서에서 바로 앞뒤 게시글 id 를 반환한다.")
+    @Test
+    void givenArticle_whenSeekingNeighbors_thenReturnsAdjacentIdsInCreatedAtOrder() {
+        List<Article> articles = articleRepository.findAll(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id")));
+        Article oldest = articles.get(0);
+        Article middle = articles.get(1);
+        Article newest = articles.get(articles.size() - 1);
+        Pageable first = PageRequest.ofSize(1);
+
+        assertThat(articleRepository.findOlderIds(middle.getCreatedAt(), middle.getId(), first)).containsExactly(oldest.getId());
+        assertThat(articleRepository.findNewerIds(oldest.getCreatedAt(), oldest.getId(), first)).containsExactly(middle.getId());
+        assertThat(articleRepository.findOlderIds(oldest.getCreatedAt(), oldest.getId(), first)).isEmpty();
+        assertThat(articleRepository.findNewerIds(newest.getCreatedAt(), newest.getId(), first)).isEmpty();
+    }
+
+    @DisplayName("[JDBC] 해시태그 이름을 id 로 바꾸면, 없는 이름만 게시글 트랜잭션 안에서 넣고, 정리된 이름은 사전에서 빼고 다시 찾는다.")
+    @Test
+    void givenNewAndDeletedHashtags_whenResolving_thenInsertsOnCallersConnectionAndLooksUpEvictedNamesAgain() {
+        HashtagResolver hashtagResolver = new HashtagResolver(new NamedParameterJdbcTemplate(jdbcTemplate),
+                jdbcTemplate.getDataSource(), 100);
+        Long blueId = hashtagRepository.findByHashtagName("blue").orElseThrow().getId();
+
+        Map<String, Long> first = hashtagResolver.resolve(Set.of("blue", "brand-new"), "uno");
+        Map<String, Long> again = hashtagResolver.resolve(Set.of("brand-new"), "uno");
+        jdbcTemplate.update("delete from article_hashtag where hashtag_id = ?", blueId);
+        jdbcTemplate.update("delete from hashtag where id = ?", blueId);
+        hashtagResolver.evict(Set.of("blue"));
+        Map<String, Long> recreated = hashtagResolver.resolve(Set.of("blue"), "uno");
+
+        assertThat(first).containsEntry("blue", blueId).containsKey("brand-new");
+        assertThat(again).isEqualTo(Map.of("brand-new", first.get("brand-new")));
+        assertThat(hashtagResolver.size()).isEqualTo(1); // 새로 넣은 해시태그는 커밋 전이라 사전에 없다.
+        assertThat(recreated.get("blue")).isNotEqualTo(blueId);
+        assertThat(hashtagRepository.findByHashtagName("blue")).map(Hashtag::getId).contains(recreated.get("blue"));
+    }
+
+    @DisplayName("[JDBC] 모아 둔 조회수를 flush 하면, 게시글 조회수에 배치로 더해지고 목록 요약에 보인다.")
+    @Test
+    void givenRecordedViews_whenFlushing_thenAddsViewCountsInBatch(@TempDir Path tempDir) {
+        ArticleViewCounter viewCounter = new ArticleViewCounter(jdbcTemplate, TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(), tempDir.resolve("view-counts.journal"));
+        viewCounter.record(1L);
+        viewCounter.record(1L);
+        viewCounter.record(2L);
+
+        int flushedArticles = viewCounter.flush();
+        entityManager.clear();
+
+        assertThat(flushedArticles).isEqualTo(2);
+        assertThat(articleRepository.findSummariesByIds(List.of(1L, 2L)))
+                .extracting(ArticleSummaryDto::viewCount)
+                .containsExactly(2L, 1L);
+    }
+
+    @DisplayName("[JDBC] 댓글을 일괄 등록하면, 부모보다 먼저 온 자식 댓글도 부모 id 를 찾아 넣고, 찾을 수 없는 댓글은 거르고, 댓글 수를 올린다.")
+    @Test
+    void givenCommentStream_whenImporting_thenInsertsInBatchesAndResolvesParents() {
+        ArticleCommentImportService importService = new ArticleCommentImportService(
+                new NamedParameterJdbcTemplate(jdbcTemplate), TransactionOperations.withoutTransaction());
+        Article article = articleRepository.save(Article.of(userAccountRepository.getReferenceById("uno"), "import", "import content"));
+        entityManager.flush();
+        LocalDateTime createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+        ArticleCommentImportResultDto result = importService.importComments(Stream.of(
+                ArticleCommentImportDto.of("reply", "root", article.getId(), "uno", "reply", createdAt.plusMinutes(1)),
+                ArticleCommentImportDto.of("root", null, article.getId(), "uno", "root", createdAt),
+                ArticleCommentImportDto.of("root", null, article.getId(), "uno", "duplicated", createdAt),
+                ArticleCommentImportDto.of("lost", null, 0L, "uno", "no article", createdAt),
+                ArticleCommentImportDto.of("orphan", "lost", article.getId(), "uno", "orphan", createdAt),
+                ArticleCommentImportDto.of(null, null, article.getId(), "nobody", "no user", createdAt)
+        ));
+        entityManager.clear();
+
+        assertThat(result.received()).isEqualTo(6);
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(4);
+        List<ArticleComment> comments = articleCommentRepository.findByArticle_Id(article.getId());
+        ArticleComment root = comments.stream().filter(comment -> comment.getContent().equals("root")).findFirst().orElseThrow();
+        assertThat(comments)
+                .extracting(ArticleComment::getContent, ArticleComment::getParentCommentId)
+                .containsExactlyInAnyOrder(Tuple.tuple("root", null), Tuple.tuple("reply", root.getId()));
+        assertThat(root.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+    }
+
+    private Window<Article> scroll(Predicate predicate, ArticleCursor cursor, int size) {
+        return articleRepository.findBy(predicate, query -> query
+                .sortBy(ArticleCursor.SORT)
+                .limit(size)
+                .scroll(cursor.toScrollPosition()));
+    }
+
     @EnableJpaAuditing
     @TestConfiguration
     static class TestJpaConfig{
@@ -0,0 +1,55 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비지니스 로직 - 댓글 수 보정")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentCountReconcilerTest {
+    @InjectMocks private ArticleCommentCountReconciler sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("게시글 id 를 배치 크기로 끊어 가며 보정하고, 고친 게시글 수를 합쳐 반환한다.")
+    @Test
+    void givenArticles_whenReconciling_thenRepairsEachIdRange() {
+        int batchSize = ArticleCommentCountReconciler.BATCH_SIZE;
+        List<Long> firstBatch = LongStream.rangeClosed(1, batchSize).boxed().toList();
+        BDDMockito.given(articleRepository.findIdsAfter(0L, PageRequest.ofSize(batchSize))).willReturn(firstBatch);
+        BDDMockito.given(articleRepository.findIdsAfter((long) batchSize, PageRequest.ofSize(batchSize)))
+                .willReturn(List.of(batchSize + 1L, batchSize + 2L));
+        BDDMockito.given(articleRepository.reconcileCommentCounts(0L, (long) batchSize)).willReturn(3);
+        BDDMockito.given(articleRepository.reconcileCommentCounts((long) batchSize, batchSize + 2L)).willReturn(1);
+
+        int actual = sut.reconcile();
+
+        Assertions.assertThat(actual).isEqualTo(4);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("게시글이 없으면, 아무것도 고치지 않는다.")
+    @Test
+    void givenNoArticles_whenReconciling_thenRepairsNothing() {
+        BDDMockito.given(articleRepository.findIdsAfter(0L, PageRequest.ofSize(ArticleCommentCountReconciler.BATCH_SIZE)))
+                .willReturn(List.of());
+
+        int actual = sut.reconcile();
+
+        Assertions.assertThat(actual).isZero();
+        then(articleRepository).should().findIdsAfter(0L, PageRequest.ofSize(ArticleCommentCountReconciler.BATCH_SIZE));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+}
@@ -4,7 +4,9 @@ import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.ArticleComment;
 import com.fastcampus.projectboard.domain.Hashtag;
 import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.dto.ArticleCommentCursor;
 import com.fastcampus.projectboard.dto.ArticleCommentDto;
+import com.fastcampus.projectboard.dto.ArticleCommentWindowDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
 import com.fastcampus.projectboard.repository.ArticleCommentRepository;
 import com.fastcampus.projectboard.repository.ArticleRepository;
@@ -20,15 +22,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import jakarta.persistence.EntityNotFoundException;
+
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.any;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.never;
 
 
@@ -73,19 +78,106 @@ class ArticleCommentServiceTest {
     }
 
 
-    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제한다.")
+    @DisplayName("게시글 ID로 첫 묶음을 조회하면, 한 건 더 읽어서 다음 커서를 만들고 자식 댓글 수를 함께 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingFirstTopLevelComments_thenReturnsWindowWithNextCursor() {
+        Long articleId = 1L;
+        ArticleComment first = createArticleComment(3L, "first");
+        ArticleComment second = createArticleComment(2L, "second");
+        ArticleComment extra = createArticleComment(1L, "extra");
+        BDDMockito.given(articleCommentRepository.findTopLevelComments(articleId, PageRequest.ofSize(3)))
+                .willReturn(List.of(first, second, extra));
+        BDDMockito.given(articleCommentRepository.countReplies(articleId, List.of(3L, 2L)))
+                .willReturn(List.of(replyCount(3L, 4L)));
+
+        ArticleCommentWindowDto actual = sut.getTopLevelComments(articleId, ArticleCommentCursor.first(), 2);
+
+        Assertions.assertThat(actual.comments()).extracting(ArticleCommentDto::id).containsExactly(3L, 2L);
+        Assertions.assertThat(actual.replyCountOf(3L)).isEqualTo(4L);
+        Assertions.assertThat(actual.replyCountOf(2L)).isZero();
+        Assertions.assertThat(actual.nextCursor()).isEqualTo(ArticleCommentCursor.of(second.getCreatedAt(), 2L));
+    }
+
+    @DisplayName("커서 다음의 마지막 묶음을 조회하면, 다음 커서 없이 반환한다.")
+    @Test
+    void givenCursor_whenSearchingLastTopLevelComments_thenReturnsWindowWithoutNextCursor() {
+        Long articleId = 1L;
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(LocalDateTime.now(), 2L);
+        BDDMockito.given(articleCommentRepository.findTopLevelCommentsAfter(articleId, cursor.createdAt(), cursor.id(), PageRequest.ofSize(3)))
+                .willReturn(List.of(createArticleComment(1L, "last")));
+        BDDMockito.given(articleCommentRepository.countReplies(articleId, List.of(1L))).willReturn(List.of());
+
+        ArticleCommentWindowDto actual = sut.getTopLevelComments(articleId, cursor, 2);
+
+        Assertions.assertThat(actual.comments()).extracting(ArticleCommentDto::id).containsExactly(1L);
+        Assertions.assertThat(actual.hasNext()).isFalse();
+    }
+
+    @DisplayName("부모 댓글 ID로 자식 댓글을 조회하면, 부모 댓글의 게시글 안에서 작성 순서대로 읽는다.")
+    @Test
+    void givenParentCommentId_whenSearchingReplies_thenReturnsReplyWindow() {
+        Long parentCommentId = 1L;
+        ArticleComment reply = createArticleComment(2L, "reply");
+        reply.setParentCommentId(parentCommentId);
+        BDDMockito.given(articleCommentRepository.findById(parentCommentId))
+                .willReturn(Optional.of(createArticleComment(parentCommentId, "parent")));
+        BDDMockito.given(articleCommentRepository.findReplies(1L, parentCommentId, PageRequest.ofSize(21)))
+                .willReturn(List.of(reply));
+        BDDMockito.given(articleCommentRepository.countReplies(1L, List.of(2L))).willReturn(List.of());
+
+        ArticleCommentWindowDto actual = sut.getReplies(parentCommentId, ArticleCommentCursor.first(), 20);
+
+        Assertions.assertThat(actual.comments())
+                .extracting("id", "parentCommentId")
+                .containsExactly(Tuple.tuple(2L, parentCommentId));
+        Assertions.assertThat(actual.hasNext()).isFalse();
+    }
+
+    @DisplayName("없는 부모 댓글의 자식 댓글을 조회하면, 예외를 던진다.")
+    @Test
+    void givenNonexistentParentCommentId_whenSearchingReplies_thenThrowsException() {
+        Long parentCommentId = 0L;
+        BDDMockito.given(articleCommentRepository.findById(parentCommentId)).willReturn(Optional.empty());
+
+        Throwable t = Assertions.catchThrowable(() -> sut.getReplies(parentCommentId, ArticleCommentCursor.first(), 20));
+
+        Assertions.assertThat(t)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("댓글이 없습니다 - articleCommentId: " + parentCommentId);
+        then(articleCommentRepository).should().findById(parentCommentId);
+        then(articleCommentRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("댓글 ID를 입력하면, 댓글을 삭제하고 자식 댓글까지 게시글 댓글 수에서 뺀다.")
     @Test
     void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleComment() {
         Long articleCommentId = 1L;
         String userId = "uno";
+        ArticleComment articleComment = createArticleComment(articleCommentId, "댓글");
 
-
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId,userId);
+        BDDMockito.given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
+        BDDMockito.given(articleCommentRepository.countThread(1L, articleCommentId)).willReturn(3L);
+        BDDMockito.given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId,userId)).willReturn(1L);
 
         sut.deleteArticleComment(articleCommentId, userId);
 
         then(articleCommentRepository).should()
                 .deleteByIdAndUserAccount_UserId(articleCommentId,userId);
+        then(articleRepository).should().addCommentCount(1L, -3L);
+    }
+
+    @DisplayName("다른 사람의 댓글을 삭제하려 하면, 게시글 댓글 수를 건드리지 않는다.")
+    @Test
+    void givenOtherUsersArticleCommentId_whenDeletingArticleComment_thenKeepsCommentCount() {
+        Long articleCommentId = 1L;
+        String userId = "other";
+        BDDMockito.given(articleCommentRepository.findById(articleCommentId))
+                .willReturn(Optional.of(createArticleComment(articleCommentId, "댓글")));
+        BDDMockito.given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId,userId)).willReturn(0L);
+
+        sut.deleteArticleComment(articleCommentId, userId);
+
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("부모 댓글 ID와 댓글 정보를 입력하면, 대댓글을 저장한다.")
@@ -111,6 +203,7 @@ class ArticleCommentServiceTest {
 
         then(userAccountRepository).should().getReferenceById(child.userAccountDto().userId());
         then(articleCommentRepository).should().getReferenceById(child.parentCommentId());
+        then(articleRepository).should().addCommentCount(child.articleId(), 1);
     }
 
 
@@ -157,6 +250,20 @@ class ArticleCommentServiceTest {
         return articleComment;
     }
 
+    private ArticleCommentRepository.ReplyCount replyCount(Long parentCommentId, Long count) {
+        return new ArticleCommentRepository.ReplyCount() {
+            @Override
+            public Long getParentCommentId() {
+                return parentCommentId;
+            }
+
+            @Override
+            public Long getReplyCount() {
+                return count;
+            }
+        };
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of("uno", "password", "uno@gmail.com", "Uno", null);
     }
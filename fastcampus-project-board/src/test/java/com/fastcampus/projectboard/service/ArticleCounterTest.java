@@ -0,0 +1,69 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비지니스 로직 - 전체 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCounterTest {
+    @Mock private ArticleRepository articleRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleCounter sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleCounter(articleRepository, meterRegistry);
+    }
+
+    @DisplayName("처음 조회할 때만 세고, 이후에는 게시글 생성, 삭제 이벤트로 더하고 빼며 메트릭으로 보여준다.")
+    @Test
+    void givenArticleEvents_whenGettingCount_thenCountsOnceAndFollowsEvents() {
+        BDDMockito.given(articleRepository.count()).willReturn(10L);
+
+        long seeded = sut.get();
+        sut.onArticleEvent(ArticleEvent.created(document(11L)));
+        sut.onArticleEvent(ArticleEvent.created(document(12L)));
+        sut.onArticleEvent(ArticleEvent.updated(document(12L), document(12L)));
+        sut.onArticleEvent(ArticleEvent.deleted(document(1L)));
+
+        Assertions.assertThat(seeded).isEqualTo(10L);
+        Assertions.assertThat(sut.get()).isEqualTo(11L);
+        Assertions.assertThat(meterRegistry.get("board.articles.count").gauge().value()).isEqualTo(11.0);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("보정하면, 이벤트 없이 바뀐 게시글 수를 다시 세어서 맞춘다.")
+    @Test
+    void givenDriftedCount_whenReconciling_thenReplacesCount() {
+        BDDMockito.given(articleRepository.count()).willReturn(10L, 7L);
+        sut.reconcile();
+        sut.onArticleEvent(ArticleEvent.created(document(11L)));
+
+        long actual = sut.reconcile();
+
+        Assertions.assertThat(actual).isEqualTo(7L);
+        Assertions.assertThat(sut.get()).isEqualTo(7L);
+    }
+
+    private ArticleDocument document(Long id) {
+        return ArticleDocument.of(id, "uno", "Uno", "title", "content", Set.of(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,80 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.ArticleNeighborsDto;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@DisplayName("이웃 게시글 캐시")
+class ArticleNeighborCacheTest {
+    private ArticleNeighborCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleNeighborCache(3);
+    }
+
+    @DisplayName("최대 개수를 넘으면, 가장 오래 쓰지 않은 항목부터 버린다.")
+    @Test
+    void givenOverMaxSize_whenPutting_thenEvictsLeastRecentlyUsedEntry() {
+        sut.put(1L, ArticleNeighborsDto.of(null, 2L), sut.generation());
+        sut.put(2L, ArticleNeighborsDto.of(1L, 3L), sut.generation());
+        sut.put(3L, ArticleNeighborsDto.of(2L, 4L), sut.generation());
+        sut.get(1L);
+
+        sut.put(4L, ArticleNeighborsDto.of(3L, null), sut.generation());
+
+        Assertions.assertThat(sut.size()).isEqualTo(3);
+        Assertions.assertThat(sut.get(1L)).isPresent();
+        Assertions.assertThat(sut.get(2L)).isEmpty();
+    }
+
+    @DisplayName("게시글이 생성되면, 다음 글이 없던 가장 최근 게시글 항목만 지운다.")
+    @Test
+    void givenCreatedEvent_whenInvalidating_thenRemovesOnlyNewestEntry() {
+        sut.put(2L, ArticleNeighborsDto.of(1L, 3L), sut.generation());
+        sut.put(3L, ArticleNeighborsDto.of(2L, null), sut.generation());
+
+        sut.onArticleEvent(ArticleEvent.created(document(4L)));
+
+        Assertions.assertThat(sut.get(2L)).isPresent();
+        Assertions.assertThat(sut.get(3L)).isEmpty();
+    }
+
+    @DisplayName("게시글이 삭제되면, 삭제된 게시글과 그 게시글을 이웃으로 둔 항목만 지운다.")
+    @Test
+    void givenDeletedEvent_whenInvalidating_thenRemovesEntriesReferringToDeletedArticle() {
+        sut.put(1L, ArticleNeighborsDto.of(null, 2L), sut.generation());
+        sut.put(2L, ArticleNeighborsDto.of(1L, 3L), sut.generation());
+        sut.put(4L, ArticleNeighborsDto.of(3L, 5L), sut.generation());
+        sut.onArticleEvent(ArticleEvent.deleted(document(5L)));
+        sut.put(6L, ArticleNeighborsDto.of(5L, null), sut.generation());
+
+        sut.onArticleEvent(ArticleEvent.deleted(document(2L)));
+
+        Assertions.assertThat(sut.get(1L)).isEmpty();
+        Assertions.assertThat(sut.get(2L)).isEmpty();
+        Assertions.assertThat(sut.get(6L)).isPresent();
+    }
+
+    @DisplayName("조회하는 동안 무효화가 일어났으면, 조회 결과를 넣지 않는다.")
+    @Test
+    void givenInvalidationDuringLoad_whenPutting_thenSkipsStaleEntry() {
+        long generation = sut.generation();
+        sut.onArticleEvent(ArticleEvent.deleted(document(9L)));
+
+        sut.put(1L, ArticleNeighborsDto.of(null, 9L), generation);
+
+        Assertions.assertThat(sut.get(1L)).isEmpty();
+    }
+
+    private ArticleDocument document(Long id) {
+        return ArticleDocument.of(id, "uno", "Uno", "title", "content", Set.of(), LocalDateTime.now());
+    }
+}
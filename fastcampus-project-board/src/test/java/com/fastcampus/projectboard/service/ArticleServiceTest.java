@@ -2,15 +2,27 @@ package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.Article;
 import com.fastcampus.projectboard.domain.Hashtag;
+import com.fastcampus.projectboard.domain.QArticle;
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.domain.type.TrendWindow;
+import com.fastcampus.projectboard.dto.ArticleCursor;
 import com.fastcampus.projectboard.dto.ArticleDto;
+import com.fastcampus.projectboard.dto.ArticleNeighborsDto;
+import com.fastcampus.projectboard.dto.ArticleSummaryDto;
 import com.fastcampus.projectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.projectboard.dto.EstimatedPage;
 import com.fastcampus.projectboard.dto.HashtagDto;
+import com.fastcampus.projectboard.dto.HashtagTrendDto;
 import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
 import com.fastcampus.projectboard.repository.ArticleRepository;
 import com.fastcampus.projectboard.repository.HashtagRepository;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
+import com.fastcampus.projectboard.service.search.ArticleSearchCache;
+import com.fastcampus.projectboard.service.search.ArticleSearchEngine;
+import com.fastcampus.projectboard.service.search.AuthorDirectory;
+import com.querydsl.core.types.Predicate;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -20,12 +32,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
@@ -37,7 +55,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.as;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 
 @DisplayName("비지니스 로직 - 게시글")
 @ExtendWith(MockitoExtension.class)
@@ -57,16 +75,40 @@ class ArticleServiceTest {
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Mock
+    private ArticleSearchEngine articleSearchEngine;
+
+    @Mock
+    private ArticleSearchCache articleSearchCache;
+
+    @Mock
+    private AuthorDirectory authorDirectory;
+
+    @Spy
+    private SearchCountStrategy searchCountStrategy = new SearchCountStrategy(new PaginationService(), Duration.ofMinutes(1));
+
+    @Mock
+    private ArticleNeighborCache articleNeighborCache;
+
+    @Mock
+    private ArticleViewCounter articleViewCounter;
+
+    @Mock
+    private HashtagTrendCounter hashtagTrendCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummaries(any(Predicate.class), eq(pageable))).willReturn(List.of());
 
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
         Assertions.assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSummaries(any(Predicate.class), eq(pageable));
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -74,7 +116,7 @@ class ArticleServiceTest {
     void givenNoSearchParameters_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
         Pageable pageable = Pageable.ofSize(20);
 
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null, pageable);
         Assertions.assertThat(articles).isEqualTo(Page.empty(pageable));
 
         then(hashtagRepository).shouldHaveNoInteractions();
@@ -88,12 +130,12 @@ class ArticleServiceTest {
         String hashtagName = "난 없지롱";
         Pageable pageable = Pageable.ofSize(20);
 
-        BDDMockito.given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        BDDMockito.given(articleRepository.findSummariesByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         Assertions.assertThat(articles).isEqualTo(Page.empty(pageable));
 
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findSummariesByHashtagNames(List.of(hashtagName), pageable);
 
 
     }
@@ -107,11 +149,149 @@ class ArticleServiceTest {
 
         Pageable pageable = Pageable.ofSize(20);
 
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        given(articleSearchEngine.supports(searchType)).willReturn(false);
+        given(articleRepository.findSummaries(any(Predicate.class), eq(pageable))).willReturn(List.of());
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        Assertions.assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummaries(any(Predicate.class), eq(pageable));
+        then(articleRepository).should(never()).findAll(any(Pageable.class));
+    }
+
+    @DisplayName("작성자 목록이 준비되어 있으면, 닉네임 검색은 찾은 회원 ID 목록으로 게시글을 조회한다.")
+    @Test
+    void givenAuthorDirectoryReady_whenSearchingArticlesByNickname_thenQueriesByUserIds() {
+        Pageable pageable = Pageable.ofSize(20);
+        given(authorDirectory.supports(SearchType.NICKNAME)).willReturn(true);
+        given(authorDirectory.findUserIds(SearchType.NICKNAME, "우노")).willReturn(Set.of("uno2"));
+        Predicate expectedPredicate = QArticle.article.userAccount.userId.in(Set.of("uno2"));
+        given(articleRepository.findSummaries(expectedPredicate, pageable)).willReturn(List.of());
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.NICKNAME, "우노", pageable);
 
         Assertions.assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findSummaries(expectedPredicate, pageable);
+    }
+
+    @DisplayName("캐시된 검색이면, 캐시의 id 페이지로 목록만 다시 읽고 검색과 count 는 하지 않는다.")
+    @Test
+    void givenCachedSearch_whenSearchingArticles_thenReturnsArticlePageFromCachedIds() {
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSearchCache.Key cacheKey = ArticleSearchCache.Key.of(SearchType.TITLE, "title", pageable);
+        given(articleSearchCache.get(cacheKey)).willReturn(Optional.of(new PageImpl<>(List.of(1L), pageable, 21)));
+        given(articleRepository.findSummariesByIds(List.of(1L))).willReturn(List.of(createArticleSummaryDto(1L)));
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.TITLE, "title", pageable);
+
+        Assertions.assertThat(articles.getTotalElements()).isEqualTo(21);
+        Assertions.assertThat(articles.getContent()).extracting("id").containsExactly(1L);
+        then(articleSearchEngine).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).findSummaries(any(), any());
+        then(articleSearchCache).should(never()).put(any(), any(), anyLong());
+    }
+
+    @DisplayName("캐시에 없는 검색이면, 검색한 id 페이지를 조회 시작 시점의 generation 과 함께 캐시에 넣는다.")
+    @Test
+    void givenUncachedSearch_whenSearchingArticles_thenPutsArticleIdsIntoCache() {
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSearchCache.Key cacheKey = ArticleSearchCache.Key.of(SearchType.TITLE, "title", pageable);
+        given(articleSearchCache.generation()).willReturn(7L);
+        given(articleSearchEngine.supports(SearchType.TITLE)).willReturn(false);
+        given(articleRepository.findSummaries(any(Predicate.class), eq(pageable)))
+                .willReturn(List.of(createArticleSummaryDto(3L)));
+
+        sut.searchArticles(SearchType.TITLE, "title", pageable);
+
+        then(articleSearchCache).should().put(eq(cacheKey), argThat(page -> page.getContent().equals(List.of(3L))), eq(7L));
+    }
+
+    @DisplayName("본문으로 검색해서 페이지가 가득 차면, 전체 count 대신 몇 페이지 앞까지만 세고 근사 전체 개수를 반환한다.")
+    @Test
+    void givenExpensiveSearchFillingPage_whenSearchingArticles_thenProbesInsteadOfCounting() {
+        Pageable pageable = Pageable.ofSize(2);
+        given(articleSearchEngine.supports(SearchType.CONTENT)).willReturn(false);
+        given(articleRepository.findSummaries(any(Predicate.class), eq(pageable)))
+                .willReturn(List.of(createArticleSummaryDto(2L), createArticleSummaryDto(1L)));
+        given(articleRepository.countArticlesUpTo(any(Predicate.class), eq(0L), eq(11))).willReturn(11L);
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.CONTENT, "content", pageable);
+
+        Assertions.assertThat(articles.getTotalElements()).isEqualTo(11);
+        Assertions.assertThat(EstimatedPage.isTotalApproximate(articles)).isTrue();
+        then(articleRepository).should(never()).countArticles(any());
+    }
+
+    @DisplayName("색인이 준비된 상태에서 제목으로 검색하면, 색인에서 찾은 순서대로 게시글 페이지를 반환한다.")
+    @Test
+    void givenReadyIndex_whenSearchingArticlesByTitle_thenReturnsArticlePageFromIndex() {
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(20);
+
+        given(articleSearchEngine.supports(searchType)).willReturn(true);
+        given(articleSearchEngine.search(searchType, searchKeyword, pageable))
+                .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        given(articleRepository.findSummariesByIds(List.of(2L, 1L))).willReturn(List.of(createArticleSummaryDto(2L), createArticleSummaryDto(1L)));
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        Assertions.assertThat(articles.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(articles.getContent()).extracting("id").containsExactly(2L, 1L);
+        then(articleRepository).should().findSummariesByIds(List.of(2L, 1L));
+        then(articleRepository).should(never()).findSummaries(any(), any());
+    }
+
+    @DisplayName("색인이 준비되기 전에 해시태그로 검색하면, 해시태그 조건으로 DB 에서 게시글 페이지를 반환한다.")
+    @Test
+    void givenNotReadyIndex_whenSearchingArticlesByHashtagQuery_thenReturnsArticlePageFromDatabase() {
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchEngine.supports(SearchType.HASHTAG)).willReturn(false);
+        given(articleRepository.findSummaries(any(Predicate.class), eq(pageable))).willReturn(List.of());
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.HASHTAG, "#java #spring -#kotlin", pageable);
+
+        Assertions.assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummaries(any(Predicate.class), eq(pageable));
+        then(articleRepository).should(never()).findSummariesByHashtagNames(any(), any());
+    }
+
+    @DisplayName("검색어 없이 게시글을 키셋 페이징하면, 게시글 window 를 반환한다.")
+    @Test
+    void givenNoSearchParametersAndCursor_whenScrollingArticles_thenReturnsArticleWindow() {
+        Article article = createArticle();
+        given(articleRepository.<Article, Window<Article>>findBy(any(Predicate.class), any()))
+                .willReturn(Window.from(List.of(article), ScrollPosition::offset, true));
+
+        Window<ArticleSummaryDto> articles = sut.scrollArticles(null, null, ArticleCursor.first(), 10);
+
+        Assertions.assertThat(articles.getContent()).extracting("id").containsExactly(article.getId());
+        Assertions.assertThat(articles.hasNext()).isTrue();
+        then(articleSearchEngine).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("색인이 준비된 상태에서 제목으로 키셋 페이징하면, 색인 결과로 게시글 window 를 반환한다.")
+    @Test
+    void givenReadyIndexAndCursor_whenScrollingArticlesByTitle_thenReturnsArticleWindowFromIndex() {
+        ArticleCursor cursor = ArticleCursor.first();
+        given(articleSearchEngine.supports(SearchType.TITLE)).willReturn(true);
+        given(articleSearchEngine.scroll(SearchType.TITLE, "title", cursor, 10))
+                .willReturn(Window.from(List.of(1L), ScrollPosition::offset, false));
+        given(articleRepository.findSummariesByIds(List.of(1L))).willReturn(List.of(createArticleSummaryDto(1L)));
+
+        Window<ArticleSummaryDto> articles = sut.scrollArticles(SearchType.TITLE, "title", cursor, 10);
+
+        Assertions.assertThat(articles.getContent()).extracting("id").containsExactly(1L);
+        Assertions.assertThat(articles.hasNext()).isFalse();
+        then(articleRepository).should(never()).findBy(any(Predicate.class), any());
+    }
+
+    @DisplayName("검색어 없이 해시태그로 키셋 페이징하면, 빈 window 를 반환한다.")
+    @Test
+    void givenNoHashtag_whenScrollingArticlesViaHashtag_thenReturnsEmptyWindow() {
+        Window<ArticleSummaryDto> articles = sut.scrollArticlesViaHashtag(null, ArticleCursor.first(), 10);
+
+        Assertions.assertThat(articles.isEmpty()).isTrue();
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -138,7 +318,7 @@ class ArticleServiceTest {
     void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.findWithComments(articleId)).willReturn(Optional.of(article));
 
         ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
         Assertions.assertThat(dto)
@@ -147,7 +327,7 @@ class ArticleServiceTest {
                 .hasFieldOrPropertyWithValue("hashtagDtos", article.getHashtags().stream().map(HashtagDto::from)
                         .collect(Collectors.toUnmodifiableSet()));
 
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithComments(articleId);
     }
 
 
@@ -155,14 +335,39 @@ class ArticleServiceTest {
     @Test
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         Long articleId = 0L;
-        BDDMockito.given(articleRepository.findById(articleId))
+        BDDMockito.given(articleRepository.findWithComments(articleId))
                 .willReturn(Optional.empty());
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
         Assertions.assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
         then(articleRepository).should()
-                .findById(articleId);
+                .findWithComments(articleId);
+    }
+
+    @DisplayName("게시글 ID로 댓글 수를 조회하면, 게시글에 쌓아 둔 댓글 수를 반환한다.")
+    @Test
+    void givenArticleId_whenCountingComments_thenReturnsCommentCount() {
+        Long articleId = 1L;
+        given(articleRepository.findCommentCountById(articleId)).willReturn(Optional.of(3L));
+
+        long actual = sut.getCommentCount(articleId);
+
+        Assertions.assertThat(actual).isEqualTo(3L);
+        then(articleRepository).should().findCommentCountById(articleId);
+    }
+
+    @DisplayName("없는 게시글의 댓글 수를 조회하면, 예외를 던진다.")
+    @Test
+    void givenNonexistentArticleId_whenCountingComments_thenThrowsException() {
+        Long articleId = 0L;
+        given(articleRepository.findCommentCountById(articleId)).willReturn(Optional.empty());
+
+        Throwable t = catchThrowable(() -> sut.getCommentCount(articleId));
+
+        Assertions.assertThat(t)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
     }
 
     @DisplayName("없는 게시글을 조회하면, 예외를 던진다.")
@@ -190,14 +395,16 @@ class ArticleServiceTest {
         BDDMockito.given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
         given(articleRepository.save(any(Article.class))).willReturn(createArticle());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.resolveHashtags(expectedHashtagNames, dto.userAccountDto().userId())).willReturn(expectedHashtags);
 
         sut.saveArticle(dto);
 
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().resolveHashtags(expectedHashtagNames, dto.userAccountDto().userId());
         then(articleRepository).should().save(any(Article.class));
+        then(hashtagService).should().addArticleCount(Set.of(1L, 2L), 1);
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
 
 
     }
@@ -213,18 +420,15 @@ class ArticleServiceTest {
         Set<String> expectedHashtagNames = Set.of("springboot");
 
         Set<Hashtag> expectedHashtags = new HashSet<>();
+        expectedHashtags.add(createHashtag(3L, "springboot"));
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
 
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
 
 
-        //willDoNothing().given(articleRepository).flush();
-
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
-
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.resolveHashtags(expectedHashtagNames, dto.userAccountDto().userId())).willReturn(expectedHashtags);
 
 
         sut.updateArticle(dto.id() , dto);
@@ -239,14 +443,59 @@ class ArticleServiceTest {
 
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().addArticleCount(Set.of(1L, 2L), -1);
         then(hashtagService).should().parseHashtagNames(dto.content());
+        then(hashtagService).should().addArticleCount(Set.of(3L), 1);
+
+        then(hashtagService).should().resolveHashtags(expectedHashtagNames, dto.userAccountDto().userId());
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+
+
+    }
+
 
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+    @DisplayName("게시글 본문이 그대로면, 제목만 고치고 해시태그는 건드리지 않는다.")
+    @Test
+    void givenUnchangedContent_whenUpdatingArticle_thenSkipsHashtags() {
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", article.getContent());
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
 
+        sut.updateArticle(dto.id(), dto);
 
+        Assertions.assertThat(article)
+                .hasFieldOrPropertyWithValue("title", dto.title())
+                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
+                .extracting("hashtagName")
+                .containsExactlyInAnyOrder("java", "spring");
+        then(hashtagService).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).flush();
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
+    @DisplayName("게시글 본문의 해시태그가 일부만 바뀌면, 빠진 해시태그와 새 해시태그만 연결을 바꾸고 게시글 수를 더하고 뺀다.")
+    @Test
+    void givenPartiallyChangedHashtags_whenUpdatingArticle_thenTouchesOnlyDifference() {
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #java #jpa");
+        Set<String> hashtagNames = Set.of("java", "jpa");
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(hashtagNames);
+        given(hashtagService.resolveHashtags(Set.of("jpa"), dto.userAccountDto().userId()))
+                .willReturn(new HashSet<>(Set.of(createHashtag(3L, "jpa"))));
+
+        sut.updateArticle(dto.id(), dto);
+
+        Assertions.assertThat(article)
+                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
+                .extracting("hashtagName")
+                .containsExactlyInAnyOrder("java", "jpa");
+        then(hashtagService).should().resolveHashtags(Set.of("jpa"), dto.userAccountDto().userId());
+        then(hashtagService).should().addArticleCount(Set.of(2L), -1);
+        then(hashtagService).should().addArticleCount(Set.of(3L), 1);
+    }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
@@ -261,14 +510,69 @@ class ArticleServiceTest {
 
     }
 
-    @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
+    @DisplayName("이웃 게시글을 조회하면, (작성일시, id) 순서에서 바로 앞뒤 게시글을 한 행씩 찾아 캐시에 넣는다.")
+    @Test
+    void givenArticleIdAndCreatedAt_whenSearchingNeighbors_thenSeeksOneRowEachAndCachesThem() {
+        Long articleId = 5L;
+        LocalDateTime createdAt = LocalDateTime.now();
+        BDDMockito.given(articleNeighborCache.get(articleId)).willReturn(Optional.empty());
+        BDDMockito.given(articleNeighborCache.generation()).willReturn(7L);
+        BDDMockito.given(articleRepository.findOlderIds(createdAt, articleId, PageRequest.ofSize(1))).willReturn(List.of(3L));
+        BDDMockito.given(articleRepository.findNewerIds(createdAt, articleId, PageRequest.ofSize(1))).willReturn(List.of());
+
+        ArticleNeighborsDto actual = sut.getArticleNeighbors(articleId, createdAt);
+
+        Assertions.assertThat(actual).isEqualTo(ArticleNeighborsDto.of(3L, null));
+        then(articleNeighborCache).should().put(articleId, actual, 7L);
+    }
+
+    @DisplayName("캐시에 있는 게시글의 이웃을 조회하면, DB 를 조회하지 않는다.")
     @Test
-    void givenNothing_whenCountingArticles_thenReturnsArticleCount() {
-        long expected = 0L;
-        BDDMockito.given(articleRepository.count()).willReturn(expected);
-        long actual = sut.getArticleCount();
+    void givenCachedNeighbors_whenSearchingNeighbors_thenReturnsCachedNeighbors() {
+        Long articleId = 5L;
+        ArticleNeighborsDto expected = ArticleNeighborsDto.of(4L, 6L);
+        BDDMockito.given(articleNeighborCache.get(articleId)).willReturn(Optional.of(expected));
+
+        ArticleNeighborsDto actual = sut.getArticleNeighbors(articleId, LocalDateTime.now());
+
         Assertions.assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글을 조회하면, 조회수는 DB 에 바로 쓰지 않고 조회수 카운터와 인기 해시태그 집계에 모은다.")
+    @Test
+    void givenArticle_whenRecordingView_thenDelegatesToCounters() {
+        ArticleDto dto = ArticleDto.of(1L, createUserAccountDto(), "title", "content",
+                Set.of(HashtagDto.of("java")), LocalDateTime.now(), "Uno", LocalDateTime.now(), "Uno");
+
+        sut.recordView(dto);
+
+        then(articleViewCounter).should().record(1L);
+        then(hashtagTrendCounter).should().recordView(Set.of("java"));
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("인기 해시태그를 조회하면, 집계 순서대로 반환하고 개수가 모자라면 게시글이 많은 해시태그 limit 개 안에서 채운다.")
+    @Test
+    void givenFewTrendingHashtags_whenGettingTrendingHashtags_thenFillsWithOtherHashtags() {
+        given(hashtagTrendCounter.top(TrendWindow.DAY, 3))
+                .willReturn(List.of(HashtagTrendDto.of("spring", 5L), HashtagTrendDto.of("java", 2L)));
+        given(hashtagRepository.findTopHashtagNames(PageRequest.ofSize(3))).willReturn(List.of("java", "blue", "red"));
+
+        List<String> actual = sut.getTrendingHashtags(TrendWindow.DAY, 3);
+
+        Assertions.assertThat(actual).containsExactly("spring", "java", "blue");
+    }
+
+    @DisplayName("인기 해시태그가 충분하면, 전체 해시태그 이름은 조회하지 않는다.")
+    @Test
+    void givenEnoughTrendingHashtags_whenGettingTrendingHashtags_thenSkipsHashtagQuery() {
+        given(hashtagTrendCounter.top(TrendWindow.HOUR, 1)).willReturn(List.of(HashtagTrendDto.of("spring", 5L)));
+
+        List<String> actual = sut.getTrendingHashtags(TrendWindow.HOUR, 1);
+
+        Assertions.assertThat(actual).containsExactly("spring");
+        then(hashtagRepository).shouldHaveNoInteractions();
     }
 
 
@@ -282,16 +586,31 @@ class ArticleServiceTest {
 
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
 
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId , userId);
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId , userId)).willReturn(1L);
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
 
         sut.deleteArticle(articleId , userId);
 
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
 
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().addArticleCount(Set.of(1L, 2L), -1);
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+    }
+
+    @DisplayName("작성자가 아닌 사람이 게시글 삭제를 요청하면, 삭제 이벤트를 발행하지 않는다.")
+    @Test
+    void givenArticleIdWithDifferentUser_whenDeletingArticle_thenPublishesNoEvent() {
+        Long articleId = 1L;
+        String userId = "john";
+
+        given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
+
+        sut.deleteArticle(articleId, userId);
+
+        then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
@@ -300,17 +619,33 @@ class ArticleServiceTest {
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
 
-        Article expectedArticle = createArticle();
+        ArticleSummaryDto expectedArticle = createArticleSummaryDto(1L);
 
-        BDDMockito.given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        BDDMockito.given(articleRepository.findSummariesByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
-        Assertions.assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        Assertions.assertThat(articles).isEqualTo(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        then(articleRepository).should().findSummariesByHashtagNames(List.of(hashtagName), pageable);
 
 
     }
 
+    @DisplayName("색인이 준비된 상태에서 게시글을 해시태그 검색하면, 비트맵 색인 결과로 게시글 페이지를 반환한다.")
+    @Test
+    void givenReadyIndex_whenSearchingArticlesViaHashtag_thenReturnsArticlePageFromIndex() {
+        String hashtagName = "java";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchEngine.supports(SearchType.HASHTAG)).willReturn(true);
+        given(articleSearchEngine.search(SearchType.HASHTAG, hashtagName, pageable))
+                .willReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        given(articleRepository.findSummariesByIds(List.of(1L))).willReturn(List.of(createArticleSummaryDto(1L)));
+
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+
+        Assertions.assertThat(articles.getContent()).extracting("id").containsExactly(1L);
+        then(articleRepository).should(never()).findSummariesByHashtagNames(any(), any());
+    }
+
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다")
     @Test
     void givenNothing_whenCalling_thenReturnsHashtags() {
@@ -423,4 +758,16 @@ class ArticleServiceTest {
                 LocalDateTime.now(),
                 "Uno");
     }
+
+    private ArticleSummaryDto createArticleSummaryDto(Long id) {
+        return ArticleSummaryDto.of(id,
+                "title",
+                "content",
+                Set.of("java", "spring"),
+                LocalDateTime.now(),
+                "uno",
+                "Uno",
+                0L,
+                0L);
+    }
 }
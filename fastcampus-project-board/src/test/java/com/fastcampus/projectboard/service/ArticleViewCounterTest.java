@@ -0,0 +1,117 @@
+package com.fastcampus.projectboard.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비지니스 로직 - 게시글 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCounterTest {
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @TempDir private Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Path journalPath;
+    private ArticleViewCounter sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        journalPath = tempDir.resolve("view-counts.journal");
+        sut = new ArticleViewCounter(jdbcTemplate, TransactionOperations.withoutTransaction(), meterRegistry, journalPath);
+    }
+
+    @DisplayName("여러 스레드에서 조회해도, 게시글별로 합친 조회수를 배치 update 한 번으로 더하고 저널을 비운다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenConcurrentViews_whenFlushing_thenAddsAggregatedDeltasInOneBatch() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            long articleId = i % 2 == 0 ? 1L : 2L;
+            executor.execute(() -> sut.record(articleId));
+        }
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        sut.checkpoint();
+        boolean journaled = Files.exists(journalPath);
+
+        int actual = sut.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<Long, Long>>> deltas = ArgumentCaptor.forClass(Collection.class);
+        then(jdbcTemplate).should().batchUpdate(eq(ArticleViewCounter.ADD_VIEW_COUNT_SQL), deltas.capture(), anyInt(), any());
+        Assertions.assertThat(actual).isEqualTo(2);
+        Assertions.assertThat(deltas.getValue()).containsExactlyInAnyOrder(Map.entry(1L, 500L), Map.entry(2L, 500L));
+        Assertions.assertThat(journaled).isTrue();
+        Assertions.assertThat(journalPath).doesNotExist();
+        Assertions.assertThat(meterRegistry.get("board.article.views.flushed").functionCounter().count()).isEqualTo(1000);
+        Assertions.assertThat(sut.flush()).isZero();
+    }
+
+    @DisplayName("DB 에 더하지 못하면, 조회수를 다시 모아 두고 저널에 남긴다.")
+    @Test
+    void givenDatabaseFailure_whenFlushing_thenKeepsDeltasForNextFlush() {
+        BDDMockito.given(jdbcTemplate.batchUpdate(eq(ArticleViewCounter.ADD_VIEW_COUNT_SQL), anyCollection(), anyInt(), any()))
+                .willThrow(new DataAccessResourceFailureException("down"));
+        sut.record(1L);
+        sut.record(1L);
+
+        int actual = sut.flush();
+        sut.checkpoint();
+
+        Assertions.assertThat(actual).isZero();
+        Assertions.assertThat(journalPath).hasContent("1 2");
+    }
+
+    @DisplayName("저널이 남아 있으면, 새로 띄울 때 읽어서 다음 flush 때 더한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenJournal_whenStarting_thenRecoversPendingViews() throws Exception {
+        Files.write(journalPath, List.of("3 7", "broken line", "4 x"));
+
+        ArticleViewCounter recovered = new ArticleViewCounter(jdbcTemplate, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), journalPath);
+        recovered.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<Long, Long>>> deltas = ArgumentCaptor.forClass(Collection.class);
+        then(jdbcTemplate).should().batchUpdate(eq(ArticleViewCounter.ADD_VIEW_COUNT_SQL), deltas.capture(), anyInt(), any());
+        Assertions.assertThat(deltas.getValue()).containsExactly(Map.entry(3L, 7L));
+    }
+
+
+    @DisplayName("저널 경로를 지정하지 않으면, 데이터 디렉터리 아래에 인스턴스 id 를 붙인 파일을 쓴다.")
+    @Test
+    void givenDataDirAndInstanceId_whenResolvingJournalPath_thenUsesPerInstanceFile() {
+        Assertions.assertThat(ArticleViewCounter.journalPathOf("", "/var/lib/board", "board-1"))
+                .isEqualTo(Path.of("/var/lib/board", "view-counts-board-1.journal"));
+        Assertions.assertThat(ArticleViewCounter.journalPathOf("", "/var/lib/board", "pod/a:1"))
+                .isEqualTo(Path.of("/var/lib/board", "view-counts-pod_a_1.journal"));
+        Assertions.assertThat(ArticleViewCounter.journalPathOf("/data/views.journal", "/var/lib/board", "board-1"))
+                .isEqualTo(Path.of("/data/views.journal"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.fastcampus.projectboard.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@DisplayName("비지니스 로직 - 해시태그 추출")
+class HashtagExtractorTest {
+    private static final Pattern REFERENCE = Pattern.compile("(?<![\\p{L}\\p{M}\\p{Nd}_])(#[\\p{L}\\p{M}\\p{Nd}_]+)+");
+    private static final String[] ALPHABET = {
+            "a", "Z", "q", "0", "9", "_", "#", "#", "#", " ", "\n", ".", ",", "-", "!",
+            "가", "힣", "자", "바",
+            "\u110C\u1161", "\u1107\u1161\u11B8",   // 자모로 나뉜 "자", "밥"
+            "\u3148", "e\u0301", "\u00E9", "\uD83D\uDE00",    // 호환 자모, 악센트 문자(결합형, 완성형), 이모지(서로게이트 쌍)
+            "\u0915\u093F", "\u0661", "\u00B2"                   // 데바나가리 문자 + 결합 모음, 아랍 숫자, 위 첨자(숫자지만 Nd 가 아님)
+    };
+
+    private final HashtagExtractor sut = new HashtagExtractor(5);
+
+    @DisplayName("무작위 본문에서도, NFC 정규화한 본문에 정규식을 적용해 '#' 으로 나눈 결과(최대 길이 이하)와 같다.")
+    @Test
+    void givenRandomContent_whenExtracting_thenMatchesRegexSemantics() {
+        Random random = new Random(20221018L);
+
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder content = new StringBuilder();
+            int tokens = random.nextInt(30);
+            for (int j = 0; j < tokens; j++) {
+                content.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+
+            Assertions.assertThat(sut.extract(content.toString()))
+                    .as("content: %s", content)
+                    .isEqualTo(reference(content.toString(), 5));
+        }
+    }
+
+    @DisplayName("자모로 나뉜 한글(NFD)도 음절로 합쳐서 추출한다.")
+    @Test
+    void givenDecomposedHangul_whenExtracting_thenReturnsComposedName() {
+        String content = Normalizer.normalize("#자바 #스프링", Normalizer.Form.NFD);
+
+        Assertions.assertThat(sut.extract(content)).containsExactlyInAnyOrder("자바", "스프링");
+    }
+
+    @DisplayName("최대 길이보다 긴 해시태그는 자르지 않고 버린다.")
+    @Test
+    void givenTooLongHashtag_whenExtracting_thenDropsIt() {
+        Assertions.assertThat(sut.extract("#java #spring #boot#jpa")).containsExactlyInAnyOrder("java", "boot", "jpa");
+    }
+
+    @DisplayName("한글, 영문 밖의 문자도 이름에 넣고, 글자 바로 뒤의 '#' 은 해시태그로 보지 않는다.")
+    @Test
+    void givenUnicodeAndEmbeddedHash_whenExtracting_thenUsesUnicodeWordBoundaries() {
+        Assertions.assertThat(sut.extract("#café abc#tag #東京 #java#jpa")).containsExactlyInAnyOrder("café", "東京", "java", "jpa");
+    }
+
+    @DisplayName("해시태그가 없거나 본문이 없으면, 빈 Set 을 반환한다.")
+    @Test
+    void givenNoHashtag_whenExtracting_thenReturnsEmptySet() {
+        Assertions.assertThat(sut.extract(null)).isEmpty();
+        Assertions.assertThat(sut.extract("java spring")).isEmpty();
+        Assertions.assertThat(sut.extract("# ## #!")).isEmpty();
+    }
+
+    private static Set<String> reference(String content, int maxLength) {
+        Matcher matcher = REFERENCE.matcher(Normalizer.normalize(content, Normalizer.Form.NFC));
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            for (String name : matcher.group().substring(1).split("#")) {
+                if (name.codePointCount(0, name.length()) <= maxLength) {
+                    result.add(name);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.repository.HashtagRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비지니스 로직 - 게시글 없는 해시태그 정리")
+@ExtendWith(MockitoExtension.class)
+class HashtagOrphanCollectorTest {
+    @InjectMocks private HashtagOrphanCollector sut;
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagResolver hashtagResolver;
+
+    @DisplayName("해시태그 id 를 배치 크기로 끊어 가며 게시글 수를 보정하고, 고친 해시태그 수를 합쳐 반환한다.")
+    @Test
+    void givenHashtags_whenReconciling_thenRepairsEachIdRange() {
+        int batchSize = HashtagOrphanCollector.BATCH_SIZE;
+        List<Long> firstBatch = LongStream.rangeClosed(1, batchSize).boxed().toList();
+        BDDMockito.given(hashtagRepository.findIdsAfter(0L, PageRequest.ofSize(batchSize))).willReturn(firstBatch);
+        BDDMockito.given(hashtagRepository.findIdsAfter((long) batchSize, PageRequest.ofSize(batchSize)))
+                .willReturn(List.of(batchSize + 1L));
+        BDDMockito.given(hashtagRepository.reconcileArticleCounts(0L, (long) batchSize)).willReturn(2);
+        BDDMockito.given(hashtagRepository.reconcileArticleCounts((long) batchSize, batchSize + 1L)).willReturn(1);
+
+        int actual = sut.reconcile();
+
+        Assertions.assertThat(actual).isEqualTo(3);
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("정리하면, 유예 시간보다 오래된 게시글 수 0 인 해시태그를 한 번의 삭제 쿼리로 지우고, 지운 이름만 사전에서 뺀다.")
+    @Test
+    void givenOrphanHashtags_whenCollecting_thenDeletesThemInOneStatement() {
+        BDDMockito.given(hashtagRepository.findOrphanCandidatesAfter(eq(0L), any(LocalDateTime.class), eq(PageRequest.ofSize(HashtagOrphanCollector.BATCH_SIZE))))
+                .willReturn(List.of(candidate(3L, "java"), candidate(5L, "spring")));
+        BDDMockito.given(hashtagRepository.deleteOrphans(Set.of(3L, 5L))).willReturn(2);
+
+        int actual = sut.collect();
+
+        Assertions.assertThat(actual).isEqualTo(2);
+        then(hashtagRepository).should().findOrphanCandidatesAfter(eq(0L), argThat(createdBefore ->
+                createdBefore.isBefore(LocalDateTime.now().minus(HashtagOrphanCollector.GRACE_PERIOD).plusSeconds(1))), any());
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+        then(hashtagResolver).should().evict(argThat((Collection<String> names) -> Set.copyOf(names).equals(Set.of("java", "spring"))));
+        then(hashtagResolver).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("지운 해시태그가 없으면, 이름 -> id 사전을 그대로 둔다.")
+    @Test
+    void givenNoOrphanHashtags_whenCollecting_thenKeepsIdCache() {
+        BDDMockito.given(hashtagRepository.findOrphanCandidatesAfter(eq(0L), any(LocalDateTime.class), any()))
+                .willReturn(List.of());
+
+        sut.collect();
+
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
+        then(hashtagResolver).shouldHaveNoInteractions();
+    }
+
+    private HashtagRepository.OrphanCandidate candidate(Long id, String hashtagName) {
+        return new HashtagRepository.OrphanCandidate() {
+            @Override public Long getId() { return id; }
+            @Override public String getHashtagName() { return hashtagName; }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.Hashtag;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 해시태그 이름 -> id 변환")
+@ExtendWith(MockitoExtension.class)
+class HashtagResolverTest {
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private HashtagResolver sut;
+
+    // DB 에 있는 해시태그 (이름 -> id)
+    private final Map<String, Long> stored = new HashMap<>();
+    private long nextId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagResolver(jdbcTemplate, HashtagResolver.INSERT_IF_ABSENT_SQL, 100);
+        stored.put("java", 1L);
+    }
+
+    @DisplayName("처음 보는 이름은 한 번에 찾고 없는 이름은 넣은 뒤, 다음부터는 DB 를 거치지 않는다.")
+    @Test
+    void givenColdNames_whenResolvingTwice_thenLooksUpNamesOnlyOnce() {
+        givenSelect();
+        givenInsert();
+
+        Map<String, Long> first = sut.resolve(Set.of("java", "jpa"), "uno");
+        Map<String, Long> second = sut.resolve(Set.of("java", "jpa"), "uno");
+
+        Assertions.assertThat(first).isEqualTo(Map.of("java", 1L, "jpa", 100L));
+        Assertions.assertThat(second).isEqualTo(first);
+        then(jdbcTemplate).should(times(2)).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+        then(jdbcTemplate).should(times(1)).batchUpdate(eq(HashtagResolver.INSERT_IF_ABSENT_SQL), any(SqlParameterSource[].class));
+        then(jdbcTemplate).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("트랜잭션 안에서 새로 넣은 해시태그는, 커밋된 뒤에야 사전에 넣는다.")
+    @Test
+    void givenActiveTransaction_whenInsertingHashtag_thenRemembersItAfterCommit() {
+        givenSelect();
+        givenInsert();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Map<String, Long> actual = sut.resolve(Set.of("java", "jpa"), "uno");
+
+            Assertions.assertThat(actual).isEqualTo(Map.of("java", 1L, "jpa", 100L));
+            Assertions.assertThat(sut.size()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Assertions.assertThat(sut.size()).isEqualTo(2);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("다른 요청이 같은 이름을 먼저 넣어 유니크 인덱스에 걸리면, 실패하지 않고 먼저 들어간 해시태그 id 를 반환한다.")
+    @Test
+    void givenConcurrentInsert_whenResolving_thenReturnsWinnersId() {
+        givenSelect();
+        willAnswer(invocation -> {
+            stored.put("jpa", 7L);
+            throw new DuplicateKeyException("hashtag_name");
+        }).given(jdbcTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        willThrow(new DuplicateKeyException("hashtag_name"))
+                .given(jdbcTemplate).update(anyString(), any(SqlParameterSource.class));
+
+        Map<String, Long> actual = sut.resolve(Set.of("jpa"), "uno");
+
+        Assertions.assertThat(actual).isEqualTo(Map.of("jpa", 7L));
+        Assertions.assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("사전에서 꺼낸 id 를 쓴 트랜잭션이 롤백되면, 그 이름을 사전에서 빼고 다음에 이름으로 다시 찾는다.")
+    @Test
+    void givenRolledBackTransaction_whenResolvingAgain_thenLooksUpHandedOutNamesAgain() {
+        givenSelect();
+        givenInsert();
+        sut.resolve(Set.of("java"), "uno");
+        stored.remove("java");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Map<String, Long> stale = sut.resolve(Set.of("java"), "uno");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            Assertions.assertThat(stale).isEqualTo(Map.of("java", 1L));
+            Assertions.assertThat(sut.size()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Map<String, Long> actual = sut.resolve(Set.of("java"), "uno");
+
+        Assertions.assertThat(actual).isEqualTo(Map.of("java", 100L));
+    }
+
+    @DisplayName("정리 작업이 지운 이름만 사전에서 빼고, 나머지 이름은 그대로 둔다.")
+    @Test
+    void givenCollectedNames_whenEvicting_thenKeepsOtherNames() {
+        stored.put("spring", 2L);
+        givenSelect();
+        sut.resolve(Set.of("java", "spring"), "uno");
+
+        sut.evict(Set.of("spring"));
+        Map<String, Long> actual = sut.resolve(Set.of("java"), "uno");
+
+        Assertions.assertThat(actual).isEqualTo(Map.of("java", 1L));
+        Assertions.assertThat(sut.size()).isEqualTo(1);
+        then(jdbcTemplate).should(times(1)).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+    }
+
+    @DisplayName("해시태그가 지워지면 사전에서 빼고, 다음에 다시 DB 에서 찾는다.")
+    @Test
+    void givenDeletedHashtag_whenResolving_thenLooksItUpAgain() {
+        givenSelect();
+        sut.resolve(Set.of("java"), "uno");
+
+        sut.onAfterDelete(new AfterDeleteEvent(Hashtag.of("java")));
+        sut.resolve(Set.of("java"), "uno");
+        sut.evictAll();
+        sut.resolve(Set.of("java"), "uno");
+
+        then(jdbcTemplate).should(times(3)).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+    }
+
+    @DisplayName("사전이 가득 차면, 더 넣지 않고 DB 에서 찾은 id 를 그대로 반환한다.")
+    @Test
+    void givenFullCache_whenResolving_thenDoesNotGrow() {
+        sut = new HashtagResolver(jdbcTemplate, HashtagResolver.INSERT_IF_ABSENT_SQL, 1);
+        stored.put("spring", 2L);
+        givenSelect();
+
+        Map<String, Long> actual = sut.resolve(Set.of("java", "spring"), "uno");
+
+        Assertions.assertThat(actual).isEqualTo(Map.of("java", 1L, "spring", 2L));
+        Assertions.assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSelect() {
+        willAnswer(invocation -> {
+            Set<String> names = (Set<String>) invocation.getArgument(1, Map.class).get("names");
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (String name : names) {
+                if (stored.containsKey(name)) {
+                    ResultSet rs = mock(ResultSet.class);
+                    given(rs.getString("hashtag_name")).willReturn(name);
+                    given(rs.getLong("id")).willReturn(stored.get(name));
+                    handler.processRow(rs);
+                }
+            }
+            return null;
+        }).given(jdbcTemplate).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+    }
+
+    private void givenInsert() {
+        willAnswer(invocation -> {
+            for (SqlParameterSource params : invocation.<SqlParameterSource[]>getArgument(1)) {
+                stored.putIfAbsent((String) params.getValue("name"), nextId++);
+            }
+            return new int[0];
+        }).given(jdbcTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+}
@@ -12,9 +12,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -29,6 +31,12 @@ class HashtagServiceTest {
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Spy
+    private HashtagExtractor hashtagExtractor = new HashtagExtractor(50);
+
+    @Mock
+    private HashtagResolver hashtagResolver;
+
     @DisplayName("본문을 파싱하면 해시태그 이름을 중복 없이 반환한다.")
     @MethodSource
     @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
@@ -52,7 +60,7 @@ class HashtagServiceTest {
                 arguments("#   ", Set.of()),
                 arguments("java", Set.of()),
                 arguments("java#", Set.of()),
-                arguments("ja#va", Set.of("va")),
+                arguments("ja#va", Set.of()),
                 arguments("#java", Set.of("java")),
                 arguments("#java_spring", Set.of("java_spring")),
                 arguments("#java-spring", Set.of("java")),
@@ -99,4 +107,32 @@ class HashtagServiceTest {
         BDDMockito.then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
 
+    @DisplayName("해시태그 이름들을 입력하면, 이름마다 찾거나 만든 id 로 해시태그 참조를 만들어 반환한다.")
+    @Test
+    void givenHashtagNames_whenResolvingHashtags_thenReturnsReferencesById() {
+        Set<String> hashtagNames = Set.of("java", "spring");
+        Hashtag java = Hashtag.of("java");
+        Hashtag spring = Hashtag.of("spring");
+        BDDMockito.given(hashtagResolver.resolve(hashtagNames, "uno")).willReturn(Map.of("java", 1L, "spring", 2L));
+        BDDMockito.given(hashtagRepository.getReferenceById(1L)).willReturn(java);
+        BDDMockito.given(hashtagRepository.getReferenceById(2L)).willReturn(spring);
+
+        Set<Hashtag> hashtags = sut.resolveHashtags(hashtagNames, "uno");
+
+        Assertions.assertThat(hashtags).containsExactlyInAnyOrder(java, spring);
+        Assertions.assertThat(sut.resolveHashtags(Set.of(), "uno")).isEmpty();
+        BDDMockito.then(hashtagResolver).should().resolve(hashtagNames, "uno");
+        BDDMockito.then(hashtagResolver).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("해시태그 id 들과 증감량을 입력하면, 해시태그들의 게시글 수를 한 번에 더하고 뺀다.")
+    @Test
+    void givenHashtagIds_whenAddingArticleCount_thenUpdatesCountsInOneStatement() {
+        sut.addArticleCount(Set.of(1L, 2L), -1);
+        sut.addArticleCount(Set.of(), 1);
+
+        BDDMockito.then(hashtagRepository).should().addArticleCount(Set.of(1L, 2L), -1);
+        BDDMockito.then(hashtagRepository).shouldHaveNoMoreInteractions();
+    }
+
 }
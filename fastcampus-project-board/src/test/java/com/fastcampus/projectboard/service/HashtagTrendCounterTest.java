@@ -0,0 +1,120 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.type.TrendWindow;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.HashtagTrendDto;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import com.fastcampus.projectboard.repository.ArticleRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("비지니스 로직 - 인기 해시태그 집계")
+class HashtagTrendCounterTest {
+    private static final Instant NOW = Instant.parse("2022-10-18T12:00:00Z");
+
+    private ArticleRepository articleRepository;
+    private HashtagTrendCounter sut;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository = mock(ArticleRepository.class);
+        sut = new HashtagTrendCounter(articleRepository, 0);
+    }
+
+    @DisplayName("상위 k 개를 점수 내림차순, 같은 점수면 이름 순으로 반환한다.")
+    @Test
+    void givenRecordedHashtags_whenGettingTop_thenReturnsHighestScoresFirst() {
+        sut.record(List.of("java", "spring", "jpa"), 1, NOW);
+        sut.record(List.of("spring", "jpa"), 1, NOW);
+        sut.record(List.of("spring"), 1, NOW);
+
+        List<HashtagTrendDto> actual = sut.top(TrendWindow.HOUR, 2, NOW);
+
+        Assertions.assertThat(actual).containsExactly(HashtagTrendDto.of("spring", 3L), HashtagTrendDto.of("jpa", 2L));
+    }
+
+    @DisplayName("구간이 지나면 그 횟수는 짧은 구간부터 빠지고, 긴 구간에는 남는다.")
+    @Test
+    void givenOldRecords_whenGettingTop_thenExpiresThemPerWindow() {
+        sut.record(List.of("java"), 1, NOW);
+        sut.record(List.of("spring"), 1, NOW.plus(Duration.ofMinutes(50)));
+
+        Instant later = NOW.plus(Duration.ofMinutes(70));
+
+        Assertions.assertThat(sut.top(TrendWindow.HOUR, 10, later)).containsExactly(HashtagTrendDto.of("spring", 1L));
+        Assertions.assertThat(sut.top(TrendWindow.DAY, 10, later))
+                .containsExactly(HashtagTrendDto.of("java", 1L), HashtagTrendDto.of("spring", 1L));
+        Assertions.assertThat(sut.top(TrendWindow.WEEK, 10, NOW.plus(Duration.ofDays(8)))).isEmpty();
+    }
+
+    @DisplayName("게시글이 작성되면 모든 해시태그를, 수정되면 새로 붙은 해시태그만 세고, 삭제는 세지 않는다.")
+    @Test
+    void givenArticleEvents_whenCounting_thenCountsOnlyNewlyAttachedHashtags() {
+        ArticleDocument created = createDocument(Set.of("java", "spring"));
+        ArticleDocument updated = createDocument(Set.of("java", "jpa"));
+
+        sut.onArticleEvent(ArticleEvent.created(created));
+        sut.onArticleEvent(ArticleEvent.updated(created, updated));
+        sut.onArticleEvent(ArticleEvent.deleted(updated));
+
+        Assertions.assertThat(sut.top(TrendWindow.HOUR, 10)).containsExactly(
+                HashtagTrendDto.of("java", 1L), HashtagTrendDto.of("jpa", 1L), HashtagTrendDto.of("spring", 1L));
+    }
+
+    @DisplayName("조회 가중치가 없으면 조회는 세지 않고, 있으면 가중치만큼 센다.")
+    @Test
+    void givenViewWeight_whenRecordingViews_thenCountsWeightedViews() {
+        sut.recordView(Set.of("java"));
+        HashtagTrendCounter weighted = new HashtagTrendCounter(articleRepository, 2);
+        weighted.recordView(Set.of("java"));
+
+        Assertions.assertThat(sut.top(TrendWindow.HOUR, 10)).isEmpty();
+        Assertions.assertThat(weighted.top(TrendWindow.HOUR, 10)).containsExactly(HashtagTrendDto.of("java", 2L));
+    }
+
+    @DisplayName("기동할 때 최근 1주 게시글의 해시태그를 작성 시각의 bucket 에 다시 채운다.")
+    @Test
+    void givenRecentArticles_whenLoading_thenFillsWindowsByCreatedAt() {
+        BDDMockito.given(articleRepository.findHashtagUsagesSince(any(LocalDateTime.class))).willReturn(List.of(
+                usage(LocalDateTime.now().minusMinutes(5), "java"),
+                usage(LocalDateTime.now().minusDays(2), "java"),
+                usage(LocalDateTime.now().minusDays(2), "spring")
+        ));
+
+        sut.load();
+
+        Assertions.assertThat(sut.top(TrendWindow.HOUR, 10)).containsExactly(HashtagTrendDto.of("java", 1L));
+        Assertions.assertThat(sut.top(TrendWindow.WEEK, 10))
+                .containsExactly(HashtagTrendDto.of("java", 2L), HashtagTrendDto.of("spring", 1L));
+    }
+
+    private ArticleDocument createDocument(Set<String> hashtagNames) {
+        return ArticleDocument.of(1L, "uno", "Uno", "title", "content", hashtagNames, LocalDateTime.now());
+    }
+
+    private ArticleRepository.HashtagUsage usage(LocalDateTime createdAt, String hashtagName) {
+        return new ArticleRepository.HashtagUsage() {
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public String getHashtagName() {
+                return hashtagName;
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.fastcampus.projectboard.service;
 
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.response.ArticleCursorsResponse;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,7 +10,9 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -55,4 +59,61 @@ class PaginationServiceTest {
         int barLength = sut.currentBarLength();
         Assertions.assertThat(barLength).isEqualTo(5);
     }
+
+    @DisplayName("첫 페이지를 키셋 페이징하면, 다음 커서만 만들어준다.")
+    @Test
+    void givenFirstCursorAndWindowWithNext_whenCalculating_thenReturnsNextCursorOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        Window<Long> window = createWindow(now, List.of(3L, 2L), true);
+
+        ArticleCursorsResponse actual = sut.getCursors(ArticleCursor.first(), window);
+
+        Assertions.assertThat(actual.hasPrevious()).isFalse();
+        Assertions.assertThat(ArticleCursor.decode(actual.nextCursor()))
+                .isEqualTo(ArticleCursor.of(now.minusMinutes(2L), 2L, false));
+    }
+
+    @DisplayName("뒤로 이동한 페이지에서 더 이전 페이지가 없으면, 다음 커서만 만들어준다.")
+    @Test
+    void givenBackwardCursorAndWindowWithoutNext_whenCalculating_thenReturnsNextCursorOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        Window<Long> window = createWindow(now, List.of(3L, 2L), false);
+
+        ArticleCursorsResponse actual = sut.getCursors(ArticleCursor.of(now, 1L, true), window);
+
+        Assertions.assertThat(actual.hasPrevious()).isFalse();
+        Assertions.assertThat(actual.hasNext()).isTrue();
+    }
+
+    @DisplayName("중간 페이지를 키셋 페이징하면, 첫 항목 기준 이전 커서와 마지막 항목 기준 다음 커서를 만들어준다.")
+    @Test
+    void givenForwardCursorAndWindowWithNext_whenCalculating_thenReturnsBothCursors() {
+        LocalDateTime now = LocalDateTime.now();
+        Window<Long> window = createWindow(now, List.of(3L, 2L), true);
+
+        ArticleCursorsResponse actual = sut.getCursors(ArticleCursor.of(now, 4L, false), window);
+
+        Assertions.assertThat(ArticleCursor.decode(actual.previousCursor()))
+                .isEqualTo(ArticleCursor.of(now.minusMinutes(3L), 3L, true));
+        Assertions.assertThat(ArticleCursor.decode(actual.nextCursor()))
+                .isEqualTo(ArticleCursor.of(now.minusMinutes(2L), 2L, false));
+    }
+
+    @DisplayName("빈 페이지를 키셋 페이징하면, 왔던 방향으로 돌아가는 커서만 만들어준다.")
+    @Test
+    void givenForwardCursorAndEmptyWindow_whenCalculating_thenReturnsPreviousCursorOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        ArticleCursor cursor = ArticleCursor.of(now, 1L, false);
+
+        ArticleCursorsResponse actual = sut.getCursors(cursor, createWindow(now, List.of(), false));
+
+        Assertions.assertThat(ArticleCursor.decode(actual.previousCursor())).isEqualTo(cursor.reversed());
+        Assertions.assertThat(actual.hasNext()).isFalse();
+    }
+
+    private Window<Long> createWindow(LocalDateTime now, List<Long> ids, boolean hasNext) {
+        return Window.from(ids,
+                index -> ArticleCursor.of(now.minusMinutes(ids.get(index)), ids.get(index), false).toScrollPosition(),
+                hasNext);
+    }
 }
@@ -0,0 +1,120 @@
+package com.fastcampus.projectboard.service;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.EstimatedPage;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("비지니스 로직 - 검색 결과 전체 개수")
+class SearchCountStrategyTest {
+    private static final List<Integer> FULL_PAGE = List.of(1, 2);
+
+    private SearchCountStrategy sut;
+    private AtomicInteger exactCounts;
+    private AtomicInteger probes;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SearchCountStrategy(new PaginationService(), Duration.ofMinutes(1));
+        exactCounts = new AtomicInteger();
+        probes = new AtomicInteger();
+    }
+
+    @DisplayName("검색어가 없거나 해시태그 검색이면, 정확히 센다.")
+    @Test
+    void givenCheapSearch_whenPaging_thenCountsExactly() {
+        Assertions.assertThat(sut.modeOf(null, null)).isEqualTo(SearchCountStrategy.Mode.EXACT);
+        Assertions.assertThat(sut.modeOf(SearchType.HASHTAG, "java")).isEqualTo(SearchCountStrategy.Mode.EXACT);
+
+        EstimatedPage<Integer> page = page(PageRequest.of(0, 2), null, null, 100, 100);
+
+        Assertions.assertThat(page.getTotalElements()).isEqualTo(100);
+        Assertions.assertThat(page.isTotalApproximate()).isFalse();
+        Assertions.assertThat(exactCounts).hasValue(1);
+    }
+
+    @DisplayName("현재 페이지가 덜 찼으면, 개수를 세지 않고 전체 개수를 계산한다.")
+    @Test
+    void givenPartialPage_whenPaging_thenSkipsCounting() {
+        EstimatedPage<Integer> page = sut.page(List.of(1), PageRequest.of(3, 2), SearchType.TITLE, "spring",
+                exactCounts::incrementAndGet, (offset, limit) -> probes.incrementAndGet());
+
+        Assertions.assertThat(page.getTotalElements()).isEqualTo(7);
+        Assertions.assertThat(exactCounts).hasValue(0);
+        Assertions.assertThat(probes).hasValue(0);
+    }
+
+    @DisplayName("작성자 검색은 정확한 개수를 TTL 동안 재사용한다.")
+    @Test
+    void givenRepeatedAuthorSearch_whenPaging_thenReusesCachedCount() {
+        page(PageRequest.of(0, 2), SearchType.NICKNAME, "uno", 40, 40);
+        EstimatedPage<Integer> page = page(PageRequest.of(1, 2), SearchType.NICKNAME, " uno ", 41, 41);
+
+        Assertions.assertThat(page.getTotalElements()).isEqualTo(40);
+        Assertions.assertThat(exactCounts).hasValue(1);
+    }
+
+    @DisplayName("비싼 검색은 페이지 바 길이만큼 앞까지 세어 보고, 한도를 채우면 근사 전체 개수를 반환한다.")
+    @Test
+    void givenExpensiveSearchWithManyResults_whenPaging_thenReturnsApproximateTotal() {
+        Assertions.assertThat(sut.modeOf(SearchType.ALL, "spring")).isEqualTo(SearchCountStrategy.Mode.PROBE);
+
+        EstimatedPage<Integer> page = page(PageRequest.of(2, 2), SearchType.CONTENT, "spring", 1000, 1000);
+
+        Assertions.assertThat(page.getTotalElements()).isEqualTo(4 + 11);
+        Assertions.assertThat(page.isTotalApproximate()).isTrue();
+        Assertions.assertThat(page.getTotalPages()).isEqualTo(8);
+        Assertions.assertThat(exactCounts).hasValue(0);
+    }
+
+    @DisplayName("비싼 검색이라도 한도 안에서 끝나면, 정확한 전체 개수를 반환하고 재사용한다.")
+    @Test
+    void givenExpensiveSearchWithFewResults_whenPaging_thenReturnsExactTotalAndCachesIt() {
+        EstimatedPage<Integer> first = page(PageRequest.of(0, 2), SearchType.TITLE, "spring", 6, 6);
+        EstimatedPage<Integer> second = page(PageRequest.of(1, 2), SearchType.TITLE, "spring", 6, 4);
+
+        Assertions.assertThat(first.getTotalElements()).isEqualTo(6);
+        Assertions.assertThat(first.isTotalApproximate()).isFalse();
+        Assertions.assertThat(second.getTotalElements()).isEqualTo(6);
+        Assertions.assertThat(probes).hasValue(1);
+    }
+
+    @DisplayName("비싼 검색에서 결과보다 뒤쪽 페이지를 조회하면, 처음부터 다시 세어서 전체 개수를 반환한다.")
+    @Test
+    void givenExpensiveSearchBeyondResults_whenPaging_thenReprobesFromStart() {
+        EstimatedPage<Integer> beyond = sut.page(List.of(), PageRequest.of(100, 2), SearchType.TITLE, "spring",
+                exactCounts::incrementAndGet, (offset, limit) -> {
+                    probes.incrementAndGet();
+                    return Math.min(Math.max(6 - offset, 0), limit);
+                });
+        EstimatedPage<Integer> first = page(PageRequest.of(0, 2), SearchType.TITLE, "spring", 6, 6);
+
+        Assertions.assertThat(beyond.getContent()).isEmpty();
+        Assertions.assertThat(beyond.getTotalElements()).isEqualTo(6);
+        Assertions.assertThat(beyond.isTotalApproximate()).isFalse();
+        Assertions.assertThat(first.getTotalElements()).isEqualTo(6);
+        Assertions.assertThat(probes).hasValue(2);
+        Assertions.assertThat(exactCounts).hasValue(0);
+    }
+
+    // 가득 찬 페이지로 호출한다. probe 는 offset 뒤에 남은 개수(remaining)를 limit 까지만 돌려준다.
+    private EstimatedPage<Integer> page(Pageable pageable, SearchType searchType, String keyword, long exactTotal, long remaining) {
+        return sut.page(FULL_PAGE, pageable, searchType, keyword,
+                () -> {
+                    exactCounts.incrementAndGet();
+                    return exactTotal;
+                },
+                (offset, limit) -> {
+                    probes.incrementAndGet();
+                    return Math.min(remaining, limit);
+                });
+    }
+}
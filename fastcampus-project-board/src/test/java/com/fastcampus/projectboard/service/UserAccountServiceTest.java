@@ -2,6 +2,7 @@ package com.fastcampus.projectboard.service;
 
 import com.fastcampus.projectboard.domain.UserAccount;
 import com.fastcampus.projectboard.dto.UserAccountDto;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
 import com.fastcampus.projectboard.repository.UserAccountRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -27,6 +29,9 @@ class UserAccountServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @DisplayName("존재하는 회원 ID를 검색하면, 회원 데이터를 Optional로 반환한다.")
     @Test
     void givenExistentUserId_whenSearching_thenReturnsOptionalUserData() {
@@ -87,6 +92,7 @@ class UserAccountServiceTest {
                 .hasFieldOrPropertyWithValue("modifiedBy", userAccount.getUserId());
 
         then(userAccountRepository).should().save(userAccount);
+        then(eventPublisher).should().publishEvent(UserAccountEvent.of(savedUserAccount.getUserId(), savedUserAccount.getNickname()));
     }
 
     private UserAccount createUserAccount(String username){
@@ -0,0 +1,94 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleCursor;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+@DisplayName("검색 색인 - 게시글 요약 저장소")
+class ArticleDocumentStoreTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    private ArticleDocumentStore sut;
+    private List<Long> allIds;
+
+    // 게시글 i 는 i / 2 시간에 작성되어, 작성일시가 같은 게시글이 둘씩 있다.
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleDocumentStore();
+        allIds = LongStream.rangeClosed(1, 20).boxed().toList();
+        allIds.forEach(id -> sut.index(ArticleDocument.of(id, "uno", "Uno", "title" + (id % 7), null, Set.of(),
+                BASE.plusHours(id / 2))));
+    }
+
+    @DisplayName("페이지를 조회하면, 결과 전체를 정렬한 것과 같은 페이지와 전체 개수를 반환한다.")
+    @Test
+    void givenPageable_whenPaging_thenReturnsSameAsFullSort() {
+        PageRequest pageable = PageRequest.of(2, 3, Sort.by(Sort.Order.asc("title")));
+        List<Long> expected = allIds.stream()
+                .map(id -> sut.find(id).orElseThrow())
+                .sorted(ArticleDocumentStore.comparator(pageable.getSort()))
+                .map(ArticleDocument::id)
+                .skip(6).limit(3)
+                .toList();
+
+        Page<Long> actual = sut.page(allIds, pageable);
+
+        Assertions.assertThat(actual.getContent()).isEqualTo(expected);
+        Assertions.assertThat(actual.getTotalElements()).isEqualTo(20);
+    }
+
+    @DisplayName("결과보다 뒤쪽 페이지를 조회하면, 빈 페이지와 전체 개수를 반환한다.")
+    @Test
+    void givenPageBeyondResults_whenPaging_thenReturnsEmptyPage() {
+        Page<Long> actual = sut.page(List.of(1L, 2L, 99L), PageRequest.of(1, 5));
+
+        Assertions.assertThat(actual.getContent()).isEmpty();
+        Assertions.assertThat(actual.getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("커서로 앞뒤로 이동하면, (작성일시, id) 내림차순에서 커서 바로 다음(이전) size 개를 반환한다.")
+    @Test
+    void givenCursor_whenScrolling_thenReturnsAdjacentWindows() {
+        Window<Long> first = sut.scroll(allIds, ArticleCursor.first(), 4);
+        Window<Long> second = sut.scroll(allIds, ArticleCursor.of(BASE.plusHours(9), 18L, false), 4);
+        Window<Long> previous = sut.scroll(allIds, ArticleCursor.of(BASE.plusHours(8), 17L, true), 4);
+        Window<Long> last = sut.scroll(allIds, ArticleCursor.of(BASE.plusHours(1), 2L, false), 4);
+
+        Assertions.assertThat(first.getContent()).containsExactly(20L, 19L, 18L, 17L);
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(second.getContent()).containsExactly(17L, 16L, 15L, 14L);
+        Assertions.assertThat(previous.getContent()).containsExactly(20L, 19L, 18L);
+        Assertions.assertThat(previous.hasNext()).isFalse();
+        Assertions.assertThat(last.getContent()).containsExactly(1L);
+        Assertions.assertThat(last.hasNext()).isFalse();
+    }
+
+    @DisplayName("해시태그로 정렬하면, 오름차순은 가장 앞선 해시태그, 내림차순은 가장 뒤의 해시태그로 비교하고 해시태그가 없는 글을 가장 큰 값으로 본다.")
+    @Test
+    void givenHashtagSort_whenPaging_thenComparesByFirstOrLastHashtag() {
+        ArticleDocumentStore store = new ArticleDocumentStore();
+        store.index(ArticleDocument.of(1L, "uno", "Uno", "title", null, Set.of("b", "y"), BASE));
+        store.index(ArticleDocument.of(2L, "uno", "Uno", "title", null, Set.of("c", "x"), BASE));
+        store.index(ArticleDocument.of(3L, "uno", "Uno", "title", null, Set.of("a", "z"), BASE));
+        store.index(ArticleDocument.of(4L, "uno", "Uno", "title", null, Set.of(), BASE));
+        List<Long> ids = List.of(1L, 2L, 3L, 4L);
+
+        Page<Long> ascending = store.page(ids, PageRequest.of(0, 4, Sort.by(Sort.Order.asc("hashtags"))));
+        Page<Long> descending = store.page(ids, PageRequest.of(0, 4, Sort.by(Sort.Order.desc("hashtags"))));
+
+        Assertions.assertThat(ascending.getContent()).containsExactly(3L, 1L, 2L, 4L);
+        Assertions.assertThat(descending.getContent()).containsExactly(4L, 3L, 1L, 2L);
+    }
+}
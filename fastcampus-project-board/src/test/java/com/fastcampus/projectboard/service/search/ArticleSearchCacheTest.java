@@ -0,0 +1,146 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.event.ArticleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@DisplayName("검색 결과 캐시")
+class ArticleSearchCacheTest {
+    private static final Pageable PAGEABLE = Pageable.ofSize(2);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleSearchCache sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleSearchCache(10, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @DisplayName("넣은 id 페이지를 같은 키로 꺼내고, 적중과 미적중 수를 메트릭으로 남긴다.")
+    @Test
+    void givenCachedPage_whenGetting_thenReturnsPageAndRecordsMetrics() {
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.TITLE, " spring ", PAGEABLE);
+        Assertions.assertThat(sut.get(key)).isEmpty();
+
+        sut.put(key, page(List.of(2L, 1L), 5), sut.generation());
+
+        Assertions.assertThat(sut.get(ArticleSearchCache.Key.of(SearchType.TITLE, "spring", PAGEABLE)))
+                .hasValueSatisfying(page -> {
+                    Assertions.assertThat(page.getContent()).containsExactly(2L, 1L);
+                    Assertions.assertThat(page.getTotalElements()).isEqualTo(5);
+                });
+        Assertions.assertThat(meterRegistry.get("board.search.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("board.search.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("담긴 id 수가 최대 weight 를 넘으면, 가장 오래 쓰지 않은 항목부터 버린다.")
+    @Test
+    void givenOverWeight_whenPutting_thenEvictsLeastRecentlyUsedEntries() {
+        ArticleSearchCache.Key first = ArticleSearchCache.Key.of(SearchType.TITLE, "a", PAGEABLE);
+        ArticleSearchCache.Key second = ArticleSearchCache.Key.of(SearchType.TITLE, "b", PAGEABLE);
+        ArticleSearchCache.Key third = ArticleSearchCache.Key.of(SearchType.TITLE, "c", PAGEABLE);
+        sut.put(first, page(List.of(1L, 2L, 3L), 3), sut.generation());
+        sut.put(second, page(List.of(4L, 5L, 6L), 3), sut.generation());
+        sut.get(first);
+
+        sut.put(third, page(List.of(7L, 8L, 9L), 3), sut.generation());
+
+        Assertions.assertThat(sut.get(first)).isPresent();
+        Assertions.assertThat(sut.get(second)).isEmpty();
+        Assertions.assertThat(sut.get(third)).isPresent();
+        Assertions.assertThat(sut.weight()).isEqualTo(8);
+        Assertions.assertThat(meterRegistry.get("board.search.cache.evictions").tag("cause", "size").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("TTL 이 지난 항목은 꺼내지 않고 버리며, 만료 수를 메트릭으로 남긴다.")
+    @Test
+    void givenExpiredEntry_whenGetting_thenReturnsEmptyAndRemovesEntry() {
+        SimpleMeterRegistry expiringMeterRegistry = new SimpleMeterRegistry();
+        ArticleSearchCache expiringCache = new ArticleSearchCache(10, Duration.ZERO, expiringMeterRegistry);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.TITLE, "spring", PAGEABLE);
+        expiringCache.put(key, page(List.of(2L, 1L), 5), expiringCache.generation());
+
+        Assertions.assertThat(expiringCache.get(key)).isEmpty();
+        Assertions.assertThat(expiringCache.size()).isZero();
+        Assertions.assertThat(expiringCache.weight()).isZero();
+        Assertions.assertThat(expiringMeterRegistry.get("board.search.cache.evictions").tag("cause", "expiration").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글이 생기면, 그 게시글이 걸릴 수 있는 검색과 전체 목록만 지운다.")
+    @Test
+    void givenCreatedArticle_whenHandlingEvent_thenInvalidatesOnlyMatchingEntries() {
+        ArticleSearchCache.Key all = ArticleSearchCache.Key.of(null, null, PAGEABLE);
+        ArticleSearchCache.Key springTitle = ArticleSearchCache.Key.of(SearchType.TITLE, "Spring", PAGEABLE);
+        ArticleSearchCache.Key kotlinTitle = ArticleSearchCache.Key.of(SearchType.TITLE, "kotlin", PAGEABLE);
+        ArticleSearchCache.Key javaHashtag = ArticleSearchCache.Key.of(SearchType.HASHTAG, "#java -#old", PAGEABLE);
+        ArticleSearchCache.Key goHashtag = ArticleSearchCache.Key.of(SearchType.HASHTAG, "#go", PAGEABLE);
+        List.of(all, springTitle, kotlinTitle, javaHashtag, goHashtag)
+                .forEach(key -> sut.put(key, page(List.of(1L), 1), sut.generation()));
+
+        sut.onArticleEvent(ArticleEvent.created(createDocument(10L, "spring boot 입문", Set.of("java"))));
+
+        Assertions.assertThat(sut.get(all)).isEmpty();
+        Assertions.assertThat(sut.get(springTitle)).isEmpty();
+        Assertions.assertThat(sut.get(javaHashtag)).isEmpty();
+        Assertions.assertThat(sut.get(kotlinTitle)).isPresent();
+        Assertions.assertThat(sut.get(goHashtag)).isPresent();
+    }
+
+    @DisplayName("게시글이 수정되면, 수정 전후 상태에 걸리는 검색과 그 게시글을 담은 페이지를 지운다.")
+    @Test
+    void givenUpdatedArticle_whenHandlingEvent_thenInvalidatesEntriesMatchingEitherState() {
+        ArticleSearchCache.Key before = ArticleSearchCache.Key.of(SearchType.HASHTAG, "java", PAGEABLE);
+        ArticleSearchCache.Key after = ArticleSearchCache.Key.of(SearchType.HASHTAG, "kotlin", PAGEABLE);
+        ArticleSearchCache.Key containing = ArticleSearchCache.Key.of(SearchType.NICKNAME, "someone", PAGEABLE);
+        ArticleSearchCache.Key unrelated = ArticleSearchCache.Key.of(SearchType.HASHTAG, "go", PAGEABLE);
+        sut.put(before, page(List.of(1L), 1), sut.generation());
+        sut.put(after, page(List.of(2L), 1), sut.generation());
+        sut.put(containing, page(List.of(10L), 1), sut.generation());
+        sut.put(unrelated, page(List.of(3L), 1), sut.generation());
+
+        sut.onArticleEvent(ArticleEvent.updated(
+                createDocument(10L, "title", Set.of("java")),
+                createDocument(10L, "title", Set.of("kotlin"))
+        ));
+
+        Assertions.assertThat(sut.get(before)).isEmpty();
+        Assertions.assertThat(sut.get(after)).isEmpty();
+        Assertions.assertThat(sut.get(containing)).isEmpty();
+        Assertions.assertThat(sut.get(unrelated)).isPresent();
+        Assertions.assertThat(meterRegistry.get("board.search.cache.evictions").tag("cause", "invalidation").functionCounter().count()).isEqualTo(3);
+    }
+
+    @DisplayName("조회를 시작한 뒤 무효화가 일어났으면, 그 조회 결과는 캐시에 넣지 않는다.")
+    @Test
+    void givenInvalidationDuringLoad_whenPutting_thenSkipsStaleResult() {
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.TITLE, "spring", PAGEABLE);
+        long generation = sut.generation();
+
+        sut.onArticleEvent(ArticleEvent.deleted(createDocument(10L, "kotlin", Set.of())));
+        sut.put(key, page(List.of(1L), 1), generation);
+
+        Assertions.assertThat(sut.get(key)).isEmpty();
+    }
+
+    private Page<Long> page(List<Long> articleIds, long total) {
+        return new PageImpl<>(articleIds, PAGEABLE, total);
+    }
+
+    private ArticleDocument createDocument(Long id, String title, Set<String> hashtagNames) {
+        return ArticleDocument.of(id, "uno", "Uno", title, "content", hashtagNames, LocalDateTime.now());
+    }
+}
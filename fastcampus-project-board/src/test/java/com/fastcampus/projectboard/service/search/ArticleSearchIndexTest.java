@@ -0,0 +1,67 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@DisplayName("검색 색인 - 제목, 본문 역색인")
+class ArticleSearchIndexTest {
+    private ArticleSearchIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleSearchIndex();
+        sut.index(createDocument(1L, "Spring Boot 입문", "스프링부트 게시판 만들기 #java"));
+        sut.index(createDocument(2L, "Java 기초", "자바 문법 정리 #java #spring"));
+        sut.index(createDocument(3L, "spring data jpa", "엔티티 매핑"));
+    }
+
+    @DisplayName("제목 검색어를 주면, 대소문자 구분 없이 단어 접두어가 일치하는 게시글 id 를 반환한다.")
+    @Test
+    void givenTitleKeyword_whenSearching_thenReturnsMatchingArticleIds() {
+        Assertions.assertThat(sut.search(SearchType.TITLE, "SPRING")).containsExactlyInAnyOrder(1L, 3L);
+        Assertions.assertThat(sut.search(SearchType.TITLE, "jav")).containsExactly(2L);
+    }
+
+    @DisplayName("여러 단어로 검색하면, 모든 단어가 포함된 게시글만 반환한다.")
+    @Test
+    void givenMultipleTerms_whenSearching_thenReturnsIntersection() {
+        Assertions.assertThat(sut.search(SearchType.TITLE, "spring jpa")).containsExactly(3L);
+        Assertions.assertThat(sut.search(SearchType.CONTENT, "java spring")).containsExactly(2L);
+    }
+
+    @DisplayName("한글 본문도 단어 접두어로 검색한다.")
+    @Test
+    void givenKoreanKeyword_whenSearchingContent_thenReturnsMatchingArticleIds() {
+        Assertions.assertThat(sut.search(SearchType.CONTENT, "스프링")).containsExactly(1L);
+        Assertions.assertThat(sut.search(SearchType.CONTENT, "게시")).containsExactly(1L);
+    }
+
+    @DisplayName("게시글을 다시 색인하면 이전 내용은 검색되지 않고, 삭제하면 검색 결과에서 빠진다.")
+    @Test
+    void givenReindexedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        sut.index(createDocument(1L, "Kotlin 입문", "코틀린"));
+        sut.remove(3L);
+
+        Assertions.assertThat(sut.search(SearchType.TITLE, "spring")).isEmpty();
+        Assertions.assertThat(sut.search(SearchType.TITLE, "kotlin")).containsExactly(1L);
+    }
+
+    @DisplayName("색인이 지원하지 않는 검색 유형을 주면, 예외를 던진다.")
+    @Test
+    void givenUnsupportedSearchType_whenSearching_thenThrowsException() {
+        Assertions.assertThat(sut.supports(SearchType.NICKNAME)).isFalse();
+        Assertions.assertThatThrownBy(() -> sut.search(SearchType.NICKNAME, "uno"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ArticleDocument createDocument(Long id, String title, String content) {
+        return ArticleDocument.of(id, "uno", "Uno", title, content, Set.of(), LocalDateTime.now());
+    }
+}
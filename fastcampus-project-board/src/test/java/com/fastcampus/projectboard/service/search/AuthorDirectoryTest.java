@@ -0,0 +1,80 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.UserAccount;
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
+import com.fastcampus.projectboard.repository.UserAccountRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 색인 - 작성자 목록")
+@ExtendWith(MockitoExtension.class)
+class AuthorDirectoryTest {
+    @InjectMocks
+    private AuthorDirectory sut;
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(userAccountRepository.findAll()).willReturn(List.of(
+                createUserAccount("uno", "Uno"),
+                createUserAccount("uno2", "우노2"),
+                createUserAccount("springlover", "스프링러버")
+        ));
+        sut.warmUp();
+    }
+
+    @DisplayName("적재가 끝나면, 아이디와 닉네임 검색만 지원한다.")
+    @Test
+    void givenWarmedUp_whenCheckingSupport_thenSupportsOnlyAuthorSearchTypes() {
+        Assertions.assertThat(sut.isReady()).isTrue();
+        Assertions.assertThat(sut.supports(SearchType.ID)).isTrue();
+        Assertions.assertThat(sut.supports(SearchType.NICKNAME)).isTrue();
+        Assertions.assertThat(sut.supports(SearchType.TITLE)).isFalse();
+    }
+
+    @DisplayName("짧은 검색어와 긴 검색어 모두, 부분 문자열이 일치하는 회원 ID를 반환한다.")
+    @Test
+    void givenKeyword_whenFindingUserIds_thenReturnsUserIdsContainingKeyword() {
+        Assertions.assertThat(sut.findUserIds(SearchType.ID, "n")).containsExactlyInAnyOrder("uno", "uno2", "springlover");
+        Assertions.assertThat(sut.findUserIds(SearchType.ID, "uno")).containsExactlyInAnyOrder("uno", "uno2");
+        Assertions.assertThat(sut.findUserIds(SearchType.ID, "lover")).containsExactly("springlover");
+        Assertions.assertThat(sut.findUserIds(SearchType.ID, "unox")).isEmpty();
+        Assertions.assertThat(sut.findUserIds(SearchType.NICKNAME, "우노")).containsExactly("uno2");
+        Assertions.assertThat(sut.findUserIds(SearchType.NICKNAME, "프링러버")).containsExactly("springlover");
+    }
+
+    @DisplayName("DB 의 LIKE 검색처럼, 대소문자를 구분한다.")
+    @Test
+    void givenDifferentCaseKeyword_whenFindingUserIds_thenDoesNotMatch() {
+        Assertions.assertThat(sut.findUserIds(SearchType.NICKNAME, "Uno")).containsExactly("uno");
+        Assertions.assertThat(sut.findUserIds(SearchType.NICKNAME, "uno")).isEmpty();
+    }
+
+    @DisplayName("닉네임이 바뀌거나 회원이 가입하면, 새 닉네임으로 검색된다.")
+    @Test
+    void givenUserAccountEvents_whenFindingUserIds_thenReflectsChanges() {
+        sut.onUserAccountEvent(UserAccountEvent.of("uno", "새닉네임"));
+        sut.onUserAccountEvent(UserAccountEvent.of("newbie", "새내기"));
+
+        Assertions.assertThat(sut.findUserIds(SearchType.NICKNAME, "Uno")).isEmpty();
+        Assertions.assertThat(sut.findUserIds(SearchType.NICKNAME, "새")).containsExactlyInAnyOrder("uno", "newbie");
+        Assertions.assertThat(sut.findUserIds(SearchType.ID, "newb")).containsExactly("newbie");
+    }
+
+    private UserAccount createUserAccount(String userId, String nickname) {
+        return UserAccount.of(userId, "pw", userId + "@mail.com", nickname, null);
+    }
+}
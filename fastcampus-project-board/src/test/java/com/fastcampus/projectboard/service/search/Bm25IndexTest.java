@@ -0,0 +1,99 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+@DisplayName("검색 색인 - BM25 전체 검색")
+class Bm25IndexTest {
+
+    @DisplayName("검색어가 더 자주, 더 짧은 글에, 가중치 높은 필드에 나올수록 앞에 온다.")
+    @Test
+    void givenQuery_whenSearching_thenRanksByBm25Score() {
+        Bm25Index sut = new Bm25Index(3.0, 1.0, 2.0, 1.5);
+        sut.index(createDocument(1L, "자바 입문", "자바 자바 자바 문법", Set.of(), "uno"));
+        sut.index(createDocument(2L, "일기", "오늘 자바 공부를 조금 했다 그리고 산책을 했다", Set.of(), "uno"));
+        sut.index(createDocument(3L, "스프링", "스프링 부트", Set.of("자바"), "uno"));
+        sut.index(createDocument(4L, "코틀린", "코틀린 문법", Set.of(), "uno"));
+
+        Page<Long> result = sut.search("자바", PageRequest.of(0, 10));
+
+        Assertions.assertThat(result.getContent()).containsExactly(1L, 3L, 2L);
+        Assertions.assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @DisplayName("필드 가중치를 바꾸면, 같은 검색어라도 순위가 바뀐다.")
+    @Test
+    void givenDifferentBoosts_whenSearching_thenChangesRanking() {
+        Bm25Index titleFirst = new Bm25Index(5.0, 1.0, 0.1, 1.0);
+        Bm25Index hashtagFirst = new Bm25Index(0.1, 1.0, 5.0, 1.0);
+        for (Bm25Index sut : List.of(titleFirst, hashtagFirst)) {
+            sut.index(createDocument(1L, "java", "content", Set.of(), "uno"));
+            sut.index(createDocument(2L, "title", "content", Set.of("java"), "uno"));
+        }
+
+        Assertions.assertThat(titleFirst.search("java", Pageable.unpaged()).getContent()).containsExactly(1L, 2L);
+        Assertions.assertThat(hashtagFirst.search("java", Pageable.unpaged()).getContent()).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("여러 단어로 검색하면 하나라도 있는 글이 걸리고, 모두 있는 글이 앞에 온다.")
+    @Test
+    void givenMultipleTerms_whenSearching_thenMatchesAnyTermAndRanksAllTermsFirst() {
+        Bm25Index sut = new Bm25Index(1.0, 1.0, 1.0, 1.0);
+        sut.index(createDocument(1L, "spring", "hello", Set.of(), "uno"));
+        sut.index(createDocument(2L, "spring jpa", "hello", Set.of(), "uno"));
+        sut.index(createDocument(3L, "jpa", "hello", Set.of(), "uno"));
+        sut.index(createDocument(4L, "kotlin", "spring", Set.of(), "uno"));
+
+        Page<Long> result = sut.search("Spring JPA", PageRequest.of(0, 10));
+
+        Assertions.assertThat(result.getContent().get(0)).isEqualTo(2L);
+        Assertions.assertThat(result.getContent()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        Assertions.assertThat(sut.matches("kotlin")).containsExactly(4L);
+        Assertions.assertThat(sut.matches("UNO")).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        Assertions.assertThat(sut.search("없는단어", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @DisplayName("페이지를 넘기면, 전체 순위를 페이지 크기로 자른 결과와 같다.")
+    @Test
+    void givenPages_whenSearching_thenMatchesFullRankingSlices() {
+        Bm25Index sut = new Bm25Index(3.0, 1.0, 2.0, 1.5);
+        Random random = new Random(7);
+        List<String> words = List.of("java", "spring", "jpa", "kotlin", "board", "test");
+        for (long id = 1; id <= 200; id++) {
+            sut.index(createDocument(id, randomText(random, words, 3), randomText(random, words, 20),
+                    Set.of(words.get(random.nextInt(words.size()))), "uno"));
+        }
+        sut.remove(10L);
+        sut.index(createDocument(20L, "java java java", "java", Set.of("java"), "uno"));
+
+        List<Long> fullRanking = sut.search("java jpa", Pageable.unpaged()).getContent();
+        Page<Long> secondPage = sut.search("java jpa", PageRequest.of(1, 15));
+
+        Assertions.assertThat(fullRanking).doesNotContain(10L).contains(20L);
+        Assertions.assertThat(secondPage.getContent()).isEqualTo(fullRanking.subList(15, 30));
+        Assertions.assertThat(secondPage.getTotalElements()).isEqualTo(fullRanking.size());
+        Assertions.assertThat(sut.size()).isEqualTo(199);
+    }
+
+    private String randomText(Random random, List<String> words, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(words.get(random.nextInt(words.size()))).append(' ');
+        }
+        return text.toString();
+    }
+
+    private ArticleDocument createDocument(Long id, String title, String content, Set<String> hashtagNames, String nickname) {
+        return ArticleDocument.of(id, "uno", nickname, title, content, hashtagNames, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,76 @@
+package com.fastcampus.projectboard.service.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+@DisplayName("검색 색인 - 압축 비트맵")
+class CompressedBitmapTest {
+
+    @DisplayName("구간 경계를 넘는 값과 배열 / 비트 배열 전환이 섞여도, 집합 연산 결과가 BitSet 과 같다.")
+    @Test
+    void givenRandomValues_whenCombining_thenMatchesBitSet() {
+        Random random = new Random(42);
+        CompressedBitmap left = new CompressedBitmap();
+        CompressedBitmap right = new CompressedBitmap();
+        BitSet expectedLeft = new BitSet();
+        BitSet expectedRight = new BitSet();
+
+        // 첫 구간은 비트 배열로 바뀔 만큼 채우고, 나머지 구간은 드문드문 채운다.
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(1 << 16);
+            left.add(value);
+            expectedLeft.set(value);
+        }
+        for (int i = 0; i < 3_000; i++) {
+            int value = random.nextInt(1 << 20);
+            right.add(value);
+            expectedRight.set(value);
+        }
+        for (int i = 0; i < 15_000; i++) {
+            int value = random.nextInt(1 << 16);
+            left.remove(value);
+            expectedLeft.clear(value);
+        }
+
+        assertSameValues(left, expectedLeft);
+        assertSameValues(right, expectedRight);
+
+        BitSet and = (BitSet) expectedLeft.clone();
+        and.and(expectedRight);
+        BitSet or = (BitSet) expectedLeft.clone();
+        or.or(expectedRight);
+        BitSet andNot = (BitSet) expectedLeft.clone();
+        andNot.andNot(expectedRight);
+
+        assertSameValues(left.and(right), and);
+        assertSameValues(left.or(right), or);
+        assertSameValues(left.andNot(right), andNot);
+        assertSameValues(right.andNot(left), andNotOf(expectedRight, expectedLeft));
+    }
+
+    @DisplayName("음수는 넣을 수 없고, 포함 여부는 false 를 반환한다.")
+    @Test
+    void givenNegativeValue_whenAdding_thenThrowsException() {
+        CompressedBitmap sut = CompressedBitmap.of(1, 70_000);
+
+        Assertions.assertThat(sut.contains(-1)).isFalse();
+        Assertions.assertThat(sut.toLongList()).containsExactly(1L, 70_000L);
+        Assertions.assertThatThrownBy(() -> sut.add(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BitSet andNotOf(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.andNot(right);
+        return result;
+    }
+
+    private void assertSameValues(CompressedBitmap actual, BitSet expected) {
+        Assertions.assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        Assertions.assertThat(actual.toLongList())
+                .containsExactlyElementsOf(expected.stream().mapToObj(value -> (long) value).toList());
+    }
+}
@@ -0,0 +1,40 @@
+package com.fastcampus.projectboard.service.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("검색 색인 - 한글 자모 분해")
+class HangulJamoTest {
+
+    @DisplayName("음절을 자모로 풀고, 겹받침과 겹모음은 낱자로 한 번 더 푼다.")
+    @Test
+    void givenHangulText_whenDecomposing_thenReturnsAtomicJamo() {
+        Assertions.assertThat(HangulJamo.decompose("부가")).isEqualTo("ㅂㅜㄱㅏ");
+        Assertions.assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        Assertions.assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        Assertions.assertThat(HangulJamo.decompose("Spring 봄ㅄ")).isEqualTo("spring ㅂㅗㅁㅂㅅ");
+        Assertions.assertThat(HangulJamo.decompose(null)).isEmpty();
+    }
+
+    @DisplayName("초성을 뽑으면, 음절만 초성으로 바꾸고 나머지 글자는 소문자로 둔다.")
+    @Test
+    void givenHangulText_whenExtractingChoseong_thenReturnsInitialConsonants() {
+        Assertions.assertThat(HangulJamo.choseong("부가 게시판")).isEqualTo("ㅂㄱ ㄱㅅㅍ");
+        Assertions.assertThat(HangulJamo.choseong("JPA 까기")).isEqualTo("jpa ㄲㄱ");
+    }
+
+    @DisplayName("초성 검색어와 입력 중인 글자가, 완성된 글자와 매칭된다.")
+    @Test
+    void givenPartialQueries_whenMatching_thenMatchesCompletedSyllables() {
+        Assertions.assertThat(HangulJamo.isChoseongOnly("ㅂㄱ")).isTrue();
+        Assertions.assertThat(HangulJamo.isChoseongOnly("ㅂㅏ")).isFalse();
+        Assertions.assertThat(HangulJamo.matches("부가 서비스", "ㅂㄱ")).isTrue();
+        Assertions.assertThat(HangulJamo.matches("부가 서비스", "북")).isTrue();
+        Assertions.assertThat(HangulJamo.matches("부가 서비스", "부ㄱ")).isTrue();
+        Assertions.assertThat(HangulJamo.matches("닭갈비", "달")).isTrue();
+        Assertions.assertThat(HangulJamo.matches("부가 서비스", "ㅂㅎ")).isFalse();
+        Assertions.assertThat(HangulJamo.containsHangul("spring")).isFalse();
+        Assertions.assertThat(HangulJamo.containsHangul("ㅋ")).isTrue();
+    }
+}
@@ -0,0 +1,66 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@DisplayName("검색 색인 - 해시태그 비트맵")
+class HashtagBitmapIndexTest {
+    private HashtagBitmapIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagBitmapIndex();
+        sut.index(createDocument(1L, "java", "spring"));
+        sut.index(createDocument(2L, "java", "jpa"));
+        sut.index(createDocument(3L, "java", "spring", "kotlin"));
+        sut.index(createDocument(4L, "kotlin"));
+    }
+
+    @DisplayName("공백으로 나눈 해시태그는 모두 가진 게시글만 반환한다.")
+    @Test
+    void givenSeveralHashtags_whenSearching_thenReturnsIntersection() {
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#java #spring"))).containsExactly(1L, 3L);
+        Assertions.assertThat(sut.search(HashtagQuery.parse("java"))).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("'|' 로 이은 해시태그는 하나라도 가진 게시글을 반환한다.")
+    @Test
+    void givenAlternativeHashtags_whenSearching_thenReturnsUnion() {
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#jpa|#kotlin"))).containsExactly(2L, 3L, 4L);
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#java #jpa|#kotlin"))).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("'-' 로 시작하는 해시태그를 가진 게시글은 제외하고, 제외 조건만 있으면 전체 게시글에서 뺀다.")
+    @Test
+    void givenExcludedHashtag_whenSearching_thenReturnsDifference() {
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#java -#kotlin"))).containsExactly(1L, 2L);
+        Assertions.assertThat(sut.search(HashtagQuery.parse("-#java"))).containsExactly(4L);
+    }
+
+    @DisplayName("없는 해시태그가 포함 조건에 있으면, 빈 결과를 반환한다.")
+    @Test
+    void givenUnknownHashtag_whenSearching_thenReturnsEmpty() {
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#java #python"))).isEmpty();
+    }
+
+    @DisplayName("게시글을 다시 색인하거나 삭제하면, 검색 결과에 반영된다.")
+    @Test
+    void givenReindexedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        sut.index(createDocument(1L, "kotlin"));
+        sut.remove(3L);
+
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#spring"))).isEmpty();
+        Assertions.assertThat(sut.search(HashtagQuery.parse("#kotlin"))).containsExactly(1L, 4L);
+        Assertions.assertThat(sut.search(HashtagQuery.parse("-#kotlin"))).containsExactly(2L);
+    }
+
+    private ArticleDocument createDocument(Long id, String... hashtagNames) {
+        return ArticleDocument.of(id, "uno", "Uno", "title", "content", Set.of(hashtagNames), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@DisplayName("검색 색인 - 한글 제목 자모")
+class JamoIndexTest {
+    private JamoIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new JamoIndex();
+        sut.index(createDocument(1L, "부가 서비스 안내"));
+        sut.index(createDocument(2L, "스프링 부트 게시판"));
+        sut.index(createDocument(3L, "닭갈비 맛집 Spring"));
+    }
+
+    @DisplayName("초성만으로 검색하면, 초성이 이어지는 제목을 찾는다.")
+    @Test
+    void givenChoseongQuery_whenSearching_thenReturnsMatchingArticleIds() {
+        Assertions.assertThat(sut.search("ㅂㄱ")).containsExactly(1L);
+        Assertions.assertThat(sut.search("ㅅㅍㄹ")).containsExactly(2L);
+        Assertions.assertThat(sut.search("ㅂ")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @DisplayName("입력 중인 글자나 단어 중간 글자로 검색해도, 자모 단위 부분 문자열로 찾는다.")
+    @Test
+    void givenPartialSyllableQuery_whenSearching_thenReturnsMatchingArticleIds() {
+        Assertions.assertThat(sut.search("북")).containsExactly(1L);
+        Assertions.assertThat(sut.search("비스")).containsExactly(1L);
+        Assertions.assertThat(sut.search("달")).containsExactly(3L);
+        Assertions.assertThat(sut.search("ㅂㄱ 안내")).containsExactly(1L);
+        Assertions.assertThat(sut.search("닭 spr")).containsExactly(3L);
+    }
+
+    @DisplayName("제목이 바뀌거나 게시글이 삭제되면, 검색 결과에 반영된다.")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        sut.index(createDocument(1L, "공지사항"));
+        sut.remove(2L);
+
+        Assertions.assertThat(sut.search("ㅂㄱ")).isEmpty();
+        Assertions.assertThat(sut.search("ㄱㅈ")).containsExactly(1L);
+        Assertions.assertThat(sut.search("ㅅㅍㄹ")).isEmpty();
+    }
+
+    private ArticleDocument createDocument(Long id, String title) {
+        return ArticleDocument.of(id, "uno", "Uno", title, "content", Set.of(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,88 @@
+package com.fastcampus.projectboard.service.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+@DisplayName("검색 색인 - 접두어 트라이")
+class PrefixTrieTest {
+
+    @DisplayName("접두어로 찾으면, 가중치 내림차순(같으면 키 순)으로 limit 개까지 반환한다.")
+    @Test
+    void givenPrefix_whenFindingTop_thenReturnsHeaviestKeysFirst() {
+        PrefixTrie sut = new PrefixTrie();
+        sut.put("java", 5);
+        sut.put("javascript", 9);
+        sut.put("jpa", 5);
+        sut.put("jav", 1);
+        sut.put("kotlin", 20);
+
+        Assertions.assertThat(sut.top("j", 3)).containsExactly(
+                new PrefixTrie.Entry("javascript", 9),
+                new PrefixTrie.Entry("java", 5),
+                new PrefixTrie.Entry("jpa", 5)
+        );
+        Assertions.assertThat(sut.top("javas", 10)).containsExactly(new PrefixTrie.Entry("javascript", 9));
+        Assertions.assertThat(sut.top("jx", 10)).isEmpty();
+        Assertions.assertThat(sut.size()).isEqualTo(5);
+    }
+
+    @DisplayName("키를 지우거나 가중치를 0 으로 바꾸면 후보에서 빠지고, 남은 키는 그대로 찾는다.")
+    @Test
+    void givenRemovedKeys_whenFindingTop_thenSkipsThem() {
+        PrefixTrie sut = new PrefixTrie();
+        sut.put("spring", 3);
+        sut.put("springboot", 7);
+        sut.put("sprout", 2);
+
+        sut.remove("springboot");
+        sut.put("sprout", 0);
+        sut.remove("nothing");
+
+        Assertions.assertThat(sut.top("spr", 10)).containsExactly(new PrefixTrie.Entry("spring", 3));
+        Assertions.assertThat(sut.top("springb", 10)).isEmpty();
+        Assertions.assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("임의로 넣고 지운 결과가, 전체를 정렬해서 고른 결과와 같다.")
+    @Test
+    void givenRandomOperations_whenFindingTop_thenMatchesBruteForce() {
+        PrefixTrie sut = new PrefixTrie();
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 3000; i++) {
+            String key = randomKey(random);
+            if (random.nextInt(4) == 0) {
+                sut.remove(key);
+                expected.remove(key);
+            } else {
+                long weight = random.nextInt(50) + 1;
+                sut.put(key, weight);
+                expected.put(key, weight);
+            }
+        }
+
+        for (String prefix : List.of("", "a", "ab", "ba", "cab", "abca")) {
+            List<PrefixTrie.Entry> bruteForce = expected.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .map(entry -> new PrefixTrie.Entry(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(PrefixTrie.Entry::weight).reversed().thenComparing(PrefixTrie.Entry::key))
+                    .limit(10)
+                    .toList();
+            Assertions.assertThat(sut.top(prefix, 10)).as("prefix: %s", prefix).isEqualTo(bruteForce);
+        }
+        Assertions.assertThat(sut.size()).isEqualTo(expected.size());
+    }
+
+    private String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = random.nextInt(6) + 1;
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+        return key.toString();
+    }
+}
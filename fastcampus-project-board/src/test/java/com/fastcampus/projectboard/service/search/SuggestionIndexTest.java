@@ -0,0 +1,104 @@
+package com.fastcampus.projectboard.service.search;
+
+import com.fastcampus.projectboard.domain.type.SearchType;
+import com.fastcampus.projectboard.dto.ArticleDocument;
+import com.fastcampus.projectboard.dto.SuggestionDto;
+import com.fastcampus.projectboard.dto.event.UserAccountEvent;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@DisplayName("검색 색인 - 자동완성")
+class SuggestionIndexTest {
+    private SuggestionIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SuggestionIndex();
+        sut.index(createDocument(1L, "uno", "Uno", "Java", "spring"));
+        sut.index(createDocument(2L, "uno", "Uno", "Java", "jpa"));
+        sut.index(createDocument(3L, "uno2", "unicorn", "Java"));
+    }
+
+    @DisplayName("접두어를 주면, 대소문자 구분 없이 해시태그와 닉네임을 게시글 수 순으로 반환한다.")
+    @Test
+    void givenPrefix_whenSuggesting_thenReturnsHashtagsAndNicknamesByArticleCount() {
+        Assertions.assertThat(sut.suggest("u", 10)).containsExactly(
+                SuggestionDto.of(SearchType.NICKNAME, "Uno", 2),
+                SuggestionDto.of(SearchType.NICKNAME, "unicorn", 1)
+        );
+        Assertions.assertThat(sut.suggest("J", 10)).containsExactly(
+                SuggestionDto.of(SearchType.HASHTAG, "Java", 3),
+                SuggestionDto.of(SearchType.HASHTAG, "jpa", 1)
+        );
+        Assertions.assertThat(sut.suggest("j", 1)).containsExactly(SuggestionDto.of(SearchType.HASHTAG, "Java", 3));
+    }
+
+    @DisplayName("한글 이름은 초성이나 입력 중인 글자로도 찾는다.")
+    @Test
+    void givenChoseongOrPartialSyllablePrefix_whenSuggesting_thenReturnsHangulCandidates() {
+        sut.index(createDocument(4L, "uno", "Uno", "자바", "자료구조"));
+
+        Assertions.assertThat(sut.suggest("ㅈㅂ", 10)).containsExactly(SuggestionDto.of(SearchType.HASHTAG, "자바", 1));
+        Assertions.assertThat(sut.suggest("잡", 10)).containsExactly(SuggestionDto.of(SearchType.HASHTAG, "자바", 1));
+        Assertions.assertThat(sut.suggest("#자", 10)).containsExactly(
+                SuggestionDto.of(SearchType.HASHTAG, "자료구조", 1),
+                SuggestionDto.of(SearchType.HASHTAG, "자바", 1)
+        );
+    }
+
+    @DisplayName("'#' 으로 시작하면 해시태그만, 빈 검색어면 아무것도 반환하지 않는다.")
+    @Test
+    void givenHashPrefixOrBlank_whenSuggesting_thenFiltersCandidates() {
+        sut.index(createDocument(4L, "spring", "spring-fan", "spring"));
+
+        Assertions.assertThat(sut.suggest("#sp", 10)).containsExactly(SuggestionDto.of(SearchType.HASHTAG, "spring", 2));
+        Assertions.assertThat(sut.suggest(" ", 10)).isEmpty();
+        Assertions.assertThat(sut.suggest("#", 10)).isEmpty();
+    }
+
+    @DisplayName("게시글이 삭제되거나 해시태그가 바뀌면 게시글 수가 줄고, 0 이 되면 후보에서 빠진다.")
+    @Test
+    void givenRemovedAndUpdatedArticles_whenSuggesting_thenReflectsArticleCounts() {
+        sut.index(createDocument(2L, "uno", "Uno", "Java"));
+        sut.remove(3L);
+
+        Assertions.assertThat(sut.suggest("j", 10)).containsExactly(SuggestionDto.of(SearchType.HASHTAG, "Java", 2));
+        Assertions.assertThat(sut.suggest("uni", 10)).isEmpty();
+    }
+
+    @DisplayName("닉네임이 바뀌면, 그 작성자의 게시글 수가 새 닉네임으로 옮겨간다.")
+    @Test
+    void givenNicknameChanged_whenSuggesting_thenMovesArticleCountToNewNickname() {
+        sut.onUserAccountEvent(UserAccountEvent.of("uno", "우노"));
+        sut.onUserAccountEvent(UserAccountEvent.of("stranger", "우주인"));
+
+        Assertions.assertThat(sut.suggest("un", 10)).containsExactly(SuggestionDto.of(SearchType.NICKNAME, "unicorn", 1));
+        Assertions.assertThat(sut.suggest("우", 10)).containsExactly(SuggestionDto.of(SearchType.NICKNAME, "우노", 2));
+    }
+
+    @DisplayName("오타가 있는 해시태그와 닉네임은, 편집 거리가 가깝고 게시글이 많은 후보를 권한다.")
+    @Test
+    void givenMistypedTerm_whenAskingDidYouMean_thenReturnsCloseCandidates() {
+        sut.index(createDocument(4L, "uno3", "Unu", "lava"));
+
+        Assertions.assertThat(sut.didYouMean(SearchType.HASHTAG, "jaav", 3)).containsExactly(
+                SuggestionDto.of(SearchType.HASHTAG, "Java", 3),
+                SuggestionDto.of(SearchType.HASHTAG, "jpa", 1),
+                SuggestionDto.of(SearchType.HASHTAG, "lava", 1)
+        );
+        Assertions.assertThat(sut.didYouMean(SearchType.NICKNAME, "Uni", 5)).containsExactly(
+                SuggestionDto.of(SearchType.NICKNAME, "Uno", 2),
+                SuggestionDto.of(SearchType.NICKNAME, "Unu", 1)
+        );
+        Assertions.assertThat(sut.didYouMean(SearchType.HASHTAG, "Java", 5)).doesNotContain(SuggestionDto.of(SearchType.HASHTAG, "Java", 3));
+    }
+
+    private ArticleDocument createDocument(Long id, String userId, String nickname, String... hashtagNames) {
+        return ArticleDocument.of(id, userId, nickname, "title", "content", Set.of(hashtagNames), LocalDateTime.now());
+    }
+}
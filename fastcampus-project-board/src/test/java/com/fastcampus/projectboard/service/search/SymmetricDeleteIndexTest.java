@@ -0,0 +1,79 @@
+package com.fastcampus.projectboard.service.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+@DisplayName("검색 색인 - 오타 교정 사전")
+class SymmetricDeleteIndexTest {
+
+    @DisplayName("오타가 있는 검색어로 찾으면, 편집 거리 2 이하인 단어를 거리 순으로 반환한다.")
+    @Test
+    void givenMistypedQuery_whenSearching_thenReturnsWordsWithinDistance() {
+        SymmetricDeleteIndex sut = new SymmetricDeleteIndex();
+        List.of("java", "javascript", "spring", "springboot", "jpa", "스프링").forEach(sut::add);
+
+        Assertions.assertThat(sut.search("jvaa", 2)).containsExactly(
+                new SymmetricDeleteIndex.Match("java", 1),
+                new SymmetricDeleteIndex.Match("jpa", 2)
+        );
+        Assertions.assertThat(sut.search("Sprnig", 2)).containsExactly(new SymmetricDeleteIndex.Match("spring", 1));
+        Assertions.assertThat(sut.search("스프림", 1)).containsExactly(new SymmetricDeleteIndex.Match("스프링", 1));
+        Assertions.assertThat(sut.search("kotlin", 2)).isEmpty();
+    }
+
+    @DisplayName("지운 단어는 더 이상 후보로 나오지 않는다.")
+    @Test
+    void givenRemovedWord_whenSearching_thenSkipsIt() {
+        SymmetricDeleteIndex sut = new SymmetricDeleteIndex();
+        sut.add("java");
+        sut.add("lava");
+        sut.remove("java");
+
+        Assertions.assertThat(sut.search("jave", 2)).containsExactly(new SymmetricDeleteIndex.Match("lava", 2));
+        Assertions.assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("임의의 사전에서 찾은 결과가, 모든 단어와 편집 거리를 계산한 결과와 같다.")
+    @Test
+    void givenRandomDictionary_whenSearching_thenMatchesBruteForce() {
+        SymmetricDeleteIndex sut = new SymmetricDeleteIndex();
+        Random random = new Random(11);
+        Set<String> dictionary = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            dictionary.add(word);
+            sut.add(word);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random);
+            List<SymmetricDeleteIndex.Match> expected = dictionary.stream()
+                    .map(word -> new SymmetricDeleteIndex.Match(word, SymmetricDeleteIndex.distance(query, word, 2)))
+                    .filter(match -> match.distance() <= 2)
+                    .sorted(Comparator.comparingInt(SymmetricDeleteIndex.Match::distance).thenComparing(SymmetricDeleteIndex.Match::word))
+                    .toList();
+            Assertions.assertThat(sut.search(query, 2)).as("query: %s", query).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("인접한 두 글자를 바꾼 것은 편집 한 번으로 센다.")
+    @Test
+    void givenTransposition_whenMeasuringDistance_thenCountsAsOneEdit() {
+        Assertions.assertThat(SymmetricDeleteIndex.distance("java", "jaav", 2)).isEqualTo(1);
+        Assertions.assertThat(SymmetricDeleteIndex.distance("spring", "sprnig", 2)).isEqualTo(1);
+        Assertions.assertThat(SymmetricDeleteIndex.distance("spring", "sprnog", 2)).isEqualTo(2);
+        Assertions.assertThat(SymmetricDeleteIndex.distance("java", "kotlin", 2)).isEqualTo(3);
+    }
+
+    private String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = random.nextInt(5) + 2;
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}